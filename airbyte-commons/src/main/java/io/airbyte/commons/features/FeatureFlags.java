@@ -18,4 +18,8 @@ public interface FeatureFlags {
 
   boolean useStreamCapableState();
 
+  boolean useProtocolEnvelopeValidation();
+
+  boolean usePipelinedReplication();
+
 }
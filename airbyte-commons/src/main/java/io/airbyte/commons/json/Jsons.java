@@ -21,6 +21,7 @@ import com.google.common.base.Preconditions;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.stream.MoreStreams;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -135,9 +136,19 @@ public class Jsons {
    * the string to byte[] and use the length of the byte[]. However, this conversion is expensive in
    * memory consumption. Given that the byte size of the serialized JSON is already an estimation of
    * the actual size of the JSON object, using a cheap operation seems an acceptable compromise.
+   *
+   * <p>
+   * The JSON is streamed into a writer that only counts characters, so the serialized string is
+   * never built. This is called for every record of a sync.
    */
   public static int getEstimatedByteSize(final JsonNode jsonNode) {
-    return serialize(jsonNode).length();
+    final CharCountingWriter writer = new CharCountingWriter();
+    try {
+      OBJECT_MAPPER.writeValue(writer, jsonNode);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+    return writer.count;
   }
 
   public static Set<String> keys(final JsonNode jsonNode) {
@@ -294,4 +305,34 @@ public class Jsons {
 
   }
 
+  /**
+   * Writer that discards everything written to it and only keeps the number of characters.
+   */
+  private static final class CharCountingWriter extends Writer {
+
+    private int count;
+
+    @Override
+    public void write(final int c) {
+      count++;
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len) {
+      count += len;
+    }
+
+    @Override
+    public void write(final String str, final int off, final int len) {
+      count += len;
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+
+  }
+
 }
@@ -130,4 +130,13 @@ public class AutoCloseableIterators {
     return new CompositeIterator<>(iterators);
   }
 
+  /**
+   * Like {@link #concatWithEagerClose(List)}, but drains up to {@code maxConcurrency} of the
+   * iterators at the same time. Elements of different iterators are interleaved while the order
+   * within each iterator is preserved.
+   */
+  public static <T> ConcurrentCompositeIterator<T> mergeWithEagerClose(final List<AutoCloseableIterator<T>> iterators, final int maxConcurrency) {
+    return new ConcurrentCompositeIterator<>(iterators, maxConcurrency);
+  }
+
 }
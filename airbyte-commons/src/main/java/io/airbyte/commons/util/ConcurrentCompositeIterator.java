@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Composes multiple {@link AutoCloseableIterator}s by draining up to {@code maxConcurrency} of them
+ * at the same time, each on its own thread, into a bounded buffer that this iterator reads from.
+ * Elements of different internal iterators are interleaved, but the elements of any one internal
+ * iterator are returned in their original order. As with {@link CompositeIterator}, each internal
+ * iterator is closed as soon as it is exhausted.
+ *
+ * <p>
+ * If an internal iterator throws, no further internal iterators are started and the exception is
+ * rethrown by this iterator once the elements buffered before it have been returned.
+ * </p>
+ * <p>
+ * {@link ConcurrentCompositeIterator}s should be closed. Calling
+ * {@link ConcurrentCompositeIterator#close()} stops the worker threads and then offers the same
+ * guarantees as {@link CompositeIterator#close()}: close is called on each internal iterator once
+ * and the _first_ exception encountered is rethrown.
+ * </p>
+ *
+ * @param <T> type
+ */
+public final class ConcurrentCompositeIterator<T> extends AbstractIterator<T> implements AutoCloseableIterator<T> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentCompositeIterator.class);
+
+  private static final int BUFFER_CAPACITY = 10_000;
+  private static final long POLL_INTERVAL_MS = 100;
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+  private final List<AutoCloseableIterator<T>> iterators;
+  private final int maxConcurrency;
+  private final BlockingQueue<T> buffer;
+  private final AtomicInteger nextIterator;
+  private final AtomicInteger runningWorkers;
+  private final AtomicReference<Exception> failure;
+
+  private ExecutorService executor;
+  private boolean hasClosed;
+
+  ConcurrentCompositeIterator(final List<AutoCloseableIterator<T>> iterators, final int maxConcurrency) {
+    Preconditions.checkNotNull(iterators);
+    Preconditions.checkArgument(maxConcurrency > 0, "maxConcurrency must be positive");
+
+    this.iterators = iterators;
+    this.maxConcurrency = Math.min(maxConcurrency, Math.max(iterators.size(), 1));
+    this.buffer = new LinkedBlockingQueue<>(BUFFER_CAPACITY);
+    this.nextIterator = new AtomicInteger(0);
+    this.runningWorkers = new AtomicInteger(0);
+    this.failure = new AtomicReference<>();
+    this.hasClosed = false;
+  }
+
+  @Override
+  protected T computeNext() {
+    assertHasNotClosed();
+
+    if (iterators.isEmpty()) {
+      return endOfData();
+    }
+    if (executor == null) {
+      startWorkers();
+    }
+
+    try {
+      while (true) {
+        // read the worker count before checking the buffer: workers only exit after their last put.
+        final boolean workersDone = runningWorkers.get() == 0;
+        final T next = buffer.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (next != null) {
+          return next;
+        }
+        if (failure.get() != null) {
+          throw asRuntimeException(failure.get());
+        }
+        if (workersDone) {
+          return endOfData();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  private void startWorkers() {
+    executor = Executors.newFixedThreadPool(maxConcurrency, new ThreadFactoryBuilder()
+        .setNameFormat("concurrent-iterator-%d")
+        .setDaemon(true)
+        .build());
+    runningWorkers.set(maxConcurrency);
+    for (int i = 0; i < maxConcurrency; i++) {
+      executor.submit(this::drainIterators);
+    }
+  }
+
+  /**
+   * Claims internal iterators one at a time until there are none left, pushing all of their elements
+   * into the buffer.
+   */
+  private void drainIterators() {
+    try {
+      int i;
+      while (failure.get() == null && (i = nextIterator.getAndIncrement()) < iterators.size()) {
+        final AutoCloseableIterator<T> iterator = iterators.get(i);
+        while (iterator.hasNext()) {
+          buffer.put(iterator.next());
+        }
+        iterator.close();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final Exception e) {
+      if (!failure.compareAndSet(null, e)) {
+        LOGGER.error("exception while reading", e);
+      }
+    } finally {
+      runningWorkers.decrementAndGet();
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    hasClosed = true;
+
+    if (executor != null) {
+      executor.shutdownNow();
+      if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOGGER.warn("Worker threads did not stop within {} seconds, closing iterators anyway.", SHUTDOWN_TIMEOUT_SECONDS);
+      }
+    }
+
+    final List<Exception> exceptions = new ArrayList<>();
+    for (final AutoCloseableIterator<T> iterator : iterators) {
+      try {
+        iterator.close();
+      } catch (final Exception e) {
+        LOGGER.error("exception while closing", e);
+        exceptions.add(e);
+      }
+    }
+
+    if (!exceptions.isEmpty()) {
+      throw exceptions.get(0);
+    }
+  }
+
+  private void assertHasNotClosed() {
+    Preconditions.checkState(!hasClosed);
+  }
+
+  private static RuntimeException asRuntimeException(final Exception e) {
+    return e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+  }
+
+}
@@ -252,6 +252,12 @@ class JsonsTest {
     assertEquals(Jsons.toBytes(json).length, Jsons.getEstimatedByteSize(json));
   }
 
+  @Test
+  void testGetEstimatedByteSizeMatchesSerializedLength() {
+    final JsonNode json = Jsons.deserialize("{\"string_key\":\"\u00e9t\u00e9\",\"nested\":{\"number\":1.5,\"array\":[true,null]}}");
+    assertEquals(Jsons.serialize(json).length(), Jsons.getEstimatedByteSize(json));
+  }
+
   private static class ToClass {
 
     @JsonProperty("str")
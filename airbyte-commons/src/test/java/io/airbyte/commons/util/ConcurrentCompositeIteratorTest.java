@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import io.airbyte.commons.concurrency.VoidCallable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentCompositeIteratorTest {
+
+  private VoidCallable onClose1;
+  private VoidCallable onClose2;
+  private VoidCallable onClose3;
+
+  @BeforeEach
+  void setup() {
+    onClose1 = mock(VoidCallable.class);
+    onClose2 = mock(VoidCallable.class);
+    onClose3 = mock(VoidCallable.class);
+  }
+
+  @Test
+  void testNullInput() {
+    assertThrows(NullPointerException.class, () -> new ConcurrentCompositeIterator<>(null, 2));
+  }
+
+  @Test
+  void testInvalidConcurrency() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrentCompositeIterator<>(Collections.emptyList(), 0));
+  }
+
+  @Test
+  void testEmptyInput() {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(Collections.emptyList(), 2);
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testMultipleIteratorsKeepTheirOrder() throws Exception {
+    final List<String> first = values("a", 5_000);
+    final List<String> second = values("b", 5_000);
+    final List<String> third = values("c", 5_000);
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(first.iterator(), onClose1),
+        AutoCloseableIterators.fromIterator(second.iterator(), onClose2),
+        AutoCloseableIterators.fromIterator(third.iterator(), onClose3)), 2);
+
+    final List<String> actual = new ArrayList<>();
+    iterator.forEachRemaining(actual::add);
+
+    assertEquals(first, filter(actual, "a"));
+    assertEquals(second, filter(actual, "b"));
+    assertEquals(third, filter(actual, "c"));
+    assertEquals(15_000, actual.size());
+    // each iterator is closed eagerly once it is exhausted.
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+    verify(onClose3, times(1)).call();
+
+    iterator.close();
+  }
+
+  @Test
+  void testWithEmptyIterators() {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a", "b", "c"), onClose1),
+        AutoCloseableIterators.fromIterator(MoreIterators.of(), onClose2),
+        AutoCloseableIterators.fromIterator(MoreIterators.of("g", "h", "i"), onClose3)), 3);
+
+    final List<String> actual = new ArrayList<>();
+    iterator.forEachRemaining(actual::add);
+
+    assertEquals(List.of("a", "b", "c"), filter(actual, "a", "b", "c"));
+    assertEquals(List.of("g", "h", "i"), filter(actual, "g", "h", "i"));
+  }
+
+  @Test
+  void testExceptionIsRethrown() {
+    final Iterator<String> failing = new Iterator<>() {
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public String next() {
+        throw new IllegalStateException("read failed");
+      }
+
+    };
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a", "b", "c"), onClose1),
+        AutoCloseableIterators.fromIterator(failing, onClose2)), 2);
+
+    final IllegalStateException exception = assertThrows(IllegalStateException.class, () -> iterator.forEachRemaining(value -> {}));
+    assertEquals("read failed", exception.getMessage());
+  }
+
+  @Test
+  void testCloseBeforeUsingItUp() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(values("a", 100_000).iterator(), onClose1),
+        AutoCloseableIterators.fromIterator(values("b", 100_000).iterator(), onClose2)), 2);
+
+    assertTrue(iterator.hasNext());
+    iterator.next();
+    iterator.close();
+
+    verify(onClose1, times(1)).call();
+    verify(onClose2, times(1)).call();
+  }
+
+  @SuppressWarnings("ResultOfMethodCallIgnored")
+  @Test
+  void testCannotOperateAfterClosing() throws Exception {
+    final AutoCloseableIterator<String> iterator = new ConcurrentCompositeIterator<>(ImmutableList.of(
+        AutoCloseableIterators.fromIterator(MoreIterators.of("a", "b", "c"), onClose1)), 2);
+
+    assertTrue(iterator.hasNext());
+    iterator.next();
+    iterator.close();
+    assertThrows(IllegalStateException.class, iterator::hasNext);
+    assertThrows(IllegalStateException.class, iterator::next);
+    iterator.close(); // still allowed to close again.
+  }
+
+  private static List<String> values(final String prefix, final int count) {
+    return IntStream.range(0, count).mapToObj(i -> prefix + i).collect(Collectors.toList());
+  }
+
+  private static List<String> filter(final List<String> values, final String... prefixes) {
+    return values.stream()
+        .filter(value -> ImmutableList.copyOf(prefixes).stream().anyMatch(value::startsWith))
+        .collect(Collectors.toList());
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static io.airbyte.db.instance.configs.jooq.generated.Tables.CONNECTION;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.ResourceRequirements;
+import io.airbyte.config.Schedule;
+import io.airbyte.config.Schedule.TimeUnit;
+import io.airbyte.config.StandardSync;
+import io.airbyte.db.Database;
+import io.airbyte.db.instance.configs.jooq.generated.enums.NamespaceDefinitionType;
+import io.airbyte.db.instance.configs.jooq.generated.enums.StatusType;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Lists the connections of a workspace (listings/sec) from a jOOQ mock connection standing in for
+ * Postgres, which answers every query with the same connections and counts the queries it receives.
+ * The queries counter reports queries/sec: divided by the score, it is the number of queries a
+ * listing takes, which should stay at one whatever the number of connections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.SECONDS)
+public class ListStandardSyncsBenchmark {
+
+  private static final int OPERATIONS_PER_CONNECTION = 2;
+
+  @Param({"100", "10000"})
+  public int connections;
+
+  private ConnectionsDataProvider dataProvider;
+  private ConfigRepository configRepository;
+
+  @Setup
+  public void setup() {
+    dataProvider = new ConnectionsDataProvider(connections);
+    final Database database = new Database(DSL.using(new MockConnection(dataProvider), SQLDialect.POSTGRES));
+    configRepository = new ConfigRepository(new DatabaseConfigPersistence(database, null), database);
+  }
+
+  @Benchmark
+  public List<StandardSync> listWorkspaceStandardSyncs(final Counters counters) throws Exception {
+    final long queriesBefore = dataProvider.queries.get();
+    final List<StandardSync> standardSyncs = configRepository.listWorkspaceStandardSyncs(UUID.randomUUID());
+    if (standardSyncs.size() != connections) {
+      throw new IllegalStateException("Listed " + standardSyncs.size() + " connections instead of " + connections);
+    }
+    counters.queries += dataProvider.queries.get() - queriesBefore;
+    return standardSyncs;
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Counters {
+
+    public long queries;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      queries = 0;
+    }
+
+  }
+
+  /**
+   * Answers every query with the rows of the connection table, along with the array of the ids of
+   * the operations of each connection.
+   */
+  private static class ConnectionsDataProvider implements MockDataProvider {
+
+    private final AtomicLong queries = new AtomicLong();
+    private final Result<Record> rows;
+
+    ConnectionsDataProvider(final int connections) {
+      final DSLContext ctx = DSL.using(SQLDialect.POSTGRES);
+      final List<Field<?>> fields = new ArrayList<>(Arrays.asList(CONNECTION.fields()));
+      final Field<UUID[]> operationIds = DSL.field(DSL.name("operation_ids"), UUID[].class);
+      fields.add(operationIds);
+
+      final JSONB catalog = JSONB.valueOf(Jsons.serialize(CatalogHelpers.createConfiguredAirbyteCatalog("users", "public",
+          io.airbyte.protocol.models.Field.of("id", JsonSchemaType.NUMBER),
+          io.airbyte.protocol.models.Field.of("name", JsonSchemaType.STRING))));
+      final JSONB schedule = JSONB.valueOf(Jsons.serialize(new Schedule().withTimeUnit(TimeUnit.HOURS).withUnits(24L)));
+      final JSONB resourceRequirements = JSONB.valueOf(Jsons.serialize(new ResourceRequirements().withCpuRequest("1")));
+
+      rows = ctx.newResult(fields.toArray(Field[]::new));
+      for (int i = 0; i < connections; i++) {
+        final Record row = ctx.newRecord(fields.toArray(Field[]::new));
+        row.set(CONNECTION.ID, UUID.randomUUID());
+        row.set(CONNECTION.NAMESPACE_DEFINITION, NamespaceDefinitionType.source);
+        row.set(CONNECTION.SOURCE_ID, UUID.randomUUID());
+        row.set(CONNECTION.DESTINATION_ID, UUID.randomUUID());
+        row.set(CONNECTION.NAME, "connection-" + i);
+        row.set(CONNECTION.CATALOG, catalog);
+        row.set(CONNECTION.STATUS, StatusType.active);
+        row.set(CONNECTION.SCHEDULE, schedule);
+        row.set(CONNECTION.MANUAL, false);
+        row.set(CONNECTION.RESOURCE_REQUIREMENTS, resourceRequirements);
+        final UUID[] ids = new UUID[OPERATIONS_PER_CONNECTION];
+        Arrays.setAll(ids, j -> UUID.randomUUID());
+        row.set(operationIds, ids);
+        rows.add(row);
+      }
+    }
+
+    @Override
+    public MockResult[] execute(final MockExecuteContext ctx) {
+      queries.incrementAndGet();
+      return new MockResult[] {new MockResult(rows.size(), rows)};
+    }
+
+  }
+
+}
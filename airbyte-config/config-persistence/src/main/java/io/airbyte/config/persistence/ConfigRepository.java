@@ -52,6 +52,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +82,8 @@ public class ConfigRepository {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ConfigRepository.class);
 
+  private static final String OPERATION_IDS = "operation_ids";
+
   private final ConfigPersistence persistence;
   private final ExceptionWrappingDatabase database;
 
@@ -604,39 +607,42 @@ public class ConfigRepository {
   }
 
   public List<StandardSync> listStandardSyncs() throws ConfigNotFoundException, IOException, JsonValidationException {
-    return persistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class);
+    return listStandardSyncs(DSL.noCondition());
   }
 
   public List<StandardSync> listStandardSyncsUsingOperation(final UUID operationId)
       throws IOException {
-    final Result<Record> result = database.query(ctx -> ctx.select(CONNECTION.asterisk())
-        .from(CONNECTION)
-        .join(CONNECTION_OPERATION)
-        .on(CONNECTION_OPERATION.CONNECTION_ID.eq(CONNECTION.ID))
-        .where(CONNECTION_OPERATION.OPERATION_ID.eq(operationId))).fetch();
-    return getStandardSyncsFromResult(result);
+    return listStandardSyncs(CONNECTION.ID.in(DSL.select(CONNECTION_OPERATION.CONNECTION_ID)
+        .from(CONNECTION_OPERATION)
+        .where(CONNECTION_OPERATION.OPERATION_ID.eq(operationId))));
   }
 
   public List<StandardSync> listWorkspaceStandardSyncs(final UUID workspaceId) throws IOException {
-    final Result<Record> result = database.query(ctx -> ctx.select(CONNECTION.asterisk())
-        .from(CONNECTION)
-        .join(ACTOR).on(CONNECTION.SOURCE_ID.eq(ACTOR.ID))
-        .where(ACTOR.WORKSPACE_ID.eq(workspaceId))).fetch();
-    return getStandardSyncsFromResult(result);
+    return listStandardSyncs(CONNECTION.SOURCE_ID.in(DSL.select(ACTOR.ID)
+        .from(ACTOR)
+        .where(ACTOR.WORKSPACE_ID.eq(workspaceId))));
   }
 
-  private List<StandardSync> getStandardSyncsFromResult(final Result<Record> result) throws IOException {
+  /**
+   * Reads the connections matching the condition in a single query, which also aggregates the ids of
+   * the operations of each connection into an array, rather than querying them connection by
+   * connection.
+   */
+  private List<StandardSync> listStandardSyncs(final Condition condition) throws IOException {
+    final Field<UUID[]> operationIds = DSL.field(DSL.select(DSL.arrayAgg(CONNECTION_OPERATION.OPERATION_ID))
+        .from(CONNECTION_OPERATION)
+        .where(CONNECTION_OPERATION.CONNECTION_ID.eq(CONNECTION.ID)))
+        .as(OPERATION_IDS);
+    final Result<Record> result = database.query(ctx -> ctx.select(CONNECTION.asterisk(), operationIds)
+        .from(CONNECTION)
+        .where(condition)).fetch();
+
     final List<StandardSync> standardSyncs = new ArrayList<>();
     for (final Record record : result) {
-      final UUID connectionId = record.get(CONNECTION.ID);
-      final Result<Record> connectionOperationRecords = database.query(ctx -> ctx.select(asterisk())
-          .from(CONNECTION_OPERATION)
-          .where(CONNECTION_OPERATION.CONNECTION_ID.eq(connectionId))
-          .fetch());
-
-      final List<UUID> connectionOperationIds =
-          connectionOperationRecords.stream().map(r -> r.get(CONNECTION_OPERATION.OPERATION_ID)).collect(Collectors.toList());
-      standardSyncs.add(DbConverter.buildStandardSync(record, connectionOperationIds));
+      // array_agg returns null rather than an empty array for connections without operations
+      final UUID[] connectionOperationIds = record.get(operationIds);
+      standardSyncs.add(DbConverter.buildStandardSync(record,
+          connectionOperationIds == null ? new ArrayList<>() : new ArrayList<>(Arrays.asList(connectionOperationIds))));
     }
     return standardSyncs;
   }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Indexes the jobs of each scope in creation order, so that pages of the jobs of a connection and
+ * the latest job of each connection are read from the index instead of sorting all of the jobs of
+ * the connection. Postgres scans the index backwards for the newest-first order.
+ */
+public class V0_39_37_001__AddJobsScopeCreatedAtIndex extends BaseJavaMigration {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(V0_39_37_001__AddJobsScopeCreatedAtIndex.class);
+
+  @Override
+  public void migrate(final Context context) throws Exception {
+    LOGGER.info("Running migration: {}", this.getClass().getSimpleName());
+
+    try (final DSLContext ctx = DSL.using(context.getConnection())) {
+      ctx.createIndexIfNotExists("jobs_scope_created_at_idx").on("jobs", "scope", "created_at", "id").execute();
+    }
+  }
+
+}
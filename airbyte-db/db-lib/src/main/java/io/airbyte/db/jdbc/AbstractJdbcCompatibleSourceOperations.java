@@ -10,15 +10,17 @@ import static io.airbyte.db.DataTypeUtils.TIMETZ_FORMATTER;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.JdbcCompatibleSourceOperations;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.text.ParseException;
@@ -27,7 +29,6 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.chrono.IsoEra;
-import java.util.Collections;
 import java.util.List;
 import java.util.StringJoiner;
 import javax.xml.bind.DatatypeConverter;
@@ -37,26 +38,100 @@ import javax.xml.bind.DatatypeConverter;
  */
 public abstract class AbstractJdbcCompatibleSourceOperations<Datatype> implements JdbcCompatibleSourceOperations<Datatype> {
 
+  /**
+   * Column plans are built per thread, as the same source operations are used to read several result
+   * sets at the same time.
+   */
+  private final ThreadLocal<ColumnPlan> columnPlans = new ThreadLocal<>();
+
   @Override
   public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final int columnCount = queryContext.getMetaData().getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+    ColumnPlan columnPlan = columnPlans.get();
+    if (columnPlan == null || !columnPlan.isFor(queryContext)) {
+      // the metadata of a result set does not change from one row to the next, so how each column is
+      // converted is only worked out on the first row.
+      columnPlan = createColumnPlan(queryContext);
+      columnPlans.set(columnPlan);
+    }
+    return columnPlan.convert(queryContext);
+  }
+
+  private ColumnPlan createColumnPlan(final ResultSet resultSet) throws SQLException {
+    final ResultSetMetaData metadata = resultSet.getMetaData();
+    final ColumnConverter[] converters = new ColumnConverter[metadata.getColumnCount()];
+    for (int i = 1; i <= converters.length; i++) {
+      converters[i - 1] = createColumnConverter(metadata, i);
+    }
+    return new ColumnPlan(resultSet, converters);
+  }
 
-    for (int i = 1; i <= columnCount; i++) {
+  /**
+   * Creates the converter used to copy the value of the column at the given index into the Json
+   * object of every row of a result set. By default, null values are skipped and other values are
+   * copied with {@link #setJsonField(ResultSet, int, ObjectNode)}; implementations can resolve the
+   * column type once here instead of on every call to setJsonField.
+   *
+   * @param index 1-based column index.
+   */
+  protected ColumnConverter createColumnConverter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    return skipNulls(this::setJsonField);
+  }
+
+  /**
+   * Only runs the converter for values that are not null.
+   */
+  protected static ColumnConverter skipNulls(final ColumnConverter converter) {
+    return (resultSet, index, json) -> {
       // attempt to access the column. this allows us to know if it is null before we do type-specific
       // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
       // checking for null values with jdbc.
-      queryContext.getObject(i);
-      if (queryContext.wasNull()) {
-        continue;
+      resultSet.getObject(index);
+      if (!resultSet.wasNull()) {
+        // convert to java types that will convert into reasonable json.
+        converter.convert(resultSet, index, json);
       }
+    };
+  }
 
-      // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
+  /**
+   * Copies the value of a column of the current row of a result set to a Json object.
+   */
+  @FunctionalInterface
+  protected interface ColumnConverter {
+
+    /**
+     * @param index 1-based column index.
+     */
+    void convert(ResultSet resultSet, int index, ObjectNode json) throws SQLException;
+
+  }
+
+  /**
+   * The converters of all the columns of one result set.
+   */
+  private static final class ColumnPlan {
+
+    // the plan must not keep a result set that has been read alive.
+    private final WeakReference<ResultSet> resultSet;
+    private final ColumnConverter[] converters;
+
+    private ColumnPlan(final ResultSet resultSet, final ColumnConverter[] converters) {
+      this.resultSet = new WeakReference<>(resultSet);
+      this.converters = converters;
+    }
+
+    private boolean isFor(final ResultSet resultSet) {
+      return this.resultSet.get() == resultSet;
+    }
+
+    private JsonNode convert(final ResultSet resultSet) throws SQLException {
+      final ObjectNode jsonNode = JsonNodeFactory.instance.objectNode();
+      for (int i = 0; i < converters.length; i++) {
+        converters[i].convert(resultSet, i + 1, jsonNode);
+      }
+      return jsonNode;
     }
 
-    return jsonNode;
   }
 
   protected void putArray(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
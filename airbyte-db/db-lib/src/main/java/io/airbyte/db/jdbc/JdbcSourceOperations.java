@@ -16,6 +16,7 @@ import io.airbyte.protocol.models.JsonSchemaType;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,27 +38,36 @@ public class JdbcSourceOperations extends AbstractJdbcCompatibleSourceOperations
 
   @Override
   public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final int columnTypeInt = resultSet.getMetaData().getColumnType(colIndex);
-    final String columnName = resultSet.getMetaData().getColumnName(colIndex);
+    getColumnConverter(resultSet.getMetaData(), colIndex).convert(resultSet, colIndex, json);
+  }
+
+  @Override
+  protected ColumnConverter createColumnConverter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    return skipNulls(getColumnConverter(metadata, index));
+  }
+
+  private ColumnConverter getColumnConverter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    final int columnTypeInt = metadata.getColumnType(index);
+    final String columnName = metadata.getColumnName(index);
     final JDBCType columnType = safeGetJdbcType(columnTypeInt);
 
     // https://www.cis.upenn.edu/~bcpierce/courses/629/jdkdocs/guide/jdbc/getstart/mapping.doc.html
-    switch (columnType) {
-      case BIT, BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-      case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-      case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-      case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-      case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-      case REAL -> putFloat(json, columnName, resultSet, colIndex);
-      case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-      case CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-      case DATE -> putDate(json, columnName, resultSet, colIndex);
-      case TIME -> putTime(json, columnName, resultSet, colIndex);
-      case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-      case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-      default -> putDefault(json, columnName, resultSet, colIndex);
-    }
+    return switch (columnType) {
+      case BIT, BOOLEAN -> (resultSet, colIndex, json) -> putBoolean(json, columnName, resultSet, colIndex);
+      case TINYINT, SMALLINT -> (resultSet, colIndex, json) -> putShortInt(json, columnName, resultSet, colIndex);
+      case INTEGER -> (resultSet, colIndex, json) -> putInteger(json, columnName, resultSet, colIndex);
+      case BIGINT -> (resultSet, colIndex, json) -> putBigInt(json, columnName, resultSet, colIndex);
+      case FLOAT, DOUBLE -> (resultSet, colIndex, json) -> putDouble(json, columnName, resultSet, colIndex);
+      case REAL -> (resultSet, colIndex, json) -> putFloat(json, columnName, resultSet, colIndex);
+      case NUMERIC, DECIMAL -> (resultSet, colIndex, json) -> putBigDecimal(json, columnName, resultSet, colIndex);
+      case CHAR, VARCHAR, LONGVARCHAR -> (resultSet, colIndex, json) -> putString(json, columnName, resultSet, colIndex);
+      case DATE -> (resultSet, colIndex, json) -> putDate(json, columnName, resultSet, colIndex);
+      case TIME -> (resultSet, colIndex, json) -> putTime(json, columnName, resultSet, colIndex);
+      case TIMESTAMP -> (resultSet, colIndex, json) -> putTimestamp(json, columnName, resultSet, colIndex);
+      case BLOB, BINARY, VARBINARY, LONGVARBINARY -> (resultSet, colIndex, json) -> putBinary(json, columnName, resultSet, colIndex);
+      case ARRAY -> (resultSet, colIndex, json) -> putArray(json, columnName, resultSet, colIndex);
+      default -> (resultSet, colIndex, json) -> putDefault(json, columnName, resultSet, colIndex);
+    };
   }
 
   @Override
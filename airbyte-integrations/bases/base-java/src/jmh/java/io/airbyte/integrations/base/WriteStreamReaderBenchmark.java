@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the messages/sec read from the stdin of a destination by the Scanner that
+ * {@link IntegrationRunner#consumeWriteStream} used to read it with, with reading it through an
+ * {@link AirbyteMessageLineReader}. The input is a JSON lines stream of records with a state message
+ * every 1000 records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class WriteStreamReaderBenchmark {
+
+  private static final int MESSAGES = 10_000;
+  private static final int RECORDS_PER_STATE = 1000;
+
+  private byte[] input;
+
+  @Setup
+  public void setup() throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (int i = 1; i <= MESSAGES; i++) {
+      final AirbyteMessage message = i % RECORDS_PER_STATE == 0 ? state(i) : record(i);
+      output.write((Jsons.serialize(message) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+    input = output.toByteArray();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public void scanner(final Blackhole blackhole) {
+    final Scanner scanner = new Scanner(new ByteArrayInputStream(input), StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    while (scanner.hasNext()) {
+      final Optional<AirbyteMessage> message = Jsons.tryDeserialize(scanner.next(), AirbyteMessage.class);
+      blackhole.consume(message.orElseThrow());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(MESSAGES)
+  public void lineReader(final Blackhole blackhole) throws IOException {
+    new AirbyteMessageLineReader(new ByteArrayInputStream(input)).forEachMessage(blackhole::consume);
+  }
+
+  private static AirbyteMessage record(final int id) {
+    return new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage()
+        .withStream("users")
+        .withEmittedAt(System.currentTimeMillis())
+        .withData(Jsons.jsonNode(ImmutableMap.of(
+            "id", id,
+            "name", "user" + id,
+            "email", "user" + id + "@airbyte.io",
+            "signed_up_at", "2022-06-01T12:00:00Z",
+            "plan", id % 2 == 0 ? "free" : "pro"))));
+  }
+
+  private static AirbyteMessage state(final int cursor) {
+    return new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(ImmutableMap.of("cursor", cursor))));
+  }
+
+}
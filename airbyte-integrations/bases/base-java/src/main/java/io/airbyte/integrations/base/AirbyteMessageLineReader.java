@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.annotations.VisibleForTesting;
+import io.airbyte.commons.functional.CheckedConsumer;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads messages from JSON lines (https://jsonlines.org/), the way a {@link java.util.Scanner}
+ * delimited by {@code [\r\n]+} and {@link io.airbyte.commons.json.Jsons#tryDeserialize} would, but
+ * splits the lines on the new line bytes of a large buffer and deserializes each line straight from
+ * the bytes of the buffer, without decoding it into a String.
+ * <p>
+ * Empty lines are skipped. Lines that are not valid messages are logged and skipped. A line longer
+ * than the buffer grows the buffer.
+ */
+public class AirbyteMessageLineReader {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteMessageLineReader.class);
+
+  public static final int DEFAULT_BUFFER_SIZE_BYTES = 1024 * 1024;
+
+  private static final ObjectReader READER = MoreMappers.initMapper().readerFor(AirbyteMessage.class);
+
+  private final InputStream inputStream;
+  private byte[] buffer;
+
+  public AirbyteMessageLineReader(final InputStream inputStream) {
+    this(inputStream, DEFAULT_BUFFER_SIZE_BYTES);
+  }
+
+  @VisibleForTesting
+  AirbyteMessageLineReader(final InputStream inputStream, final int bufferSizeBytes) {
+    this.inputStream = inputStream;
+    this.buffer = new byte[bufferSizeBytes];
+  }
+
+  /**
+   * Reads the input stream to its end, passing each message to the consumer. Exceptions thrown by the
+   * consumer are propagated and stop the reading.
+   */
+  public <E extends Exception> void forEachMessage(final CheckedConsumer<AirbyteMessage, E> consumer) throws IOException, E {
+    // the bytes of the buffer in [lineStart, end) are the beginning of a line whose end has not been
+    // read yet
+    int lineStart = 0;
+    int end = 0;
+    while (true) {
+      if (end == buffer.length) {
+        if (lineStart > 0) {
+          System.arraycopy(buffer, lineStart, buffer, 0, end - lineStart);
+          end -= lineStart;
+          lineStart = 0;
+        } else {
+          buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+      }
+      final int read = inputStream.read(buffer, end, buffer.length - end);
+      if (read == -1) {
+        break;
+      }
+      for (int i = end; i < end + read; i++) {
+        final byte b = buffer[i];
+        if (b == '\n' || b == '\r') {
+          acceptLine(lineStart, i, consumer);
+          lineStart = i + 1;
+        }
+      }
+      end += read;
+      if (lineStart == end) {
+        lineStart = 0;
+        end = 0;
+      }
+    }
+    acceptLine(lineStart, end, consumer);
+  }
+
+  private <E extends Exception> void acceptLine(final int from, final int to, final CheckedConsumer<AirbyteMessage, E> consumer) throws E {
+    if (from == to) {
+      return;
+    }
+    AirbyteMessage message;
+    try {
+      message = READER.readValue(buffer, from, to - from);
+    } catch (final Exception e) {
+      message = null;
+    }
+    if (message != null) {
+      consumer.accept(message);
+    } else {
+      LOGGER.error("Received invalid message: " + new String(buffer, from, to - from, StandardCharsets.UTF_8));
+    }
+  }
+
+}
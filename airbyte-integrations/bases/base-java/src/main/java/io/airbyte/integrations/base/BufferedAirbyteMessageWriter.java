@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes messages as JSON lines, the way {@link Destination#defaultOutputRecordCollector} does, but
+ * serializes them straight into a reusable byte buffer that is written out in large chunks, instead
+ * of building a String for each message and printing it with its own write.
+ * <p>
+ * The buffer is written out once it holds {@code flushThresholdBytes}, when a record is written
+ * {@code maxFlushInterval} after the last write, and after any message that is not a record, so
+ * that state messages are sent out as soon as they are emitted, along with the records before them.
+ * A background thread also writes it out once {@code maxFlushInterval} has passed since the last
+ * write, so that records are not held back while the next message is slow to come.
+ * A chunk is written with a single call to the output stream: when that is {@link System#out},
+ * whose lock is held for the whole call, the lines of the log messages printed by other threads
+ * are not interleaved with the lines of the chunk.
+ * <p>
+ * Messages should be written from a single thread.
+ */
+public class BufferedAirbyteMessageWriter implements Consumer<AirbyteMessage>, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BufferedAirbyteMessageWriter.class);
+
+  public static final int DEFAULT_FLUSH_THRESHOLD_BYTES = 256 * 1024;
+  public static final Duration DEFAULT_MAX_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  // the generator is only flushed into the buffer when the buffer is written out
+  private static final ObjectWriter WRITER = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+  private final OutputStream outputStream;
+  private final int flushThresholdBytes;
+  private final long maxFlushIntervalNanos;
+  private final ByteArrayOutputStream buffer;
+  private final JsonGenerator generator;
+  // null when every record is written out right away anyway
+  private final ScheduledExecutorService flushScheduler;
+  private long lastFlushNanos;
+
+  public BufferedAirbyteMessageWriter(final OutputStream outputStream) {
+    this(outputStream, DEFAULT_FLUSH_THRESHOLD_BYTES, DEFAULT_MAX_FLUSH_INTERVAL);
+  }
+
+  @VisibleForTesting
+  BufferedAirbyteMessageWriter(final OutputStream outputStream, final int flushThresholdBytes, final Duration maxFlushInterval) {
+    this.outputStream = outputStream;
+    this.flushThresholdBytes = flushThresholdBytes;
+    this.maxFlushIntervalNanos = maxFlushInterval.toNanos();
+    this.buffer = new ByteArrayOutputStream(flushThresholdBytes);
+    try {
+      this.generator = MAPPER.getFactory().createGenerator(buffer, JsonEncoding.UTF8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    // messages are separated by the new lines written after them, not by the default space
+    this.generator.setRootValueSeparator(null);
+    this.lastFlushNanos = System.nanoTime();
+    if (maxFlushIntervalNanos > 0) {
+      this.flushScheduler = Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder().setNameFormat("message-writer-flush-%d").setDaemon(true).build());
+      this.flushScheduler.scheduleWithFixedDelay(this::flushIfIdle, maxFlushIntervalNanos, maxFlushIntervalNanos, TimeUnit.NANOSECONDS);
+    } else {
+      this.flushScheduler = null;
+    }
+  }
+
+  @Override
+  public synchronized void accept(final AirbyteMessage message) {
+    try {
+      WRITER.writeValue(generator, message);
+      generator.writeRaw('\n');
+      if (message.getType() != Type.RECORD
+          || buffer.size() + generator.getOutputBuffered() >= flushThresholdBytes
+          || System.nanoTime() - lastFlushNanos >= maxFlushIntervalNanos) {
+        flush();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public synchronized void flush() throws IOException {
+    generator.flush();
+    if (buffer.size() > 0) {
+      buffer.writeTo(outputStream);
+      buffer.reset();
+    }
+    outputStream.flush();
+    lastFlushNanos = System.nanoTime();
+  }
+
+  private synchronized void flushIfIdle() {
+    if (System.nanoTime() - lastFlushNanos < maxFlushIntervalNanos) {
+      return;
+    }
+    try {
+      flush();
+    } catch (final IOException e) {
+      // the next message written fails on the same error
+      LOGGER.warn("Failed to write out buffered messages", e);
+    }
+  }
+
+  /**
+   * Writes out the messages left in the buffer. The output stream is left open.
+   */
+  @Override
+  public void close() throws IOException {
+    if (flushScheduler != null) {
+      flushScheduler.shutdownNow();
+    }
+    flush();
+  }
+
+}
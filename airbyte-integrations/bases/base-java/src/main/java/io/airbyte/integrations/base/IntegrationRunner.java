@@ -27,12 +27,10 @@ import io.sentry.NoOpTransaction;
 import io.sentry.Sentry;
 import io.sentry.SentryLevel;
 import io.sentry.SpanStatus;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -63,14 +61,16 @@ public class IntegrationRunner {
   private final Integration integration;
   private final Destination destination;
   private final Source source;
+  // whether READ writes the messages of the source to stdout with a BufferedAirbyteMessageWriter
+  private final boolean bufferReadOutput;
   private static JsonSchemaValidator validator;
 
   public IntegrationRunner(final Destination destination) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, destination, null);
+    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, destination, null, false);
   }
 
   public IntegrationRunner(final Source source) {
-    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source);
+    this(new IntegrationCliParser(), Destination::defaultOutputRecordCollector, null, source, true);
   }
 
   @VisibleForTesting
@@ -78,9 +78,18 @@ public class IntegrationRunner {
                     final Consumer<AirbyteMessage> outputRecordCollector,
                     final Destination destination,
                     final Source source) {
+    this(cliParser, outputRecordCollector, destination, source, false);
+  }
+
+  private IntegrationRunner(final IntegrationCliParser cliParser,
+                            final Consumer<AirbyteMessage> outputRecordCollector,
+                            final Destination destination,
+                            final Source source,
+                            final boolean bufferReadOutput) {
     Preconditions.checkState(destination != null ^ source != null, "can only pass in a destination or a source");
     this.cliParser = cliParser;
     this.outputRecordCollector = outputRecordCollector;
+    this.bufferReadOutput = bufferReadOutput;
     // integration iface covers the commands that are the same for both source and destination.
     this.integration = source != null ? source : destination;
     this.source = source;
@@ -173,7 +182,15 @@ public class IntegrationRunner {
 
   private void produceMessages(final AutoCloseableIterator<AirbyteMessage> messageIterator) throws Exception {
     watchForOrphanThreads(
-        () -> messageIterator.forEachRemaining(outputRecordCollector),
+        () -> {
+          if (bufferReadOutput) {
+            try (final BufferedAirbyteMessageWriter writer = new BufferedAirbyteMessageWriter(System.out)) {
+              messageIterator.forEachRemaining(writer);
+            }
+          } else {
+            messageIterator.forEachRemaining(outputRecordCollector);
+          }
+        },
         () -> System.exit(FORCED_EXIT_CODE),
         INTERRUPT_THREAD_DELAY_MINUTES,
         TimeUnit.MINUTES,
@@ -183,19 +200,10 @@ public class IntegrationRunner {
 
   @VisibleForTesting
   static void consumeWriteStream(final AirbyteMessageConsumer consumer) throws Exception {
-    // use a Scanner that only processes new line characters to strictly abide with the
-    // https://jsonlines.org/ standard
-    final Scanner input = new Scanner(System.in, StandardCharsets.UTF_8).useDelimiter("[\r\n]+");
+    // only split on new line characters to strictly abide with the https://jsonlines.org/ standard
+    final AirbyteMessageLineReader input = new AirbyteMessageLineReader(System.in);
     consumer.start();
-    while (input.hasNext()) {
-      final String inputString = input.next();
-      final Optional<AirbyteMessage> messageOptional = Jsons.tryDeserialize(inputString, AirbyteMessage.class);
-      if (messageOptional.isPresent()) {
-        consumer.accept(messageOptional.get());
-      } else {
-        LOGGER.error("Received invalid message: " + inputString);
-      }
-    }
+    input.forEachMessage(consumer);
   }
 
   private static void runConsumer(final AirbyteMessageConsumer consumer) throws Exception {
@@ -20,9 +20,14 @@ import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,6 +74,12 @@ import org.slf4j.LoggerFactory;
  * a temporary table AND then copies from the temporary table into the final table. This abstraction
  * is blind to the detail of how staging destinations implement their close.
  * </p>
+ *
+ * <p>
+ * The buffering strategy may complete flushes asynchronously. State messages received before a
+ * flush of all buffers are therefore only moved from pending to flushed once that flush has
+ * completed, see {@link BufferingStrategy#getFlushCompletion()}.
+ * </p>
  */
 public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsumer implements AirbyteMessageConsumer {
 
@@ -83,6 +94,9 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final BufferingStrategy bufferingStrategy;
   private final DestStateLifecycleManager stateManager;
+  private final Deque<PendingFlush> statesAwaitingFlush;
+
+  private List<AirbyteMessage> pendingStates;
 
   private boolean hasStarted;
   private boolean hasClosed;
@@ -104,6 +118,8 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
     this.streamToIgnoredRecordCount = new HashMap<>();
     this.bufferingStrategy = bufferingStrategy;
     this.stateManager = new DefaultDestStateLifecycleManager();
+    this.statesAwaitingFlush = new ArrayDeque<>();
+    this.pendingStates = new ArrayList<>();
   }
 
   @Override
@@ -138,17 +154,40 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
       if (bufferingStrategy.addRecord(stream, message)) {
         markStatesAsFlushedToTmpDestination();
       }
+      markCompletedFlushes(false);
 
     } else if (message.getType() == Type.STATE) {
-      stateManager.addState(message);
+      pendingStates.add(message);
     } else {
       LOGGER.warn("Unexpected message: " + message.getType());
     }
 
   }
 
+  /**
+   * The states pending so far are flushed as soon as the flush that was just started completes.
+   */
   private void markStatesAsFlushedToTmpDestination() {
-    stateManager.markPendingAsFlushed();
+    statesAwaitingFlush.add(new PendingFlush(bufferingStrategy.getFlushCompletion(), pendingStates));
+    pendingStates = new ArrayList<>();
+  }
+
+  /**
+   * Moves the states of completed flushes, in the order the flushes were started, from pending to
+   * flushed.
+   *
+   * @param waitForAll wait for flushes that are still in progress and throw if one of them failed
+   */
+  private void markCompletedFlushes(final boolean waitForAll) {
+    while (!statesAwaitingFlush.isEmpty()) {
+      final CompletableFuture<Void> completion = statesAwaitingFlush.peek().completion();
+      if (!waitForAll && (!completion.isDone() || completion.isCompletedExceptionally())) {
+        return;
+      }
+      completion.join();
+      statesAwaitingFlush.poll().states().forEach(stateManager::addState);
+      stateManager.markPendingAsFlushed();
+    }
   }
 
   private static void throwUnrecognizedStream(final ConfiguredAirbyteCatalog catalog, final AirbyteMessage message) {
@@ -165,14 +204,35 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
 
     streamToIgnoredRecordCount
         .forEach((pair, count) -> LOGGER.warn("A total of {} record(s) of data from stream {} were invalid and were ignored.", count, pair));
+    // a failure to flush or close the buffers, e.g. an upload that failed after the last record,
+    // still closes them and runs onClose as a failed close, so that the buffers and temporary tables
+    // are cleaned up, before it is rethrown
+    Exception flushFailure = null;
     if (hasFailed) {
       LOGGER.error("executing on failed close procedure.");
     } else {
       LOGGER.info("executing on success close procedure.");
-      bufferingStrategy.flushAll();
-      markStatesAsFlushedToTmpDestination();
+      try {
+        bufferingStrategy.flushAll();
+        markStatesAsFlushedToTmpDestination();
+        markCompletedFlushes(true);
+      } catch (final Exception e) {
+        LOGGER.error("Failed to flush buffers on close.", e);
+        flushFailure = e;
+      }
+    }
+    try {
+      bufferingStrategy.close();
+      // flushes that completed while the buffers were closing still count towards a partial success
+      markCompletedFlushes(false);
+    } catch (final Exception e) {
+      LOGGER.error("Failed to close buffers.", e);
+      if (flushFailure == null) {
+        flushFailure = e;
+      } else {
+        flushFailure.addSuppressed(e);
+      }
     }
-    bufferingStrategy.close();
 
     try {
       // flushed is empty in 2 cases:
@@ -181,7 +241,7 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
       // in both of these cases, if there was a failure, we should not bother committing. otherwise,
       // attempt to commit.
       if (stateManager.listFlushed().isEmpty()) {
-        onClose.accept(hasFailed);
+        onClose.accept(hasFailed || flushFailure != null);
       } else {
         /*
          * if any state message was flushed that means we should try to commit what we have. if
@@ -197,8 +257,16 @@ public class BufferedStreamConsumer extends FailureTrackingAirbyteMessageConsume
       stateManager.listCommitted().forEach(outputRecordCollector);
     } catch (final Exception e) {
       LOGGER.error("Close failed.", e);
+      if (flushFailure != null) {
+        e.addSuppressed(flushFailure);
+      }
       throw e;
     }
+    if (flushFailure != null) {
+      throw flushFailure;
+    }
   }
 
+  private record PendingFlush(CompletableFuture<Void> completion, List<AirbyteMessage> states) {}
+
 }
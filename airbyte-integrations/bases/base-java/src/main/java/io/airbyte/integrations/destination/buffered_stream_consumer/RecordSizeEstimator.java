@@ -8,24 +8,25 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
- * This class estimate the byte size of the record message. To reduce memory footprint, 1) it
- * assumes that a character is always four bytes, and 2) it only performs a sampling every N
- * records. The size of the samples are averaged together to protect the estimation against
- * outliers.
+ * This class estimate the byte size of the record message. To keep it cheap, 1) it only performs a
+ * sampling every N records, and 2) a sampling computes the size of the UTF-8 JSON serialization of
+ * the record data by walking its tree, without serializing it. The size of the samples are averaged
+ * together to protect the estimation against outliers.
  */
 public class RecordSizeEstimator {
 
   // by default, perform one estimation for every 20 records
   private static final int DEFAULT_SAMPLE_BATCH_SIZE = 20;
 
-  // latest estimated record message size for each stream
-  private final Map<String, Long> streamRecordSizeEstimation;
-  // number of record messages until next real sampling for each stream
-  private final Map<String, Integer> streamSampleCountdown;
+  // estimation state of each stream
+  private final Map<String, StreamEstimation> streamEstimations;
   // number of record messages
   private final int sampleBatchSize;
 
@@ -34,8 +35,7 @@ public class RecordSizeEstimator {
    * determined by {@code sampleBatchSize}.
    */
   public RecordSizeEstimator(final int sampleBatchSize) {
-    this.streamRecordSizeEstimation = new HashMap<>();
-    this.streamSampleCountdown = new HashMap<>();
+    this.streamEstimations = new HashMap<>();
     this.sampleBatchSize = sampleBatchSize;
   }
 
@@ -45,35 +45,133 @@ public class RecordSizeEstimator {
 
   public long getEstimatedByteSize(final AirbyteRecordMessage recordMessage) {
     final String stream = recordMessage.getStream();
-    final Integer countdown = streamSampleCountdown.get(stream);
+    final StreamEstimation estimation = streamEstimations.get(stream);
 
     // this is a new stream; initialize its estimation
-    if (countdown == null) {
+    if (estimation == null) {
       final long byteSize = getStringByteSize(recordMessage.getData());
-      streamRecordSizeEstimation.put(stream, byteSize);
-      streamSampleCountdown.put(stream, sampleBatchSize - 1);
+      streamEstimations.put(stream, new StreamEstimation(byteSize, sampleBatchSize - 1));
       return byteSize;
     }
 
     // this stream needs update; compute a new estimation
-    if (countdown <= 0) {
-      final long prevMeanByteSize = streamRecordSizeEstimation.get(stream);
+    if (estimation.sampleCountdown <= 0) {
       final long currentByteSize = getStringByteSize(recordMessage.getData());
-      final long newMeanByteSize = prevMeanByteSize / 2 + currentByteSize / 2;
-      streamRecordSizeEstimation.put(stream, newMeanByteSize);
-      streamSampleCountdown.put(stream, sampleBatchSize - 1);
-      return newMeanByteSize;
+      estimation.byteSize = estimation.byteSize / 2 + currentByteSize / 2;
+      estimation.sampleCountdown = sampleBatchSize - 1;
+      return estimation.byteSize;
     }
 
     // this stream does not need update; return current estimation
-    streamSampleCountdown.put(stream, countdown - 1);
-    return streamRecordSizeEstimation.get(stream);
+    estimation.sampleCountdown--;
+    return estimation.byteSize;
   }
 
+  /**
+   * @return the number of bytes of the UTF-8 encoding of {@link Jsons#serialize} of the data
+   */
   @VisibleForTesting
   static long getStringByteSize(final JsonNode data) {
-    // assume UTF-8 encoding, and each char is 4 bytes long
-    return Jsons.serialize(data).length() * 4L;
+    return switch (data.getNodeType()) {
+      case OBJECT -> getObjectByteSize(data);
+      case ARRAY -> getArrayByteSize(data);
+      case STRING -> getQuotedByteSize(data.textValue());
+      case NUMBER -> getNumberByteSize(data);
+      case BOOLEAN -> data.booleanValue() ? 4 : 5;
+      case NULL -> 4;
+      // binary, pojo and missing nodes do not come out of deserialized records
+      default -> Jsons.serialize(data).getBytes(StandardCharsets.UTF_8).length;
+    };
+  }
+
+  private static long getObjectByteSize(final JsonNode data) {
+    // braces, and a colon per field
+    long byteSize = 2 + data.size();
+    final Iterator<Entry<String, JsonNode>> fields = data.fields();
+    while (fields.hasNext()) {
+      final Entry<String, JsonNode> field = fields.next();
+      byteSize += getQuotedByteSize(field.getKey()) + getStringByteSize(field.getValue());
+    }
+    // commas between fields
+    return data.size() > 0 ? byteSize + data.size() - 1 : byteSize;
+  }
+
+  private static long getArrayByteSize(final JsonNode data) {
+    // brackets, and commas between elements
+    long byteSize = data.size() > 0 ? 2 + data.size() - 1 : 2;
+    for (int i = 0; i < data.size(); i++) {
+      byteSize += getStringByteSize(data.get(i));
+    }
+    return byteSize;
+  }
+
+  private static long getNumberByteSize(final JsonNode data) {
+    if (data.canConvertToLong() && data.isIntegralNumber()) {
+      return getDigitCount(data.longValue());
+    }
+    if ((data.isDouble() || data.isFloat()) && !Double.isFinite(data.doubleValue())) {
+      // written as quoted strings, e.g. "NaN"
+      return data.asText().length() + 2;
+    }
+    // floating point and big numbers are rare enough for their text to be built
+    return data.asText().length();
+  }
+
+  private static int getDigitCount(final long value) {
+    if (value == Long.MIN_VALUE) {
+      return 20;
+    }
+    int count = value < 0 ? 2 : 1;
+    long remaining = Math.abs(value);
+    while (remaining >= 10) {
+      remaining /= 10;
+      count++;
+    }
+    return count;
+  }
+
+  private static long getQuotedByteSize(final String text) {
+    long byteSize = 2;
+    final int length = text.length();
+    for (int i = 0; i < length; i++) {
+      final char c = text.charAt(i);
+      if (c < 0x80) {
+        byteSize += getEscapedAsciiByteSize(c);
+      } else if (c < 0x800) {
+        byteSize += 2;
+      } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+        byteSize += 4;
+        i++;
+      } else if (Character.isSurrogate(c)) {
+        // unpaired surrogates are encoded as '?'
+        byteSize += 1;
+      } else {
+        byteSize += 3;
+      }
+    }
+    return byteSize;
+  }
+
+  private static int getEscapedAsciiByteSize(final char c) {
+    return switch (c) {
+      case '"', '\\', '\b', '\f', '\n', '\r', '\t' -> 2;
+      // other control characters are escaped as unicode, e.g. \u0000
+      default -> c < 0x20 ? 6 : 1;
+    };
+  }
+
+  private static class StreamEstimation {
+
+    // latest estimated record message size
+    private long byteSize;
+    // number of record messages until next real sampling
+    private int sampleCountdown;
+
+    StreamEstimation(final long byteSize, final int sampleCountdown) {
+      this.byteSize = byteSize;
+      this.sampleCountdown = sampleCountdown;
+    }
+
   }
 
 }
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.record_buffer;
 
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * High-level interface used by
@@ -44,4 +45,13 @@ public interface BufferingStrategy extends AutoCloseable {
    */
   void clear() throws Exception;
 
+  /**
+   * Flushes may complete after {@link #addRecord} or {@link #flushAll()} return. Returns a future
+   * that completes once every flush started so far has completed. Strategies that flush on the
+   * calling thread have nothing in flight.
+   */
+  default CompletableFuture<Void> getFlushCompletion() {
+    return CompletableFuture.completedFuture(null);
+  }
+
 }
@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.destination.record_buffer;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedBiFunction;
 import io.airbyte.commons.string.Strings;
@@ -11,15 +12,35 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.sentry.AirbyteSentry;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Buffers records per stream in {@link SerializableBuffer}s and hands full buffers to
+ * {@code onStreamFlush}.
+ *
+ * <p>
+ * By default buffers are flushed on the calling thread, so the consumer stops reading input for the
+ * duration of every flush. When created with a number of concurrent uploads, full buffers are
+ * instead sealed and flushed by a pool of upload threads while new buffers keep filling. The bytes
+ * of sealed buffers that are not flushed yet are capped: once the cap is reached, the calling thread
+ * waits for the oldest flush to complete before sealing more buffers. {@link #getFlushCompletion()}
+ * lets the caller find out when the buffers sealed so far are flushed.
+ */
 public class SerializedBufferingStrategy implements BufferingStrategy {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SerializedBufferingStrategy.class);
@@ -31,17 +52,44 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   private long totalBufferSizeInBytes;
   private final ConfiguredAirbyteCatalog catalog;
 
+  // only set when buffers are flushed asynchronously
+  private final ExecutorService uploadExecutor;
+  private final long maxInFlightBytes;
+  private final Deque<Upload> inFlightUploads = new ArrayDeque<>();
+  private final AtomicReference<Throwable> uploadFailure = new AtomicReference<>();
+  private long inFlightBytes;
+
   public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
                                      final ConfiguredAirbyteCatalog catalog,
                                      final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush) {
+    this(onCreateBuffer, catalog, onStreamFlush, 0, 0L);
+  }
+
+  /**
+   * @param maxConcurrentUploads number of buffers flushed at the same time, or 0 to flush buffers on
+   *        the calling thread
+   * @param maxInFlightBytes bytes of sealed buffers that may be waiting for or in the middle of a
+   *        flush before the calling thread blocks
+   */
+  public SerializedBufferingStrategy(final CheckedBiFunction<AirbyteStreamNameNamespacePair, ConfiguredAirbyteCatalog, SerializableBuffer, Exception> onCreateBuffer,
+                                     final ConfiguredAirbyteCatalog catalog,
+                                     final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush,
+                                     final int maxConcurrentUploads,
+                                     final long maxInFlightBytes) {
     this.onCreateBuffer = onCreateBuffer;
     this.catalog = catalog;
     this.onStreamFlush = onStreamFlush;
     this.totalBufferSizeInBytes = 0;
+    this.uploadExecutor = maxConcurrentUploads > 0
+        ? Executors.newFixedThreadPool(maxConcurrentUploads, new ThreadFactoryBuilder().setNameFormat("buffer-upload-%d").setDaemon(true).build())
+        : null;
+    this.maxInFlightBytes = maxInFlightBytes;
+    this.inFlightBytes = 0;
   }
 
   @Override
   public boolean addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
+    throwIfUploadFailed();
     boolean didFlush = false;
 
     final SerializableBuffer streamBuffer = allBuffers.computeIfAbsent(stream, k -> {
@@ -91,6 +139,12 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
     LOGGER.info("Flushing buffer of stream {} ({})", stream.getName(), FileUtils.byteCountToDisplaySize(writer.getByteCount()));
+    if (uploadExecutor != null) {
+      totalBufferSizeInBytes -= writer.getByteCount();
+      allBuffers.remove(stream);
+      submitUpload(stream, writer);
+      return;
+    }
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       onStreamFlush.accept(stream, writer);
     }, Map.of("bufferSizeInBytes", writer.getByteCount()));
@@ -101,6 +155,17 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
   @Override
   public void flushAll() throws Exception {
     LOGGER.info("Flushing all {} current buffers ({} in total)", allBuffers.size(), FileUtils.byteCountToDisplaySize(totalBufferSizeInBytes));
+    if (uploadExecutor != null) {
+      // the buffers flushed by a failed upload are lost, so the buffers left must not be flushed as if
+      // everything before them was
+      throwIfUploadFailed();
+      for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
+        submitUpload(entry.getKey(), entry.getValue());
+      }
+      clear();
+      totalBufferSizeInBytes = 0;
+      return;
+    }
     AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
       for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
         LOGGER.info("Flushing buffer of stream {} ({})", entry.getKey().getName(), FileUtils.byteCountToDisplaySize(entry.getValue().getByteCount()));
@@ -113,6 +178,70 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
     totalBufferSizeInBytes = 0;
   }
 
+  /**
+   * Returns a future that completes once every buffer sealed so far is flushed, or completes
+   * exceptionally if one of those flushes failed.
+   */
+  @Override
+  public CompletableFuture<Void> getFlushCompletion() {
+    final Throwable failure = uploadFailure.get();
+    if (failure != null) {
+      return CompletableFuture.failedFuture(failure);
+    }
+    removeCompletedUploads();
+    return CompletableFuture.allOf(inFlightUploads.stream().map(Upload::future).toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Hands the buffer over to an upload thread, which closes it once it is flushed. Blocks while
+   * sealing the buffer would exceed the in-flight bytes cap.
+   */
+  private void submitUpload(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    final long byteCount = writer.getByteCount();
+    removeCompletedUploads();
+    while (!inFlightUploads.isEmpty() && inFlightBytes + byteCount > maxInFlightBytes) {
+      LOGGER.info("Waiting for a buffer upload to complete ({} in flight)", FileUtils.byteCountToDisplaySize(inFlightBytes));
+      final Upload oldest = inFlightUploads.poll();
+      oldest.future().handle((result, e) -> null).join();
+      inFlightBytes -= oldest.byteCount();
+    }
+    throwIfUploadFailed();
+
+    final CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+      try (writer) {
+        AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
+          onStreamFlush.accept(stream, writer);
+        }, Map.of("bufferSizeInBytes", byteCount));
+      } catch (final Exception e) {
+        LOGGER.error("Failed to flush buffer of stream {}", stream.getName(), e);
+        uploadFailure.compareAndSet(null, e);
+        throw new CompletionException(e);
+      }
+    }, uploadExecutor);
+    inFlightUploads.add(new Upload(future, byteCount));
+    inFlightBytes += byteCount;
+  }
+
+  /**
+   * Failed uploads are kept, so that the flush completions that include them fail too.
+   */
+  private void removeCompletedUploads() {
+    inFlightUploads.removeIf(upload -> {
+      if (upload.future().isDone() && !upload.future().isCompletedExceptionally()) {
+        inFlightBytes -= upload.byteCount();
+        return true;
+      }
+      return false;
+    });
+  }
+
+  private void throwIfUploadFailed() {
+    final Throwable failure = uploadFailure.get();
+    if (failure != null) {
+      throw new RuntimeException("Failed to flush buffer", failure);
+    }
+  }
+
   @Override
   public void clear() throws Exception {
     LOGGER.debug("Reset all buffers");
@@ -121,6 +250,14 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
 
   @Override
   public void close() throws Exception {
+    if (uploadExecutor != null) {
+      // uploads that already started must not race with whatever the consumer does after closing, e.g.
+      // loading the staged files
+      uploadExecutor.shutdown();
+      while (!uploadExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+        LOGGER.info("Waiting for buffer uploads to complete");
+      }
+    }
     final List<Exception> exceptionsThrown = new ArrayList<>();
     for (final Entry<AirbyteStreamNameNamespacePair, SerializableBuffer> entry : allBuffers.entrySet()) {
       try {
@@ -131,9 +268,13 @@ public class SerializedBufferingStrategy implements BufferingStrategy {
         LOGGER.error("Exception while closing stream buffer", e);
       }
     }
+    // the buffers left are closed before an upload failure is surfaced
+    throwIfUploadFailed();
     if (!exceptionsThrown.isEmpty()) {
       throw new RuntimeException(String.format("Exceptions thrown while closing buffers: %s", Strings.join(exceptionsThrown, "\n")));
     }
   }
 
+  private record Upload(CompletableFuture<Void> future, long byteCount) {}
+
 }
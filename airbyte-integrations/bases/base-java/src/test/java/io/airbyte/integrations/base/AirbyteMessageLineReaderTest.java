@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class AirbyteMessageLineReaderTest {
+
+  @Test
+  void testReadsJsonLines() throws Exception {
+    final List<AirbyteMessage> messages = List.of(record(1), record(2), state(2), record(3));
+    final String input = messages.stream().map(Jsons::serialize).collect(Collectors.joining("\n"));
+
+    assertEquals(messages, read(input, AirbyteMessageLineReader.DEFAULT_BUFFER_SIZE_BYTES));
+  }
+
+  @Test
+  void testSkipsEmptyAndInvalidLines() throws Exception {
+    final String input = "\r\n\n" + Jsons.serialize(record(1)) + "\r\n"
+        + "not a message\n"
+        + "null\n\n\n"
+        + Jsons.serialize(state(1)) + "\r"
+        + "{\"type\": \"RECORD\", \"record\": {\n"
+        + Jsons.serialize(record(2)) + "\n";
+
+    assertEquals(List.of(record(1), state(1), record(2)), read(input, AirbyteMessageLineReader.DEFAULT_BUFFER_SIZE_BYTES));
+  }
+
+  @Test
+  void testReadsLinesLongerThanTheBuffer() throws Exception {
+    final List<AirbyteMessage> messages = IntStream.range(0, 100).mapToObj(AirbyteMessageLineReaderTest::record).toList();
+    final String input = messages.stream().map(message -> Jsons.serialize(message) + "\n").collect(Collectors.joining());
+
+    assertEquals(messages, read(input, 16));
+  }
+
+  @Test
+  void testReadsLinesSplitAcrossReads() throws Exception {
+    final List<AirbyteMessage> messages = IntStream.range(0, 100).mapToObj(AirbyteMessageLineReaderTest::record).toList();
+    final byte[] input = messages.stream().map(message -> Jsons.serialize(message) + "\r\n").collect(Collectors.joining())
+        .getBytes(StandardCharsets.UTF_8);
+    // returns at most 7 bytes per read
+    final InputStream inputStream = new ByteArrayInputStream(input) {
+
+      @Override
+      public synchronized int read(final byte[] b, final int off, final int len) {
+        return super.read(b, off, Math.min(len, 7));
+      }
+
+    };
+
+    final List<AirbyteMessage> read = new ArrayList<>();
+    new AirbyteMessageLineReader(inputStream, 256).forEachMessage(read::add);
+    assertEquals(messages, read);
+  }
+
+  @Test
+  void testPropagatesConsumerExceptions() {
+    final String input = Jsons.serialize(record(1)) + "\n" + Jsons.serialize(record(2)) + "\n";
+    final List<AirbyteMessage> read = new ArrayList<>();
+    final AirbyteMessageLineReader reader = new AirbyteMessageLineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+
+    assertThrows(IOException.class, () -> reader.forEachMessage(message -> {
+      read.add(message);
+      throw new IOException("error");
+    }));
+    assertEquals(List.of(record(1)), read);
+  }
+
+  private static List<AirbyteMessage> read(final String input, final int bufferSizeBytes) throws IOException {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    new AirbyteMessageLineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), bufferSizeBytes).forEachMessage(messages::add);
+    return messages;
+  }
+
+  private static AirbyteMessage record(final int id) {
+    return new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage()
+        .withStream("users")
+        .withEmittedAt(1650000000000L)
+        .withData(Jsons.jsonNode(ImmutableMap.of("id", id, "name", "user é" + id))));
+  }
+
+  private static AirbyteMessage state(final int cursor) {
+    return new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(ImmutableMap.of("cursor", cursor))));
+  }
+
+}
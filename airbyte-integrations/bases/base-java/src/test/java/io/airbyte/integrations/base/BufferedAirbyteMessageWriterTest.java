@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BufferedAirbyteMessageWriterTest {
+
+  private static final Duration NEVER = Duration.ofDays(1);
+
+  @Test
+  void testWritesJsonLines() throws Exception {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final List<AirbyteMessage> messages = List.of(record(1), record(2), state(2), record(3));
+
+    try (final BufferedAirbyteMessageWriter writer = new BufferedAirbyteMessageWriter(output)) {
+      messages.forEach(writer);
+    }
+
+    final String expected = messages.stream().map(message -> Jsons.serialize(message) + "\n").collect(Collectors.joining());
+    assertEquals(expected, output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testWritesRecordsOnceThresholdIsReached() throws Exception {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final int lineLength = (Jsons.serialize(record(0)) + "\n").getBytes(StandardCharsets.UTF_8).length;
+    final BufferedAirbyteMessageWriter writer = new BufferedAirbyteMessageWriter(output, 3 * lineLength, NEVER);
+
+    writer.accept(record(0));
+    writer.accept(record(1));
+    assertEquals(0, output.size());
+
+    writer.accept(record(2));
+    assertEquals(3 * lineLength, output.size());
+  }
+
+  @Test
+  void testWritesStatesWithTheRecordsBeforeThem() {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final BufferedAirbyteMessageWriter writer = new BufferedAirbyteMessageWriter(output, 1024 * 1024, NEVER);
+
+    IntStream.range(0, 10).forEach(i -> writer.accept(record(i)));
+    assertEquals(0, output.size());
+
+    writer.accept(state(9));
+    final List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+    assertEquals(11, lines.size());
+    assertEquals(Jsons.serialize(state(9)), lines.get(10));
+  }
+
+  @Test
+  void testWritesRecordsAfterFlushInterval() {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    final BufferedAirbyteMessageWriter writer = new BufferedAirbyteMessageWriter(output, 1024 * 1024, Duration.ZERO);
+
+    writer.accept(record(0));
+    assertEquals(Jsons.serialize(record(0)) + "\n", output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void testWritesRecordsWhileIdle() throws Exception {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (final BufferedAirbyteMessageWriter writer = new BufferedAirbyteMessageWriter(output, 1024 * 1024, Duration.ofMillis(50))) {
+      writer.accept(record(0));
+      writer.accept(record(1));
+
+      // no other message is written: the records are written out by the background thread
+      final long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+      while (output.size() == 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(Jsons.serialize(record(0)) + "\n" + Jsons.serialize(record(1)) + "\n", output.toString(StandardCharsets.UTF_8));
+    }
+  }
+
+  private static AirbyteMessage record(final int id) {
+    return new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage()
+        .withStream("users")
+        .withEmittedAt(1650000000000L)
+        .withData(Jsons.jsonNode(ImmutableMap.of("id", id, "name", "user é" + id))));
+  }
+
+  private static AirbyteMessage state(final int cursor) {
+    return new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(ImmutableMap.of("cursor", cursor))));
+  }
+
+}
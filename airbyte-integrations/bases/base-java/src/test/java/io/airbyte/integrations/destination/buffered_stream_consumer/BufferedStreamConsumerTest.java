@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -17,11 +18,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.functional.CheckedBiConsumer;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.destination.record_buffer.BufferingStrategy;
 import io.airbyte.integrations.destination.record_buffer.InMemoryRecordBufferingStrategy;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.integrations.destination.record_buffer.SerializedBufferingStrategy;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -33,6 +38,8 @@ import io.airbyte.protocol.models.JsonSchemaType;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang.RandomStringUtils;
@@ -227,6 +234,119 @@ public class BufferedStreamConsumerTest {
     verifyNoInteractions(outputRecordCollector);
   }
 
+  @Test
+  void testStatesWaitForAsyncFlushToComplete() throws Exception {
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    final CompletableFuture<Void> flushCompletion = new CompletableFuture<>();
+    when(bufferingStrategy.getFlushCompletion()).thenReturn(flushCompletion);
+    final BufferedStreamConsumer asyncConsumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        bufferingStrategy,
+        onClose,
+        CATALOG,
+        isValidRecord);
+    final List<AirbyteMessage> records = generateRecords(1_000);
+
+    asyncConsumer.start();
+    asyncConsumer.accept(STATE_MESSAGE1);
+    // the buffers are flushed on the next record, but that flush has not completed yet
+    when(bufferingStrategy.addRecord(any(), any())).thenReturn(true);
+    asyncConsumer.accept(records.get(0));
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> asyncConsumer.accept(records.get(1)));
+    asyncConsumer.close();
+
+    verify(onClose).accept(true);
+    verifyNoInteractions(outputRecordCollector);
+  }
+
+  @Test
+  void testStatesFlushedOnceAsyncFlushCompletes() throws Exception {
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    final CompletableFuture<Void> flushCompletion = new CompletableFuture<>();
+    when(bufferingStrategy.getFlushCompletion()).thenReturn(flushCompletion);
+    final BufferedStreamConsumer asyncConsumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        bufferingStrategy,
+        onClose,
+        CATALOG,
+        isValidRecord);
+    final List<AirbyteMessage> records = generateRecords(1_000);
+
+    asyncConsumer.start();
+    asyncConsumer.accept(STATE_MESSAGE1);
+    when(bufferingStrategy.addRecord(any(), any())).thenReturn(true);
+    asyncConsumer.accept(records.get(0));
+    // STATE_MESSAGE2 comes after the flush was started, so it must not be flushed with it
+    asyncConsumer.accept(STATE_MESSAGE2);
+    flushCompletion.complete(null);
+    when(isValidRecord.apply(any())).thenThrow(new IllegalStateException("induced exception"));
+    assertThrows(IllegalStateException.class, () -> asyncConsumer.accept(records.get(1)));
+    asyncConsumer.close();
+
+    verify(onClose).accept(false);
+    verify(outputRecordCollector).accept(STATE_MESSAGE1);
+    verify(outputRecordCollector, never()).accept(STATE_MESSAGE2);
+  }
+
+  @Test
+  void testBuffersClosedWhenFlushFailsOnClose() throws Exception {
+    final BufferingStrategy bufferingStrategy = mock(BufferingStrategy.class);
+    when(bufferingStrategy.getFlushCompletion()).thenReturn(CompletableFuture.completedFuture(null));
+    doThrow(new IllegalStateException("induced exception")).when(bufferingStrategy).flushAll();
+    final BufferedStreamConsumer failingConsumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        bufferingStrategy,
+        onClose,
+        CATALOG,
+        isValidRecord);
+
+    failingConsumer.start();
+    failingConsumer.accept(generateRecords(1_000).get(0));
+    failingConsumer.accept(STATE_MESSAGE1);
+    assertThrows(IllegalStateException.class, failingConsumer::close);
+
+    verify(bufferingStrategy).close();
+    verify(onClose).accept(true);
+    verifyNoInteractions(outputRecordCollector);
+  }
+
+  @Test
+  void testNoStateCommittedWhenUploadFailsAfterLastRecord() throws Exception {
+    final SerializableBuffer buffer = mock(SerializableBuffer.class);
+    when(buffer.accept(any())).thenReturn(10L);
+    when(buffer.getByteCount()).thenReturn(10L);
+    when(buffer.getMaxTotalBufferSizeInBytes()).thenReturn(1_000L);
+    // every record fills the buffer of its stream, which is uploaded on its own
+    when(buffer.getMaxPerStreamBufferSizeInBytes()).thenReturn(10L);
+    when(buffer.getMaxConcurrentStreamsInBuffer()).thenReturn(10);
+    @SuppressWarnings("unchecked")
+    final CheckedBiConsumer<AirbyteStreamNameNamespacePair, SerializableBuffer, Exception> onStreamFlush = mock(CheckedBiConsumer.class);
+    doThrow(new IllegalStateException("induced exception")).when(onStreamFlush).accept(any(), any());
+    final SerializedBufferingStrategy bufferingStrategy =
+        new SerializedBufferingStrategy((stream, catalog) -> buffer, CATALOG, onStreamFlush, 2, 1_000L);
+    final BufferedStreamConsumer failingConsumer = new BufferedStreamConsumer(
+        outputRecordCollector,
+        onStart,
+        bufferingStrategy,
+        onClose,
+        CATALOG,
+        isValidRecord);
+
+    failingConsumer.start();
+    failingConsumer.accept(generateRecords(1_000).get(0));
+    failingConsumer.accept(STATE_MESSAGE1);
+    assertThrows(CompletionException.class, () -> bufferingStrategy.getFlushCompletion().join());
+    assertThrows(RuntimeException.class, failingConsumer::close);
+
+    verify(onClose).accept(true);
+    verify(onClose, never()).accept(false);
+    verifyNoInteractions(outputRecordCollector);
+  }
+
   @Test
   void testExceptionDuringOnClose() throws Exception {
     doThrow(new IllegalStateException("induced exception")).when(onClose).accept(false);
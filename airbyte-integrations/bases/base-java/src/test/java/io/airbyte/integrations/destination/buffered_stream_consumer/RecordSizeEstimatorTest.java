@@ -9,6 +9,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class RecordSizeEstimatorTest {
@@ -62,4 +66,30 @@ class RecordSizeEstimatorTest {
     assertEquals(DATA_2_SIZE, sizeEstimator.getEstimatedByteSize(record2));
   }
 
+  @Test
+  public void testByteSizeIsTheSerializedUtf8Size() {
+    final List<JsonNode> values = List.of(
+        DATA_0,
+        DATA_1,
+        DATA_2,
+        Jsons.deserialize("[]"),
+        Jsons.deserialize("[1, -2, 3.5, -0.25, 1e300, null, false, \"\", [], {}, [[{\"a\": [null]}]]]"),
+        Jsons.deserialize("{\"quote\\\"d\": \"back\\\\slash \\b \\f \\n \\r \\t \\u0000 \\u001f \\u007f /\"}"),
+        Jsons.deserialize("{\"émoji\": \"caf\u00e9 \u20ac \ud83d\ude00 \u4e2d\u6587\"}"),
+        Jsons.jsonNode(Long.MIN_VALUE),
+        Jsons.jsonNode(Long.MAX_VALUE),
+        Jsons.jsonNode(Integer.MIN_VALUE),
+        Jsons.jsonNode(0),
+        Jsons.jsonNode(new BigInteger("123456789012345678901234567890")),
+        Jsons.jsonNode(new BigDecimal("-1234567890.0987654321")),
+        Jsons.jsonNode(Double.NaN),
+        Jsons.jsonNode(1.5f),
+        Jsons.jsonNode("unpaired \ud83d surrogate"));
+
+    for (final JsonNode value : values) {
+      assertEquals(Jsons.serialize(value).getBytes(StandardCharsets.UTF_8).length, RecordSizeEstimator.getStringByteSize(value),
+          Jsons.serialize(value));
+    }
+  }
+
 }
@@ -5,9 +5,12 @@
 package io.airbyte.integrations.destination.record_buffer;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -21,6 +24,10 @@ import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -180,6 +187,109 @@ public class SerializedBufferingStrategyTest {
     verify(perStreamFlushHook, times(1)).accept(stream4, recordWriter4);
   }
 
+  @Test
+  public void testAsyncFlushDoesNotWaitForUploads() throws Exception {
+    final CountDownLatch uploadsReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      uploadsReleased.await();
+      return null;
+    }).when(perStreamFlushHook).accept(any(), any());
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2, MAX_TOTAL_BUFFER_SIZE_BYTES);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace1");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace2");
+    final AirbyteStreamNameNamespacePair stream3 = new AirbyteStreamNameNamespacePair(STREAM_3, null);
+    final AirbyteStreamNameNamespacePair stream4 = new AirbyteStreamNameNamespacePair(STREAM_4, null);
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+    assertFalse(buffering.addRecord(stream3, generateMessage(stream3)));
+    // Buffer limit reached for concurrent streams, all buffers are handed to the upload threads
+    assertTrue(buffering.addRecord(stream4, generateMessage(stream4)));
+
+    final CompletableFuture<Void> flushCompletion = buffering.getFlushCompletion();
+    assertFalse(flushCompletion.isDone());
+
+    uploadsReleased.countDown();
+    flushCompletion.get(10, TimeUnit.SECONDS);
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    verify(perStreamFlushHook, times(1)).accept(stream3, recordWriter3);
+    verify(perStreamFlushHook, times(1)).accept(stream4, recordWriter4);
+    verify(recordWriter1).close();
+    verify(recordWriter4).close();
+    buffering.close();
+  }
+
+  @Test
+  public void testAsyncFlushWaitsWhenInFlightBytesExceeded() throws Exception {
+    final CountDownLatch uploadsReleased = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      uploadsReleased.await();
+      return null;
+    }).when(perStreamFlushHook).accept(any(), any());
+    // room for a single buffer of 10 bytes in flight
+    final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2, 10L);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+    final AirbyteStreamNameNamespacePair stream2 = new AirbyteStreamNameNamespacePair(STREAM_2, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    assertFalse(buffering.addRecord(stream2, generateMessage(stream2)));
+
+    final CompletableFuture<Void> flushAll = CompletableFuture.runAsync(() -> {
+      try {
+        buffering.flushAll();
+      } catch (final Exception e) {
+        throw new RuntimeException(e);
+      }
+    });
+    Thread.sleep(200);
+    // the second buffer cannot be handed off until the first one is uploaded
+    assertFalse(flushAll.isDone());
+
+    uploadsReleased.countDown();
+    flushAll.get(10, TimeUnit.SECONDS);
+    buffering.getFlushCompletion().get(10, TimeUnit.SECONDS);
+    verify(perStreamFlushHook, times(1)).accept(stream1, recordWriter1);
+    verify(perStreamFlushHook, times(1)).accept(stream2, recordWriter2);
+    buffering.close();
+  }
+
+  @Test
+  public void testAsyncFlushFailure() throws Exception {
+    doThrow(new IllegalStateException("induced exception")).when(perStreamFlushHook).accept(any(), any());
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2, MAX_TOTAL_BUFFER_SIZE_BYTES);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    buffering.flushAll();
+
+    final ExecutionException exception = assertThrows(ExecutionException.class, () -> buffering.getFlushCompletion().get(10, TimeUnit.SECONDS));
+    assertNotNull(exception.getCause());
+    // the failure is surfaced to the consumer on the next record
+    assertThrows(RuntimeException.class, () -> buffering.addRecord(stream1, generateMessage(stream1)));
+    verify(recordWriter1).close();
+    assertThrows(RuntimeException.class, buffering::close);
+  }
+
+  @Test
+  public void testAsyncFlushFailureIsNotForgotten() throws Exception {
+    doThrow(new IllegalStateException("induced exception")).when(perStreamFlushHook).accept(any(), any());
+    final SerializedBufferingStrategy buffering =
+        new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook, 2, MAX_TOTAL_BUFFER_SIZE_BYTES);
+    final AirbyteStreamNameNamespacePair stream1 = new AirbyteStreamNameNamespacePair(STREAM_1, "namespace");
+
+    assertFalse(buffering.addRecord(stream1, generateMessage(stream1)));
+    buffering.flushAll();
+    assertThrows(ExecutionException.class, () -> buffering.getFlushCompletion().get(10, TimeUnit.SECONDS));
+
+    // the failed upload is still part of the flush completion once it is done
+    assertTrue(buffering.getFlushCompletion().isCompletedExceptionally());
+    assertThrows(RuntimeException.class, buffering::flushAll);
+    assertThrows(RuntimeException.class, buffering::close);
+  }
+
   @Test
   public void testCreateBufferFailure() {
     final SerializedBufferingStrategy buffering = new SerializedBufferingStrategy(onCreateBufferFunction(), catalog, perStreamFlushHook);
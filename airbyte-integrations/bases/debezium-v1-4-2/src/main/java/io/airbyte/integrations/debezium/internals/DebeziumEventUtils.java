@@ -6,11 +6,9 @@ package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.debezium.CdcMetadataInjector;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import io.debezium.engine.ChangeEvent;
 import java.sql.Timestamp;
 import java.time.Instant;
 
@@ -19,10 +17,10 @@ public class DebeziumEventUtils {
   public static final String CDC_UPDATED_AT = "_ab_cdc_updated_at";
   public static final String CDC_DELETED_AT = "_ab_cdc_deleted_at";
 
-  public static AirbyteMessage toAirbyteMessage(final ChangeEvent<String, String> event,
+  public static AirbyteMessage toAirbyteMessage(final ChangeEventWithMetadata event,
                                                 final CdcMetadataInjector cdcMetadataInjector,
                                                 final Instant emittedAt) {
-    final JsonNode debeziumRecord = Jsons.deserialize(event.value());
+    final JsonNode debeziumRecord = event.eventValueAsJson();
     final JsonNode before = debeziumRecord.get("before");
     final JsonNode after = debeziumRecord.get("after");
     final JsonNode source = debeziumRecord.get("source");
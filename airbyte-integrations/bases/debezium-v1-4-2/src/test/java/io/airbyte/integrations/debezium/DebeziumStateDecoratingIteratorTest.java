@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.node.NullNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.debezium.DebeziumEventUtilsTest.DummyMetadataInjector;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class DebeziumStateDecoratingIteratorTest {
+
+  private static final Duration NEVER = Duration.ofDays(1);
+  private static final AirbyteMessage STATE_MESSAGE = new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("lsn", 1))));
+
+  @Test
+  void testCheckpointIsHeldBackUntilTheEventsItCoversAreEmitted() {
+    // four events had been published when the checkpoint after the second record read the offsets.
+    final List<Type> types = read(events("false", "false", "false", "false", "false", "false"), () -> Optional.of(STATE_MESSAGE), () -> 4, 2);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.STATE, Type.RECORD), types);
+  }
+
+  @Test
+  void testNoCheckpointBeforeTheSnapshotHasFinished() {
+    final List<Type> types = read(events("true", "true", "last", "false", "false", "false"), () -> Optional.of(STATE_MESSAGE), () -> 0, 1);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.STATE), types);
+  }
+
+  @Test
+  void testCheckpointIsSkippedWhenOffsetsAreNotReadable() {
+    final List<Type> types = read(events("false", "false", "false", "false"), Optional::empty, () -> 0, 1);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.RECORD), types);
+  }
+
+  @Test
+  void testCheckpointIsSkippedWhenReadingOffsetsFails() {
+    final List<Type> types = read(events("false", "false", "false"), () -> {
+      throw new IllegalStateException("offset file is being rewritten");
+    }, () -> 0, 1);
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD), types);
+  }
+
+  private static List<Type> read(final List<ChangeEventWithMetadata> events,
+                                 final Supplier<Optional<AirbyteMessage>> checkpointSupplier,
+                                 final LongSupplier publishedEventCount,
+                                 final long checkpointRecords) {
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = AutoCloseableIterators.fromIterator(events.iterator());
+    final DebeziumStateDecoratingIterator iterator = new DebeziumStateDecoratingIterator(
+        eventIterator,
+        new DummyMetadataInjector(),
+        Instant.now(),
+        checkpointSupplier,
+        publishedEventCount,
+        checkpointRecords,
+        NEVER);
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
+    return messages.stream().map(AirbyteMessage::getType).collect(Collectors.toList());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<ChangeEventWithMetadata> events(final String... snapshots) {
+    final List<ChangeEventWithMetadata> events = new ArrayList<>();
+    for (int i = 0; i < snapshots.length; i++) {
+      final ChangeEvent<String, String> event = mock(ChangeEvent.class);
+      when(event.value()).thenReturn(Jsons.serialize(Map.of(
+          "before", NullNode.getInstance(),
+          "after", Map.of("id", i),
+          "source", Map.of("snapshot", snapshots[i], "schema", "public", "table", "names", "ts_ms", 1616775642623L, "lsn", i))));
+      events.add(new ChangeEventWithMetadata(event));
+    }
+    return events;
+  }
+
+}
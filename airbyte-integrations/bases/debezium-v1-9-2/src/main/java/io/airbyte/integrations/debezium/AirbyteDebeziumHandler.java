@@ -10,15 +10,18 @@ import io.airbyte.commons.util.AutoCloseableIterators;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
 import io.airbyte.integrations.debezium.internals.FilteredFileDatabaseHistory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
 import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Iterator;
 import java.util.Map;
@@ -42,6 +45,12 @@ public class AirbyteDebeziumHandler {
    * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
    */
   private static final int QUEUE_CAPACITY = 10000;
+  /**
+   * While reading incrementally, a state message checkpoints the offsets debezium has committed every
+   * {@link #CHECKPOINT_RECORDS} records or {@link #CHECKPOINT_INTERVAL}, whichever comes first.
+   */
+  private static final long CHECKPOINT_RECORDS = 100_000;
+  private static final Duration CHECKPOINT_INTERVAL = Duration.ofMinutes(5);
 
   private final JsonNode config;
   private final CdcTargetPosition targetPosition;
@@ -76,7 +85,7 @@ public class AirbyteDebeziumHandler {
         schemaHistoryManager);
     publisher.start(queue);
 
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
@@ -105,27 +114,34 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
         publisher::close);
 
-    // convert to airbyte message.
-    final AutoCloseableIterator<AirbyteMessage> messageIterator = AutoCloseableIterators
-        .transform(
-            eventIterator,
-            (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
+    // convert to airbyte message, checkpointing the offsets committed by debezium along the way.
+    final Supplier<Optional<AirbyteMessage>> checkpointSupplier = () -> {
+      final Map<String, String> offset = offsetManager.read();
+      // the offset file reads as empty while debezium is rewriting it.
+      if (offset.isEmpty()) {
+        return Optional.empty();
+      }
+      return Optional.of(cdcStateHandler.saveState(offset, readSchemaHistory(schemaHistoryManager)));
+    };
+    final AutoCloseableIterator<AirbyteMessage> messageIterator = new DebeziumStateDecoratingIterator(
+        eventIterator,
+        cdcMetadataInjector,
+        emittedAt,
+        checkpointSupplier,
+        publisher::getPublishedEventCount,
+        CHECKPOINT_RECORDS,
+        CHECKPOINT_INTERVAL);
 
     // our goal is to get the state at the time this supplier is called (i.e. after all message records
     // have been produced)
-    final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
-      final Map<String, String> offset = offsetManager.read();
-      final String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
-
-      return cdcStateHandler.saveState(offset, dbHistory);
-    };
+    final Supplier<AirbyteMessage> stateMessageSupplier =
+        () -> cdcStateHandler.saveState(offsetManager.read(), readSchemaHistory(schemaHistoryManager));
 
     // wrap the supplier in an iterator so that we can concat it to the message iterator.
     final Iterator<AirbyteMessage> stateMessageIterator = MoreIterators.singletonIteratorFromSupplier(stateMessageSupplier);
@@ -137,6 +153,11 @@ public class AirbyteDebeziumHandler {
     return AutoCloseableIterators.concatWithEagerClose(messageIterator, AutoCloseableIterators.fromIterator(stateMessageIterator));
   }
 
+  private String readSchemaHistory(final Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager) {
+    return trackSchemaHistory ? schemaHistoryManager
+        .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
+  }
+
   private Optional<AirbyteSchemaHistoryStorage> schemaHistoryManager(final CdcSavedInfoFetcher cdcSavedInfoFetcher) {
     if (trackSchemaHistory) {
       FilteredFileDatabaseHistory.setDatabaseName(config.get("database").asText());
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
+import io.debezium.engine.ChangeEvent;
+
+/**
+ * A change event produced by debezium along with its value parsed as JSON, so that the value is
+ * deserialized once no matter how many times the event is inspected.
+ */
+public class ChangeEventWithMetadata {
+
+  private final ChangeEvent<String, String> event;
+  private final JsonNode eventValueAsJson;
+
+  public ChangeEventWithMetadata(final ChangeEvent<String, String> event) {
+    this.event = event;
+    this.eventValueAsJson = Jsons.deserialize(event.value());
+  }
+
+  public ChangeEvent<String, String> event() {
+    return event;
+  }
+
+  public JsonNode eventValueAsJson() {
+    return eventValueAsJson;
+  }
+
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.codehaus.plexus.util.StringUtils;
@@ -44,6 +45,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
   private final AtomicBoolean hasClosed;
   private final AtomicBoolean isClosing;
   private final AtomicReference<Throwable> thrownError;
+  private final AtomicLong publishedEventCount;
   private final CountDownLatch engineLatch;
   private final Properties properties;
   private final ConfiguredAirbyteCatalog catalog;
@@ -61,6 +63,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     this.hasClosed = new AtomicBoolean(false);
     this.isClosing = new AtomicBoolean(false);
     this.thrownError = new AtomicReference<>();
+    this.publishedEventCount = new AtomicLong();
     this.executor = Executors.newSingleThreadExecutor();
     this.engineLatch = new CountDownLatch(1);
   }
@@ -79,6 +82,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
             while (!inserted) {
               inserted = queue.offer(e);
             }
+            publishedEventCount.incrementAndGet();
           }
         })
         .using((success, message, error) -> {
@@ -96,6 +100,15 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     return hasClosed.get();
   }
 
+  /**
+   * @return the number of events put on the queue so far. Debezium only commits the offset of an
+   *         event after it has been put on the queue, so this counts at least every event covered
+   *         by the committed offsets.
+   */
+  public long getPublishedEventCount() {
+    return publishedEventCount.get();
+  }
+
   public void close() throws Exception {
     if (isClosing.compareAndSet(false, true)) {
       // consumers should assume records can be produced until engine has closed.
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.debezium.CdcMetadataInjector;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts the change events of debezium to records and, every {@code checkpointRecords} records or
+ * {@code checkpointInterval}, emits a state message with the offsets debezium has committed so far.
+ * A sync that fails then resumes from the last checkpoint instead of the offset it started from.
+ * <p>
+ * Debezium commits the offset of an event once the event is put on the queue, which can be well
+ * before the event is emitted. A checkpoint therefore reads the offsets first, then the number of
+ * events published to the queue so far, and its state message is held back until that many events
+ * have been emitted. The queue is read in order, so by then every event covered by the offsets has
+ * been emitted. No checkpoint is taken until debezium has finished the snapshot it may start with,
+ * as a sync cannot resume from the middle of it.
+ */
+public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumStateDecoratingIterator.class);
+
+  private final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator;
+  private final CdcMetadataInjector cdcMetadataInjector;
+  private final Instant emittedAt;
+  private final Supplier<Optional<AirbyteMessage>> checkpointSupplier;
+  private final LongSupplier publishedEventCount;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
+
+  private long emittedEventCount;
+  private long recordsSinceCheckpoint;
+  private Instant lastCheckpoint;
+  private boolean hasSnapshotFinished;
+  private PendingCheckpoint pendingCheckpoint;
+
+  /**
+   * @param checkpointSupplier reads the committed offsets and returns the state message for them, or
+   *        an empty optional if they cannot be read at the moment.
+   * @param publishedEventCount the number of events published to the queue {@code changeEventIterator}
+   *        reads from so far.
+   */
+  public DebeziumStateDecoratingIterator(final AutoCloseableIterator<ChangeEventWithMetadata> changeEventIterator,
+                                         final CdcMetadataInjector cdcMetadataInjector,
+                                         final Instant emittedAt,
+                                         final Supplier<Optional<AirbyteMessage>> checkpointSupplier,
+                                         final LongSupplier publishedEventCount,
+                                         final long checkpointRecords,
+                                         final Duration checkpointInterval) {
+    this.changeEventIterator = changeEventIterator;
+    this.cdcMetadataInjector = cdcMetadataInjector;
+    this.emittedAt = emittedAt;
+    this.checkpointSupplier = checkpointSupplier;
+    this.publishedEventCount = publishedEventCount;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
+    this.emittedEventCount = 0;
+    this.recordsSinceCheckpoint = 0;
+    this.lastCheckpoint = Instant.now();
+    this.hasSnapshotFinished = false;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    if (pendingCheckpoint != null && emittedEventCount >= pendingCheckpoint.eventCount()) {
+      final AirbyteMessage stateMessage = pendingCheckpoint.stateMessage();
+      pendingCheckpoint = null;
+      return stateMessage;
+    }
+    // a checkpoint still pending at the end is superseded by the state emitted once debezium has
+    // shut down.
+    if (!changeEventIterator.hasNext()) {
+      return endOfData();
+    }
+    if (pendingCheckpoint == null && hasSnapshotFinished && isCheckpointDue()) {
+      checkpoint();
+    }
+
+    final ChangeEventWithMetadata event = changeEventIterator.next();
+    emittedEventCount++;
+    recordsSinceCheckpoint++;
+    if (!hasSnapshotFinished) {
+      hasSnapshotFinished = SnapshotMetadata.FALSE == SnapshotMetadata.valueOf(
+          event.eventValueAsJson().get("source").get("snapshot").asText().toUpperCase());
+    }
+    return DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt);
+  }
+
+  private boolean isCheckpointDue() {
+    return recordsSinceCheckpoint >= checkpointRecords
+        || Duration.between(lastCheckpoint, Instant.now()).compareTo(checkpointInterval) >= 0;
+  }
+
+  private void checkpoint() {
+    recordsSinceCheckpoint = 0;
+    lastCheckpoint = Instant.now();
+    try {
+      final Optional<AirbyteMessage> stateMessage = checkpointSupplier.get();
+      // read after the offsets, so that it counts at least every event they cover.
+      final long eventCount = publishedEventCount.getAsLong();
+      stateMessage.ifPresentOrElse(
+          message -> pendingCheckpoint = new PendingCheckpoint(eventCount, message),
+          () -> LOGGER.info("Skipping checkpoint, debezium offsets are not readable at the moment."));
+    } catch (final RuntimeException e) {
+      // debezium may be rewriting its offset or schema history file, the next checkpoint will read it.
+      LOGGER.warn("Skipping checkpoint, failed to read debezium offsets.", e);
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    changeEventIterator.close();
+  }
+
+  private record PendingCheckpoint(long eventCount, AirbyteMessage stateMessage) {}
+
+}
@@ -17,6 +17,7 @@ import io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStre
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnCloseFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnStartFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.RecordWriter;
+import io.airbyte.integrations.destination.record_buffer.BufferingStrategy;
 import io.airbyte.integrations.destination.record_buffer.InMemoryRecordBufferingStrategy;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -53,12 +54,29 @@ public class JdbcBufferedConsumerFactory {
                                               final NamingConventionTransformer namingResolver,
                                               final JsonNode config,
                                               final ConfiguredAirbyteCatalog catalog) {
+    return create(outputRecordCollector, database, sqlOperations, namingResolver, config, catalog,
+        writeConfigs -> new InMemoryRecordBufferingStrategy(recordWriterFunction(database, sqlOperations, writeConfigs, catalog),
+            DEFAULT_MAX_BATCH_SIZE_BYTES));
+  }
+
+  /**
+   * Creates a consumer whose records are written to the tmp tables by the buffering strategy that
+   * {@code bufferingStrategyFactory} creates for the write configs of the streams, instead of being
+   * batched in memory and inserted with {@link SqlOperations#insertRecords}.
+   */
+  public static AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
+                                              final JdbcDatabase database,
+                                              final SqlOperations sqlOperations,
+                                              final NamingConventionTransformer namingResolver,
+                                              final JsonNode config,
+                                              final ConfiguredAirbyteCatalog catalog,
+                                              final Function<List<WriteConfig>, BufferingStrategy> bufferingStrategyFactory) {
     final List<WriteConfig> writeConfigs = createWriteConfigs(namingResolver, config, catalog, sqlOperations.isSchemaRequired());
 
     return new BufferedStreamConsumer(
         outputRecordCollector,
         onStartFunction(database, sqlOperations, writeConfigs),
-        new InMemoryRecordBufferingStrategy(recordWriterFunction(database, sqlOperations, writeConfigs, catalog), DEFAULT_MAX_BATCH_SIZE_BYTES),
+        bufferingStrategyFactory.apply(writeConfigs),
         onCloseFunction(database, sqlOperations, writeConfigs),
         catalog,
         sqlOperations::isValidData);
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.jdbc;
 
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
@@ -48,7 +49,8 @@ public class WriteConfig {
     this.tmpTableName = tmpTableName;
     this.outputTableName = outputTableName;
     this.syncMode = syncMode;
-    this.stagedFiles = new ArrayList<>();
+    // buffers of the same stream can be uploaded to the stage concurrently
+    this.stagedFiles = Collections.synchronizedList(new ArrayList<>());
     this.writeDatetime = writeDatetime;
   }
 
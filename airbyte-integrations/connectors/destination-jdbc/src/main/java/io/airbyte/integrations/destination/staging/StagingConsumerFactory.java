@@ -18,6 +18,7 @@ import io.airbyte.integrations.destination.buffered_stream_consumer.BufferedStre
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnCloseFunction;
 import io.airbyte.integrations.destination.buffered_stream_consumer.OnStartFunction;
 import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import io.airbyte.integrations.destination.record_buffer.FileBuffer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.record_buffer.SerializedBufferingStrategy;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -51,6 +52,10 @@ public class StagingConsumerFactory {
   // This would also allow other programs/scripts
   // to load (or reload backups?) in the connection's staging area to be loaded at the next sync.
   private static final DateTime SYNC_DATETIME = DateTime.now(DateTimeZone.UTC);
+  // buffers are uploaded to the stage in the background so that the destination keeps reading input
+  // while uploading. Uploads are capped in number and in bytes of sealed buffers awaiting upload.
+  private static final int MAX_CONCURRENT_UPLOADS = 4;
+  private static final long MAX_IN_FLIGHT_UPLOAD_BYTES = FileBuffer.MAX_TOTAL_BUFFER_SIZE_BYTES;
   private final UUID RANDOM_CONNECTION_ID = UUID.randomUUID();
 
   public AirbyteMessageConsumer create(final Consumer<AirbyteMessage> outputRecordCollector,
@@ -68,7 +73,9 @@ public class StagingConsumerFactory {
         new SerializedBufferingStrategy(
             onCreateBuffer,
             catalog,
-            flushBufferFunction(database, stagingOperations, writeConfigs, catalog)),
+            flushBufferFunction(database, stagingOperations, writeConfigs, catalog),
+            MAX_CONCURRENT_UPLOADS,
+            MAX_IN_FLIGHT_UPLOAD_BYTES),
         onCloseFunction(database, stagingOperations, writeConfigs, purgeStagingData),
         catalog,
         stagingOperations::isValidData);
@@ -5,6 +5,7 @@
 package io.airbyte.integrations.destination.kafka;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
@@ -13,40 +14,69 @@ import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Sends records to Kafka without waiting for each of them to be acknowledged, unless the producer is
+ * sync, and emits each state message once all of the records received before it have been
+ * acknowledged by the brokers. The records sent between two state messages are counted down by the
+ * callbacks of their sends, and the states whose records have all been acknowledged are emitted in
+ * order whenever a message is accepted, and when the consumer is closed.
+ */
 public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(KafkaRecordConsumer.class);
 
   private final String topicPattern;
   private final Map<AirbyteStreamNameNamespacePair, String> topicMap;
-  private final KafkaProducer<String, JsonNode> producer;
+  private final Producer<String, JsonNode> producer;
   private final boolean sync;
   private final ConfiguredAirbyteCatalog catalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final NamingConventionTransformer nameTransformer;
 
-  private AirbyteMessage lastStateMessage = null;
+  // states waiting for the records received before them to be acknowledged, oldest first
+  private final Deque<PendingState> pendingStates = new ArrayDeque<>();
+  private final AtomicReference<Exception> sendFailure = new AtomicReference<>();
+  private AtomicInteger unacknowledgedRecords = new AtomicInteger();
 
   public KafkaRecordConsumer(final KafkaDestinationConfig kafkaDestinationConfig,
                              final ConfiguredAirbyteCatalog catalog,
                              final Consumer<AirbyteMessage> outputRecordCollector,
                              final NamingConventionTransformer nameTransformer) {
-    this.topicPattern = kafkaDestinationConfig.getTopicPattern();
+    this(kafkaDestinationConfig.getTopicPattern(),
+        kafkaDestinationConfig.getProducer(),
+        kafkaDestinationConfig.isSync(),
+        catalog,
+        outputRecordCollector,
+        nameTransformer);
+  }
+
+  @VisibleForTesting
+  KafkaRecordConsumer(final String topicPattern,
+                      final Producer<String, JsonNode> producer,
+                      final boolean sync,
+                      final ConfiguredAirbyteCatalog catalog,
+                      final Consumer<AirbyteMessage> outputRecordCollector,
+                      final NamingConventionTransformer nameTransformer) {
+    this.topicPattern = topicPattern;
     this.topicMap = new HashMap<>();
-    this.producer = kafkaDestinationConfig.getProducer();
-    this.sync = kafkaDestinationConfig.isSync();
+    this.producer = producer;
+    this.sync = sync;
     this.catalog = catalog;
     this.outputRecordCollector = outputRecordCollector;
     this.nameTransformer = nameTransformer;
@@ -60,7 +90,8 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
   @Override
   protected void acceptTracked(final AirbyteMessage airbyteMessage) {
     if (airbyteMessage.getType() == AirbyteMessage.Type.STATE) {
-      lastStateMessage = airbyteMessage;
+      pendingStates.add(new PendingState(airbyteMessage, unacknowledgedRecords));
+      unacknowledgedRecords = new AtomicInteger();
     } else if (airbyteMessage.getType() == AirbyteMessage.Type.RECORD) {
       final AirbyteRecordMessage recordMessage = airbyteMessage.getRecord();
 
@@ -78,6 +109,7 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
     } else {
       LOGGER.warn("Unexpected message: " + airbyteMessage.getType());
     }
+    emitAcknowledgedStates();
   }
 
   Map<AirbyteStreamNameNamespacePair, String> buildTopicMap() {
@@ -90,23 +122,58 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
   }
 
   private void sendRecord(final ProducerRecord<String, JsonNode> record) {
+    throwIfSendFailed();
+    final AtomicInteger unacknowledged = unacknowledgedRecords;
+    unacknowledged.incrementAndGet();
     producer.send(record, (recordMetadata, exception) -> {
+      // the callback runs on the I/O thread of the producer, so the failure is thrown by the next send
       if (exception != null) {
         LOGGER.error("Error sending message to topic.", exception);
-        throw new RuntimeException("Cannot send message to Kafka. Error: " + exception.getMessage(), exception);
+        sendFailure.compareAndSet(null, exception);
+      } else {
+        unacknowledged.decrementAndGet();
       }
     });
     if (sync) {
       producer.flush();
-      outputRecordCollector.accept(lastStateMessage);
+    }
+    throwIfSendFailed();
+  }
+
+  /**
+   * Emits the pending states, oldest first, until one of them still has records that have not been
+   * acknowledged. The records before a state have all been acknowledged once its own records have,
+   * since the states before it have been emitted. A record that failed to be sent is never
+   * acknowledged, so neither its state nor the states after it are emitted.
+   */
+  private void emitAcknowledgedStates() {
+    while (!pendingStates.isEmpty() && pendingStates.peek().unacknowledgedRecords().get() == 0) {
+      outputRecordCollector.accept(pendingStates.poll().message());
+    }
+  }
+
+  private void throwIfSendFailed() {
+    final Exception exception = sendFailure.get();
+    if (exception != null) {
+      throw new RuntimeException("Cannot send message to Kafka. Error: " + exception.getMessage(), exception);
     }
   }
 
   @Override
   protected void close(final boolean hasFailed) {
     producer.flush();
-    producer.close();
-    outputRecordCollector.accept(lastStateMessage);
+    try {
+      if (!hasFailed) {
+        // a record sent after the last accepted message may have failed while flushing
+        throwIfSendFailed();
+      }
+    } finally {
+      producer.close();
+      // even if the sync failed, the states whose records have all been acknowledged can be committed
+      emitAcknowledgedStates();
+    }
   }
 
+  private record PendingState(AirbyteMessage message, AtomicInteger unacknowledgedRecords) {}
+
 }
@@ -6,7 +6,11 @@ package io.airbyte.integrations.destination.kafka;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,6 +34,9 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.connect.json.JsonSerializer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -86,6 +93,89 @@ public class KafkaRecordConsumerTest {
     consumer.close();
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void testEmitsStatesOnceTheirRecordsAreAcknowledged() throws Exception {
+    final MockProducer<String, JsonNode> producer = new MockProducer<>(false, new StringSerializer(), new JsonSerializer());
+    final Consumer<AirbyteMessage> outputRecordCollector = mock(Consumer.class);
+    final KafkaRecordConsumer consumer = new KafkaRecordConsumer(TOPIC_NAME, producer, false, CATALOG, outputRecordCollector, NAMING_RESOLVER);
+    final List<AirbyteMessage> records = getNRecords(3);
+    final AirbyteMessage firstState = getState(1);
+    final AirbyteMessage secondState = getState(2);
+
+    consumer.start();
+    consumer.accept(records.get(0));
+    consumer.accept(records.get(1));
+    consumer.accept(firstState);
+    producer.completeNext();
+    consumer.accept(records.get(2));
+    verify(outputRecordCollector, never()).accept(any());
+
+    producer.completeNext();
+    consumer.accept(secondState);
+    verify(outputRecordCollector).accept(firstState);
+    verify(outputRecordCollector, never()).accept(secondState);
+
+    consumer.close();
+    verify(outputRecordCollector).accept(secondState);
+    assertEquals(3, producer.history().size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testDoesNotEmitStatesAfterFailedSend() throws Exception {
+    final MockProducer<String, JsonNode> producer = new MockProducer<>(false, new StringSerializer(), new JsonSerializer());
+    final Consumer<AirbyteMessage> outputRecordCollector = mock(Consumer.class);
+    final KafkaRecordConsumer consumer = new KafkaRecordConsumer(TOPIC_NAME, producer, false, CATALOG, outputRecordCollector, NAMING_RESOLVER);
+    final List<AirbyteMessage> records = getNRecords(3);
+    final AirbyteMessage firstState = getState(1);
+    final AirbyteMessage secondState = getState(2);
+
+    consumer.start();
+    consumer.accept(records.get(0));
+    consumer.accept(firstState);
+    consumer.accept(records.get(1));
+    consumer.accept(secondState);
+    producer.completeNext();
+    producer.errorNext(new RuntimeException("broker unavailable"));
+
+    assertThrows(RuntimeException.class, () -> consumer.accept(records.get(2)));
+    consumer.close();
+    verify(outputRecordCollector).accept(firstState);
+    verify(outputRecordCollector, never()).accept(secondState);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testCloseFailsWhenLastSendFailed() throws Exception {
+    final MockProducer<String, JsonNode> producer = new MockProducer<>(false, new StringSerializer(), new JsonSerializer());
+    final Consumer<AirbyteMessage> outputRecordCollector = mock(Consumer.class);
+    final KafkaRecordConsumer consumer = new KafkaRecordConsumer(TOPIC_NAME, producer, false, CATALOG, outputRecordCollector, NAMING_RESOLVER);
+    final List<AirbyteMessage> records = getNRecords(2);
+    final AirbyteMessage firstState = getState(1);
+    final AirbyteMessage secondState = getState(2);
+
+    consumer.start();
+    consumer.accept(records.get(0));
+    consumer.accept(firstState);
+    consumer.accept(records.get(1));
+    consumer.accept(secondState);
+    producer.completeNext();
+    // no message is accepted after this send fails, so only close can report it
+    producer.errorNext(new RuntimeException("broker unavailable"));
+
+    assertThrows(RuntimeException.class, consumer::close);
+    assertTrue(producer.closed());
+    verify(outputRecordCollector).accept(firstState);
+    verify(outputRecordCollector, never()).accept(secondState);
+  }
+
+  private AirbyteMessage getState(final int position) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of(SCHEMA_NAME + "." + STREAM_NAME, position))));
+  }
+
   private JsonNode getConfig(final String topicPattern) {
     final ObjectNode stubProtocolConfig = mapper.createObjectNode();
     stubProtocolConfig.put("security_protocol", KafkaProtocol.PLAINTEXT.toString());
@@ -4,12 +4,11 @@
 
 package io.airbyte.integrations.destination.mongodb;
 
-import static com.mongodb.client.model.Projections.excludeId;
-
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.mongodb.MongoDatabase;
 import io.airbyte.db.mongodb.MongoUtils.MongoInstanceType;
@@ -26,7 +25,6 @@ import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -56,8 +54,11 @@ public class MongodbDestination extends BaseConnector implements Destination {
   private static final String PASSWORD = "password";
   private static final String AUTHORIZATION = "authorization";
   private static final String LOGIN_AND_PASSWORD = "login/password";
+  private static final String BATCH_SIZE = "batch_size";
   private static final String AIRBYTE_DATA_HASH = "_airbyte_data_hash";
 
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+
   private final MongodbNameTransformer namingResolver;
 
   public MongodbDestination() {
@@ -93,6 +94,7 @@ public class MongodbDestination extends BaseConnector implements Destination {
                                             final ConfiguredAirbyteCatalog catalog,
                                             final Consumer<AirbyteMessage> outputRecordCollector) {
     final var database = getDatabase(config);
+    final int batchSize = config.has(BATCH_SIZE) ? config.get(BATCH_SIZE).asInt() : DEFAULT_BATCH_SIZE;
 
     final Map<AirbyteStreamNameNamespacePair, MongodbWriteConfig> writeConfigs = new HashMap<>();
     for (final ConfiguredAirbyteStream configStream : catalog.getStreams()) {
@@ -106,17 +108,13 @@ public class MongodbDestination extends BaseConnector implements Destination {
       }
 
       final MongoCollection<Document> collection = database.getOrCreateNewCollection(tmpCollectionName);
-      final Set<String> documentsHash = new HashSet<>();
-      try (final MongoCursor<Document> cursor = collection.find().projection(excludeId()).iterator()) {
-        while (cursor.hasNext()) {
-          documentsHash.add(cursor.next().get(AIRBYTE_DATA_HASH, String.class));
-        }
-      }
+      // records are deduplicated by the tmp collection, which rejects the inserts of the documents whose hash it already has
+      collection.createIndex(Indexes.ascending(AIRBYTE_DATA_HASH), new IndexOptions().unique(true));
 
       writeConfigs.put(AirbyteStreamNameNamespacePair.fromAirbyteSteam(stream),
-          new MongodbWriteConfig(collectionName, tmpCollectionName, configStream.getDestinationSyncMode(), collection, documentsHash));
+          new MongodbWriteConfig(collectionName, tmpCollectionName, configStream.getDestinationSyncMode(), collection));
     }
-    return new MongodbRecordConsumer(writeConfigs, database, catalog, outputRecordCollector);
+    return new MongodbRecordConsumer(writeConfigs, database, catalog, outputRecordCollector, batchSize);
   }
 
   /* Helpers */
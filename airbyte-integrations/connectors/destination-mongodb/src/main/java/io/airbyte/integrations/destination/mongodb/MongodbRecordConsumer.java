@@ -8,7 +8,11 @@ import static com.mongodb.client.model.Projections.excludeId;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.InsertManyOptions;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.db.mongodb.MongoDatabase;
@@ -38,23 +42,28 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   private static final String AIRBYTE_DATA_HASH = "_airbyte_data_hash";
   private static final String AIRBYTE_EMITTED_AT = "_airbyte_emitted_at";
 
+  private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
   private final Map<AirbyteStreamNameNamespacePair, MongodbWriteConfig> writeConfigs;
   private final MongoDatabase mongoDatabase;
   private final ConfiguredAirbyteCatalog catalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final ObjectMapper objectMapper;
+  private final int batchSize;
 
   private AirbyteMessage lastStateMessage = null;
 
   public MongodbRecordConsumer(final Map<AirbyteStreamNameNamespacePair, MongodbWriteConfig> writeConfigs,
                                final MongoDatabase mongoDatabase,
                                final ConfiguredAirbyteCatalog catalog,
-                               final Consumer<AirbyteMessage> outputRecordCollector) {
+                               final Consumer<AirbyteMessage> outputRecordCollector,
+                               final int batchSize) {
     this.writeConfigs = writeConfigs;
     this.mongoDatabase = mongoDatabase;
     this.catalog = catalog;
     this.outputRecordCollector = outputRecordCollector;
     this.objectMapper = new ObjectMapper();
+    this.batchSize = batchSize;
   }
 
   @Override
@@ -86,10 +95,12 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
   protected void close(final boolean hasFailed) {
     try {
       if (!hasFailed) {
+        writeConfigs.values().forEach(this::insertDocumentsToTmpCollection);
         LOGGER.info("Migration finished with no explicit errors. Copying data from tmp tables to permanent");
+        final boolean canMerge = supportsMergeStage(mongoDatabase);
         writeConfigs.values().forEach(mongodbWriteConfig -> Exceptions.toRuntime(() -> {
           try {
-            copyTable(mongoDatabase, mongodbWriteConfig.getCollectionName(), mongodbWriteConfig.getTmpCollectionName());
+            copyTable(mongoDatabase, mongodbWriteConfig.getCollectionName(), mongodbWriteConfig.getTmpCollectionName(), canMerge, batchSize);
           } catch (final RuntimeException e) {
             LOGGER.error("Failed to process a message for Streams numbers: {}, SyncMode: {}, CollectionName: {}, TmpCollectionName: {}",
                 catalog.getStreams().size(), mongodbWriteConfig.getSyncMode(), mongodbWriteConfig.getCollectionName(),
@@ -124,14 +135,10 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
       newDocument.put(AIRBYTE_DATA_HASH, newDocumentDataHashCode);
       newDocument.put(AIRBYTE_EMITTED_AT, new LocalDateTime().toString());
 
-      final var collection = writeConfig.getCollection();
-
-      final var documentsHash = writeConfig.getDocumentsHash();
-      if (!documentsHash.contains(newDocumentDataHashCode)) {
-        collection.insertOne(newDocument);
-        documentsHash.add(newDocumentDataHashCode);
-      } else {
-        LOGGER.info("Object with hashCode = {} already exist in table {}.", newDocumentDataHashCode, writeConfig.getCollectionName());
+      final List<Document> documents = writeConfig.getDocuments();
+      documents.add(newDocument);
+      if (documents.size() >= batchSize) {
+        insertDocumentsToTmpCollection(writeConfig);
       }
     } catch (final RuntimeException e) {
       LOGGER.error("Got an error while writing message:" + e.getMessage());
@@ -142,19 +149,62 @@ public class MongodbRecordConsumer extends FailureTrackingAirbyteMessageConsumer
     }
   }
 
-  private static void copyTable(final MongoDatabase mongoDatabase, final String collectionName, final String tmpCollectionName) {
+  /**
+   * Inserts the documents buffered for the stream in one unordered batch. The documents whose hash
+   * is already in the tmp collection are rejected by its unique index and skipped.
+   */
+  private void insertDocumentsToTmpCollection(final MongodbWriteConfig writeConfig) {
+    final List<Document> documents = writeConfig.getDocuments();
+    if (documents.isEmpty()) {
+      return;
+    }
+    try {
+      writeConfig.getCollection().insertMany(documents, UNORDERED);
+    } catch (final MongoBulkWriteException e) {
+      if (e.getWriteConcernError() != null
+          || e.getWriteErrors().stream().anyMatch(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)) {
+        throw e;
+      }
+      LOGGER.info("{} objects already exist in table {}.", e.getWriteErrors().size(), writeConfig.getCollectionName());
+    }
+    documents.clear();
+  }
 
+  /**
+   * Copies the tmp collection into the permanent one on the server with a $merge stage, which is
+   * only available from MongoDB 4.2. Older servers get the documents streamed through the
+   * destination in batches.
+   */
+  private static void copyTable(final MongoDatabase mongoDatabase,
+                                final String collectionName,
+                                final String tmpCollectionName,
+                                final boolean canMerge,
+                                final int batchSize) {
     final var tempCollection = mongoDatabase.getOrCreateNewCollection(tmpCollectionName);
     final var collection = mongoDatabase.getOrCreateNewCollection(collectionName);
-    final List<Document> documents = new ArrayList<>();
-    try (final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).iterator()) {
+    if (canMerge) {
+      // the documents keep the ids they were given in the tmp collection, so none of them match
+      tempCollection.aggregate(List.of(Aggregates.merge(collectionName))).toCollection();
+      return;
+    }
+    final List<Document> documents = new ArrayList<>(batchSize);
+    try (final MongoCursor<Document> cursor = tempCollection.find().projection(excludeId()).batchSize(batchSize).iterator()) {
       while (cursor.hasNext()) {
         documents.add(cursor.next());
+        if (documents.size() >= batchSize) {
+          collection.insertMany(documents, UNORDERED);
+          documents.clear();
+        }
       }
     }
     if (!documents.isEmpty()) {
-      collection.insertMany(documents);
+      collection.insertMany(documents, UNORDERED);
     }
   }
 
+  private static boolean supportsMergeStage(final MongoDatabase mongoDatabase) {
+    final List<Integer> version = mongoDatabase.getDatabase().runCommand(new Document("buildInfo", 1)).getList("versionArray", Integer.class);
+    return version.get(0) > 4 || (version.get(0) == 4 && version.get(1) >= 2);
+  }
+
 }
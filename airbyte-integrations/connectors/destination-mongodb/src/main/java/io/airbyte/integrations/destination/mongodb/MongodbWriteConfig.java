@@ -6,9 +6,8 @@ package io.airbyte.integrations.destination.mongodb;
 
 import com.mongodb.client.MongoCollection;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 import org.bson.Document;
 
 class MongodbWriteConfig {
@@ -17,18 +16,17 @@ class MongodbWriteConfig {
   private final String tmpCollectionName;
   private final DestinationSyncMode syncMode;
   private final MongoCollection<Document> collection;
-  private final Set<String> documentsHash = new HashSet<>();
+  // documents not inserted into the tmp collection yet
+  private final List<Document> documents = new ArrayList<>();
 
   MongodbWriteConfig(final String collectionName,
                      final String tmpCollectionName,
                      final DestinationSyncMode syncMode,
-                     final MongoCollection<Document> collection,
-                     final Collection<String> documentsHash) {
+                     final MongoCollection<Document> collection) {
     this.collectionName = collectionName;
     this.tmpCollectionName = tmpCollectionName;
     this.syncMode = syncMode;
     this.collection = collection;
-    this.documentsHash.addAll(documentsHash);
   }
 
   public String getCollectionName() {
@@ -47,8 +45,8 @@ class MongodbWriteConfig {
     return collection;
   }
 
-  public Set<String> getDocumentsHash() {
-    return documentsHash;
+  public List<Document> getDocuments() {
+    return documents;
   }
 
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.mongodb.MongoDatabase;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class MongodbRecordConsumerTest {
+
+  private static final String STREAM_NAME = "users";
+  private static final ConfiguredAirbyteCatalog CATALOG =
+      CatalogHelpers.createConfiguredAirbyteCatalog(STREAM_NAME, null, Field.of("id", JsonSchemaType.NUMBER));
+
+  private static final String TMP_COLLECTION_NAME = "_airbyte_tmp_" + STREAM_NAME;
+
+  private MongoCollection<Document> collection;
+  private MongodbWriteConfig writeConfig;
+  private List<Integer> insertedBatchSizes;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    collection = mock(MongoCollection.class);
+    writeConfig = new MongodbWriteConfig(STREAM_NAME, TMP_COLLECTION_NAME, DestinationSyncMode.APPEND, collection);
+    insertedBatchSizes = new ArrayList<>();
+    doAnswer(invocation -> {
+      insertedBatchSizes.add(invocation.<List<Document>>getArgument(0).size());
+      return null;
+    }).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+  }
+
+  @Test
+  void testInsertsRecordsInBatches() throws Exception {
+    final MongodbRecordConsumer consumer = createConsumer(2);
+    consumer.start();
+    for (int i = 0; i < 5; i++) {
+      consumer.accept(record(i));
+    }
+
+    assertEquals(List.of(2, 2), insertedBatchSizes);
+    assertEquals(1, writeConfig.getDocuments().size());
+  }
+
+  @Test
+  void testSkipsDuplicateRecords() throws Exception {
+    doAnswer(invocation -> {
+      throw bulkWriteException(11000);
+    }).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+    final MongodbRecordConsumer consumer = createConsumer(2);
+    consumer.start();
+    consumer.accept(record(1));
+    consumer.accept(record(1));
+
+    assertEquals(0, writeConfig.getDocuments().size());
+  }
+
+  @Test
+  void testFailsOnOtherWriteErrors() throws Exception {
+    doAnswer(invocation -> {
+      throw bulkWriteException(121);
+    }).when(collection).insertMany(anyList(), any(InsertManyOptions.class));
+    final MongodbRecordConsumer consumer = createConsumer(1);
+    consumer.start();
+
+    assertThrows(RuntimeException.class, () -> consumer.accept(record(1)));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testCopiesTmpCollectionWithMergeStage() throws Exception {
+    final MongoCollection<Document> tmpCollection = mock(MongoCollection.class);
+    final MongoCollection<Document> finalCollection = mock(MongoCollection.class);
+    final AggregateIterable<Document> aggregation = mock(AggregateIterable.class);
+    when(tmpCollection.aggregate(anyList())).thenReturn(aggregation);
+    final MongodbRecordConsumer consumer = createConsumer(2, mockDatabase(List.of(4, 2, 0, 0), tmpCollection, finalCollection));
+    consumer.start();
+    consumer.accept(record(1));
+    consumer.close();
+
+    final ArgumentCaptor<List<Bson>> pipeline = ArgumentCaptor.forClass(List.class);
+    verify(tmpCollection).aggregate(pipeline.capture());
+    assertEquals(1, pipeline.getValue().size());
+    assertEquals(STREAM_NAME, pipeline.getValue().get(0)
+        .toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry())
+        .getDocument("$merge").getString("into").getValue());
+    verify(aggregation).toCollection();
+    verify(tmpCollection, never()).find();
+    verify(finalCollection, never()).insertMany(anyList(), any(InsertManyOptions.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testCopiesTmpCollectionThroughDestinationBeforeMongo42() throws Exception {
+    final MongoCollection<Document> tmpCollection = mock(MongoCollection.class);
+    final MongoCollection<Document> finalCollection = mock(MongoCollection.class);
+    final FindIterable<Document> find = mock(FindIterable.class);
+    final MongoCursor<Document> cursor = mock(MongoCursor.class);
+    when(tmpCollection.find()).thenReturn(find);
+    when(find.projection(any())).thenReturn(find);
+    when(find.batchSize(2)).thenReturn(find);
+    when(find.iterator()).thenReturn(cursor);
+    when(cursor.hasNext()).thenReturn(true, true, true, false);
+    when(cursor.next()).thenReturn(new Document("id", 1), new Document("id", 2), new Document("id", 3));
+    final List<Integer> copiedBatchSizes = new ArrayList<>();
+    doAnswer(invocation -> {
+      copiedBatchSizes.add(invocation.<List<Document>>getArgument(0).size());
+      return null;
+    }).when(finalCollection).insertMany(anyList(), any(InsertManyOptions.class));
+    final MongodbRecordConsumer consumer = createConsumer(2, mockDatabase(List.of(4, 0, 28, 0), tmpCollection, finalCollection));
+    consumer.start();
+    consumer.accept(record(1));
+    consumer.close();
+
+    verify(tmpCollection, never()).aggregate(anyList());
+    assertEquals(List.of(2, 1), copiedBatchSizes);
+  }
+
+  private MongodbRecordConsumer createConsumer(final int batchSize) {
+    return createConsumer(batchSize, mock(MongoDatabase.class));
+  }
+
+  private MongodbRecordConsumer createConsumer(final int batchSize, final MongoDatabase mongoDatabase) {
+    final Map<AirbyteStreamNameNamespacePair, MongodbWriteConfig> writeConfigs =
+        Map.of(new AirbyteStreamNameNamespacePair(STREAM_NAME, null), writeConfig);
+    return new MongodbRecordConsumer(writeConfigs, mongoDatabase, CATALOG, message -> {}, batchSize);
+  }
+
+  /**
+   * @param versionArray the version the server reports in its build info, e.g. [4, 2, 0, 0] for 4.2.0
+   */
+  private static MongoDatabase mockDatabase(final List<Integer> versionArray,
+                                            final MongoCollection<Document> tmpCollection,
+                                            final MongoCollection<Document> finalCollection) {
+    final com.mongodb.client.MongoDatabase database = mock(com.mongodb.client.MongoDatabase.class);
+    when(database.runCommand(any(Bson.class))).thenReturn(new Document("versionArray", versionArray));
+    final MongoDatabase mongoDatabase = mock(MongoDatabase.class);
+    when(mongoDatabase.getDatabase()).thenReturn(database);
+    when(mongoDatabase.getOrCreateNewCollection(TMP_COLLECTION_NAME)).thenReturn(tmpCollection);
+    when(mongoDatabase.getOrCreateNewCollection(STREAM_NAME)).thenReturn(finalCollection);
+    when(mongoDatabase.getCollection(TMP_COLLECTION_NAME)).thenReturn(tmpCollection);
+    return mongoDatabase;
+  }
+
+  private static MongoBulkWriteException bulkWriteException(final int errorCode) {
+    return new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(new BulkWriteError(errorCode, "error", new BsonDocument(), 1)),
+        null, new ServerAddress());
+  }
+
+  private static AirbyteMessage record(final int id) {
+    return new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage()
+        .withStream(STREAM_NAME)
+        .withEmittedAt(1650000000000L)
+        .withData(Jsons.jsonNode(ImmutableMap.of("id", id))));
+  }
+
+}
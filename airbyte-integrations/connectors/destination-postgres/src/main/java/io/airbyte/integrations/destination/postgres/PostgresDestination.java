@@ -4,19 +4,27 @@
 
 package io.airbyte.integrations.destination.postgres;
 
+import static io.airbyte.integrations.destination.jdbc.constants.GlobalDataSizeConstants.DEFAULT_MAX_BATCH_SIZE_BYTES;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.factory.DatabaseDriver;
 import io.airbyte.db.jdbc.JdbcUtils;
+import io.airbyte.integrations.base.AirbyteMessageConsumer;
 import io.airbyte.integrations.base.Destination;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.ssh.SshWrappedDestination;
 import io.airbyte.integrations.destination.jdbc.AbstractJdbcDestination;
+import io.airbyte.integrations.destination.jdbc.JdbcBufferedConsumerFactory;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +40,10 @@ public class PostgresDestination extends AbstractJdbcDestination implements Dest
   public static final String PASSWORD_KEY = "password";
   public static final String USERNAME_KEY = "username";
   public static final String SCHEMA_KEY = "schema";
+  public static final String STREAMING_COPY_KEY = "streaming_copy";
+
+  // each stream being copied holds a connection of the pool, which has 10 of them by default
+  static final int MAX_CONCURRENT_COPIES = 8;
 
   static final Map<String, String> SSL_JDBC_PARAMETERS = ImmutableMap.of(
       "ssl", "true",
@@ -80,6 +92,19 @@ public class PostgresDestination extends AbstractJdbcDestination implements Dest
     return Jsons.jsonNode(configBuilder.build());
   }
 
+  @Override
+  public AirbyteMessageConsumer getConsumer(final JsonNode config,
+                                            final ConfiguredAirbyteCatalog catalog,
+                                            final Consumer<AirbyteMessage> outputRecordCollector) {
+    if (!config.has(STREAMING_COPY_KEY) || !config.get(STREAMING_COPY_KEY).asBoolean()) {
+      return super.getConsumer(config, catalog, outputRecordCollector);
+    }
+    final DataSource dataSource = getDataSource(config);
+    final PostgresSqlOperations sqlOperations = (PostgresSqlOperations) getSqlOperations();
+    return JdbcBufferedConsumerFactory.create(outputRecordCollector, getDatabase(dataSource), sqlOperations, getNamingResolver(), config, catalog,
+        writeConfigs -> new PostgresStreamingCopyBufferingStrategy(dataSource, sqlOperations, writeConfigs, MAX_CONCURRENT_COPIES,
+            DEFAULT_MAX_BATCH_SIZE_BYTES));
+  }
 
   public static void main(final String[] args) throws Exception {
     final Destination destination = PostgresDestination.sshWrappedDestination();
@@ -7,15 +7,16 @@ package io.airbyte.integrations.destination.postgres;
 import io.airbyte.db.jdbc.JdbcDatabase;
 import io.airbyte.integrations.destination.jdbc.JdbcSqlOperations;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
 import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.postgresql.core.BaseConnection;
 
 public class PostgresSqlOperations extends JdbcSqlOperations {
@@ -35,27 +36,75 @@ public class PostgresSqlOperations extends JdbcSqlOperations {
     }
 
     database.execute(connection -> {
-      File tmpFile = null;
-      try {
-        tmpFile = Files.createTempFile(tmpTableName + "-", ".tmp").toFile();
-        writeBatchToFile(tmpFile, records);
-
-        final var copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
-        final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tmpTableName);
-        final var bufferedReader = new BufferedReader(new FileReader(tmpFile, StandardCharsets.UTF_8));
-        copyManager.copyIn(sql, bufferedReader);
+      try (final CopyStream copyStream = startCopy(connection, schemaName, tmpTableName)) {
+        for (final AirbyteRecordMessage record : records) {
+          // the records have already been adapted by insertRecords
+          writeRecordToCsv(copyStream.csvPrinter, record);
+        }
+        copyStream.end();
       } catch (final Exception e) {
         throw new RuntimeException(e);
-      } finally {
-        try {
-          if (tmpFile != null) {
-            Files.delete(tmpFile.toPath());
-          }
-        } catch (final IOException e) {
-          throw new RuntimeException(e);
-        }
       }
     });
   }
 
+  /**
+   * Starts copying CSV rows into a table on the given connection. The rows are sent to Postgres as
+   * they are written, without being staged in a local file, and are committed when the copy is
+   * ended.
+   */
+  public CopyStream startCopy(final Connection connection, final String schemaName, final String tableName) throws SQLException {
+    final var copyManager = new CopyManager(connection.unwrap(BaseConnection.class));
+    final var sql = String.format("COPY %s.%s FROM stdin DELIMITER ',' CSV", schemaName, tableName);
+    return new CopyStream(new PGCopyOutputStream(copyManager.copyIn(sql)));
+  }
+
+  /**
+   * A {@code COPY ... FROM stdin} in progress, that records are written to as CSV rows.
+   */
+  public class CopyStream implements AutoCloseable {
+
+    private final PGCopyOutputStream outputStream;
+    private final CSVPrinter csvPrinter;
+
+    private CopyStream(final PGCopyOutputStream outputStream) throws SQLException {
+      this.outputStream = outputStream;
+      try {
+        this.csvPrinter = new CSVPrinter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), CSVFormat.DEFAULT);
+      } catch (final IOException e) {
+        outputStream.cancelCopy();
+        throw new SQLException("Failed to start writing CSV rows", e);
+      }
+    }
+
+    /**
+     * Adapts the data of the record the same way {@link #insertRecords} does and writes it.
+     */
+    public void write(final AirbyteRecordMessage record) throws IOException {
+      dataAdapter.ifPresent(adapter -> adapter.adapt(record.getData()));
+      writeRecordToCsv(csvPrinter, record);
+    }
+
+    /**
+     * Sends the remaining rows and completes the copy.
+     *
+     * @return the number of rows copied
+     */
+    public long end() throws IOException, SQLException {
+      csvPrinter.flush();
+      return outputStream.endCopy();
+    }
+
+    /**
+     * Cancels the copy if it has not been ended, so that none of its rows are committed.
+     */
+    @Override
+    public void close() throws SQLException {
+      if (outputStream.isActive()) {
+        outputStream.cancelCopy();
+      }
+    }
+
+  }
+
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.postgres;
+
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.base.sentry.AirbyteSentry;
+import io.airbyte.integrations.destination.buffered_stream_consumer.RecordSizeEstimator;
+import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import io.airbyte.integrations.destination.postgres.PostgresSqlOperations.CopyStream;
+import io.airbyte.integrations.destination.record_buffer.BufferingStrategy;
+import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes records into the tmp tables of their streams as they arrive, instead of buffering them in
+ * memory until a batch is inserted. Each stream that has received records since the last flush has
+ * a COPY in progress on a connection of its own, so up to {@code maxConcurrentCopies} streams are
+ * loaded at the same time.
+ * <p>
+ * A flush ends every copy in progress, which commits their rows. Copies are therefore only ended
+ * all together: the tmp tables then hold exactly the records received before the last flush, and
+ * the state messages received before it can be emitted once the tmp tables are copied to the final
+ * tables. A flush happens once {@code maxBytesBetweenFlushes} bytes of records have been received,
+ * and when a record of a stream without a copy in progress arrives while {@code maxConcurrentCopies}
+ * copies are.
+ */
+public class PostgresStreamingCopyBufferingStrategy implements BufferingStrategy {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PostgresStreamingCopyBufferingStrategy.class);
+
+  private final DataSource dataSource;
+  private final PostgresSqlOperations sqlOperations;
+  private final Map<AirbyteStreamNameNamespacePair, WriteConfig> pairToWriteConfig;
+  private final int maxConcurrentCopies;
+  private final long maxBytesBetweenFlushes;
+  private final RecordSizeEstimator recordSizeEstimator;
+
+  private final Map<AirbyteStreamNameNamespacePair, StreamCopy> streamCopies = new HashMap<>();
+  private long bytesSinceFlush;
+
+  public PostgresStreamingCopyBufferingStrategy(final DataSource dataSource,
+                                                final PostgresSqlOperations sqlOperations,
+                                                final List<WriteConfig> writeConfigs,
+                                                final int maxConcurrentCopies,
+                                                final long maxBytesBetweenFlushes) {
+    this.dataSource = dataSource;
+    this.sqlOperations = sqlOperations;
+    this.pairToWriteConfig = writeConfigs.stream()
+        .collect(Collectors.toUnmodifiableMap(
+            config -> new AirbyteStreamNameNamespacePair(config.getStreamName(), config.getNamespace()),
+            Function.identity()));
+    this.maxConcurrentCopies = maxConcurrentCopies;
+    this.maxBytesBetweenFlushes = maxBytesBetweenFlushes;
+    this.recordSizeEstimator = new RecordSizeEstimator();
+    this.bytesSinceFlush = 0;
+  }
+
+  @Override
+  public boolean addRecord(final AirbyteStreamNameNamespacePair stream, final AirbyteMessage message) throws Exception {
+    boolean didFlush = false;
+
+    final long messageSizeInBytes = recordSizeEstimator.getEstimatedByteSize(message.getRecord());
+    if (bytesSinceFlush + messageSizeInBytes > maxBytesBetweenFlushes
+        || (!streamCopies.containsKey(stream) && streamCopies.size() >= maxConcurrentCopies)) {
+      flushAll();
+      didFlush = true;
+    }
+
+    StreamCopy streamCopy = streamCopies.get(stream);
+    if (streamCopy == null) {
+      streamCopy = startCopy(stream);
+      streamCopies.put(stream, streamCopy);
+    }
+    streamCopy.copyStream().write(message.getRecord());
+    bytesSinceFlush += messageSizeInBytes;
+
+    return didFlush;
+  }
+
+  private StreamCopy startCopy(final AirbyteStreamNameNamespacePair stream) throws Exception {
+    final WriteConfig writeConfig = pairToWriteConfig.get(stream);
+    if (writeConfig == null) {
+      throw new IllegalArgumentException(String.format("Message contained record from a stream that was not in the catalog: %s", stream));
+    }
+    final Connection connection = dataSource.getConnection();
+    try {
+      return new StreamCopy(connection, sqlOperations.startCopy(connection, writeConfig.getOutputSchemaName(), writeConfig.getTmpTableName()));
+    } catch (final Exception e) {
+      connection.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Ends the copy of a single stream, which commits its rows, and returns its connection. The records
+   * are never held in a {@link SerializableBuffer}, so {@code writer} is ignored.
+   * <p>
+   * The records of the other streams are not committed by this, so this strategy itself only ever
+   * flushes all streams together, through {@link #flushAll()}.
+   */
+  @Override
+  public void flushWriter(final AirbyteStreamNameNamespacePair stream, final SerializableBuffer writer) throws Exception {
+    final StreamCopy streamCopy = streamCopies.remove(stream);
+    if (streamCopy != null) {
+      endCopy(stream, streamCopy);
+    }
+  }
+
+  @Override
+  public void flushAll() throws Exception {
+    AirbyteSentry.executeWithTracing("FlushBuffer", () -> {
+      LOGGER.info("Flushing {} streams ({})", streamCopies.size(), FileUtils.byteCountToDisplaySize(bytesSinceFlush));
+      // a copy is removed before it is ended, so that if ending it fails, close only cancels the copies
+      // that were not ended yet
+      final Iterator<Map.Entry<AirbyteStreamNameNamespacePair, StreamCopy>> iterator = streamCopies.entrySet().iterator();
+      while (iterator.hasNext()) {
+        final Map.Entry<AirbyteStreamNameNamespacePair, StreamCopy> entry = iterator.next();
+        iterator.remove();
+        endCopy(entry.getKey(), entry.getValue());
+      }
+    }, Map.of("bufferSizeInBytes", bytesSinceFlush));
+    bytesSinceFlush = 0;
+  }
+
+  private static void endCopy(final AirbyteStreamNameNamespacePair stream, final StreamCopy streamCopy) throws Exception {
+    try (final Connection connection = streamCopy.connection()) {
+      final long rowCount = streamCopy.copyStream().end();
+      LOGGER.info("Flushing {}: {} records", stream.getName(), rowCount);
+    }
+  }
+
+  @Override
+  public void clear() throws Exception {
+    close();
+  }
+
+  /**
+   * Cancels the copies that have not been ended and returns their connections.
+   */
+  @Override
+  public void close() throws Exception {
+    Exception exception = null;
+    for (final StreamCopy streamCopy : streamCopies.values()) {
+      try (final Connection connection = streamCopy.connection()) {
+        streamCopy.copyStream().close();
+      } catch (final Exception e) {
+        if (exception == null) {
+          exception = e;
+        } else {
+          exception.addSuppressed(e);
+        }
+      }
+    }
+    streamCopies.clear();
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  private record StreamCopy(Connection connection, CopyStream copyStream) {}
+
+}
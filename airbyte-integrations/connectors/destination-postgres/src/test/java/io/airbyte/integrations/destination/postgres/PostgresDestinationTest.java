@@ -7,6 +7,7 @@ package io.airbyte.integrations.destination.postgres;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.jdbc.JdbcDatabase;
@@ -32,6 +33,8 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.testcontainers.containers.PostgreSQLContainer;
 
 public class PostgresDestinationTest {
@@ -129,8 +132,10 @@ public class PostgresDestinationTest {
   // This test is a bit redundant with PostgresIntegrationTest. It makes it easy to run the
   // destination in the same process as the test allowing us to put breakpoint in, which is handy for
   // debugging (especially since we use postgres as a guinea pig for most features).
-  @Test
-  void sanityTest() throws Exception {
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  void sanityTest(final boolean streamingCopy) throws Exception {
+    ((ObjectNode) config).put(PostgresDestination.STREAMING_COPY_KEY, streamingCopy);
     final Destination destination = new PostgresDestination();
     final AirbyteMessageConsumer consumer = destination.getConsumer(config, CATALOG, Destination::defaultOutputRecordCollector);
     final List<AirbyteMessage> expectedRecords = getNRecords(10);
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.postgres;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.destination.buffered_stream_consumer.RecordSizeEstimator;
+import io.airbyte.integrations.destination.jdbc.WriteConfig;
+import io.airbyte.integrations.destination.postgres.PostgresSqlOperations.CopyStream;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.DestinationSyncMode;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PostgresStreamingCopyBufferingStrategyTest {
+
+  private static final String NAMESPACE = "public";
+  private static final int MAX_CONCURRENT_COPIES = 8;
+  private static final List<String> STREAMS = IntStream.range(0, MAX_CONCURRENT_COPIES + 1)
+      .mapToObj(i -> "stream_" + i)
+      .collect(Collectors.toList());
+
+  private DataSource dataSource;
+  private PostgresSqlOperations sqlOperations;
+  private List<WriteConfig> writeConfigs;
+  private Map<String, CopyStream> tableToCopyStream;
+
+  @BeforeEach
+  void setup() throws Exception {
+    dataSource = mock(DataSource.class);
+    when(dataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    sqlOperations = mock(PostgresSqlOperations.class);
+    tableToCopyStream = new HashMap<>();
+    when(sqlOperations.startCopy(any(), eq(NAMESPACE), anyString())).thenAnswer(invocation -> {
+      final CopyStream copyStream = mock(CopyStream.class);
+      tableToCopyStream.put(invocation.getArgument(2), copyStream);
+      return copyStream;
+    });
+    writeConfigs = STREAMS.stream()
+        .map(stream -> new WriteConfig(stream, NAMESPACE, NAMESPACE, "tmp_" + stream, stream, DestinationSyncMode.APPEND))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void testFlushesWhenTooManyStreamsAreCopied() throws Exception {
+    final PostgresStreamingCopyBufferingStrategy bufferingStrategy =
+        new PostgresStreamingCopyBufferingStrategy(dataSource, sqlOperations, writeConfigs, MAX_CONCURRENT_COPIES, Long.MAX_VALUE);
+
+    for (int i = 0; i < MAX_CONCURRENT_COPIES; i++) {
+      assertFalse(bufferingStrategy.addRecord(getPair(STREAMS.get(i)), getRecord(STREAMS.get(i))));
+    }
+    // a record of a stream that already has a copy in progress does not need another copy
+    assertFalse(bufferingStrategy.addRecord(getPair(STREAMS.get(0)), getRecord(STREAMS.get(0))));
+    for (int i = 0; i < MAX_CONCURRENT_COPIES; i++) {
+      verify(tableToCopyStream.get("tmp_" + STREAMS.get(i)), never()).end();
+    }
+
+    final String lastStream = STREAMS.get(MAX_CONCURRENT_COPIES);
+    assertTrue(bufferingStrategy.addRecord(getPair(lastStream), getRecord(lastStream)));
+    for (int i = 0; i < MAX_CONCURRENT_COPIES; i++) {
+      verify(tableToCopyStream.get("tmp_" + STREAMS.get(i))).end();
+    }
+    verify(tableToCopyStream.get("tmp_" + lastStream), never()).end();
+    verify(tableToCopyStream.get("tmp_" + lastStream)).write(any());
+
+    bufferingStrategy.flushAll();
+    verify(tableToCopyStream.get("tmp_" + lastStream)).end();
+  }
+
+  @Test
+  void testFlushesOnceMaxBytesAreReceived() throws Exception {
+    final String stream = STREAMS.get(0);
+    final long recordSize = new RecordSizeEstimator().getEstimatedByteSize(getRecord(stream).getRecord());
+    final PostgresStreamingCopyBufferingStrategy bufferingStrategy =
+        new PostgresStreamingCopyBufferingStrategy(dataSource, sqlOperations, writeConfigs, MAX_CONCURRENT_COPIES, 3 * recordSize);
+
+    for (int i = 0; i < 3; i++) {
+      assertFalse(bufferingStrategy.addRecord(getPair(stream), getRecord(stream)));
+    }
+    final CopyStream firstCopy = tableToCopyStream.get("tmp_" + stream);
+    verify(firstCopy, never()).end();
+
+    // the 4th record would exceed the limit, so the records received so far are committed first
+    assertTrue(bufferingStrategy.addRecord(getPair(stream), getRecord(stream)));
+    verify(firstCopy).end();
+    verify(firstCopy, times(3)).write(any());
+    final CopyStream secondCopy = tableToCopyStream.get("tmp_" + stream);
+    verify(secondCopy).write(any());
+    verify(sqlOperations, times(2)).startCopy(any(), eq(NAMESPACE), eq("tmp_" + stream));
+  }
+
+  @Test
+  void testFlushWriterOnlyEndsTheCopyOfItsStream() throws Exception {
+    final PostgresStreamingCopyBufferingStrategy bufferingStrategy =
+        new PostgresStreamingCopyBufferingStrategy(dataSource, sqlOperations, writeConfigs, MAX_CONCURRENT_COPIES, Long.MAX_VALUE);
+
+    bufferingStrategy.addRecord(getPair(STREAMS.get(0)), getRecord(STREAMS.get(0)));
+    bufferingStrategy.addRecord(getPair(STREAMS.get(1)), getRecord(STREAMS.get(1)));
+    bufferingStrategy.flushWriter(getPair(STREAMS.get(0)), null);
+    verify(tableToCopyStream.get("tmp_" + STREAMS.get(0))).end();
+    verify(tableToCopyStream.get("tmp_" + STREAMS.get(1)), never()).end();
+
+    bufferingStrategy.close();
+    verify(tableToCopyStream.get("tmp_" + STREAMS.get(1))).close();
+  }
+
+  private static AirbyteStreamNameNamespacePair getPair(final String stream) {
+    return new AirbyteStreamNameNamespacePair(stream, NAMESPACE);
+  }
+
+  private static AirbyteMessage getRecord(final String stream) {
+    return new AirbyteMessage()
+        .withType(Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(stream)
+            .withNamespace(NAMESPACE)
+            .withEmittedAt(1L)
+            .withData(Jsons.jsonNode(Map.of("id", 1, "name", "name"))));
+  }
+
+}
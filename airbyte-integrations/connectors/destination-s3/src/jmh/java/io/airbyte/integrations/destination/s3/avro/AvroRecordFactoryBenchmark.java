@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link AvroRecordFactory#getAvroRecord(UUID, AirbyteRecordMessage)} throughput
+ * (records/sec) with converting the serialized record with the {@link AvroConstants#JSON_CONVERTER},
+ * for a flat record and for a deeply nested one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AvroRecordFactoryBenchmark {
+
+  private static final ObjectMapper MAPPER = MoreMappers.initMapper();
+  private static final ObjectWriter WRITER = MAPPER.writer();
+  private static final int FIELDS = 20;
+  private static final int NESTING_DEPTH = 5;
+
+  @Param({"flat", "nested"})
+  public String shape;
+
+  private Schema schema;
+  private AvroRecordFactory recordFactory;
+  private AirbyteRecordMessage recordMessage;
+  private UUID id;
+
+  @Setup
+  public void setup() {
+    final ObjectNode jsonSchema = objectSchema();
+    final ObjectNode data = MAPPER.createObjectNode();
+    if (shape.equals("flat")) {
+      for (int i = 0; i < FIELDS; i++) {
+        addField(jsonSchema, data, i);
+      }
+    } else {
+      addNestedFields(jsonSchema, data, NESTING_DEPTH);
+    }
+    schema = new JsonToAvroSchemaConverter().getAvroSchema(jsonSchema, "benchmark", null);
+    recordFactory = new AvroRecordFactory(schema, AvroConstants.JSON_CONVERTER);
+    recordMessage = new AirbyteRecordMessage().withStream("benchmark").withEmittedAt(System.currentTimeMillis()).withData(data);
+    id = UUID.randomUUID();
+  }
+
+  @Benchmark
+  public GenericData.Record avroRecordFactory() throws JsonProcessingException {
+    return recordFactory.getAvroRecord(id, recordMessage);
+  }
+
+  @Benchmark
+  public GenericData.Record jsonConverter() throws JsonProcessingException {
+    final ObjectNode jsonRecord = MAPPER.createObjectNode();
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
+    jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
+    jsonRecord.setAll((ObjectNode) recordMessage.getData());
+    return AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), schema);
+  }
+
+  private static ObjectNode objectSchema() {
+    final ObjectNode schema = MAPPER.createObjectNode();
+    schema.put("type", "object");
+    schema.putObject("properties");
+    return schema;
+  }
+
+  /**
+   * Cycles through the column types commonly found in records.
+   */
+  private static void addField(final ObjectNode schema, final ObjectNode data, final int index) {
+    final ObjectNode properties = (ObjectNode) schema.get("properties");
+    final String name = "field_" + index;
+    switch (index % 5) {
+      case 0 -> {
+        properties.set(name, Jsons.jsonNode(Map.of("type", "integer")));
+        data.put(name, index * 1000);
+      }
+      case 1 -> {
+        properties.set(name, Jsons.jsonNode(Map.of("type", "number")));
+        data.put(name, index * 1.5);
+      }
+      case 2 -> {
+        properties.set(name, Jsons.jsonNode(Map.of("type", "boolean")));
+        data.put(name, index % 2 == 0);
+      }
+      case 3 -> {
+        properties.set(name, Jsons.jsonNode(Map.of("type", "string", "format", "date-time")));
+        data.put(name, "2022-07-01T10:15:30.123+02:00");
+      }
+      default -> {
+        properties.set(name, Jsons.jsonNode(Map.of("type", "string")));
+        data.put(name, "value of field " + index);
+      }
+    }
+  }
+
+  /**
+   * Each level has a few columns, a child object and an array of two child objects.
+   */
+  private static void addNestedFields(final ObjectNode schema, final ObjectNode data, final int depth) {
+    for (int i = 0; i < 4; i++) {
+      addField(schema, data, i);
+    }
+    if (depth > 0) {
+      final ObjectNode properties = (ObjectNode) schema.get("properties");
+      final ObjectNode childSchema = objectSchema();
+      addNestedFields(childSchema, data.putObject("child"), depth - 1);
+      properties.set("child", childSchema);
+
+      final ObjectNode childrenSchema = properties.putObject("children");
+      childrenSchema.put("type", "array");
+      final ObjectNode itemsSchema = objectSchema();
+      final ArrayNode children = data.putArray("children");
+      addNestedFields(itemsSchema, children.addObject(), depth - 1);
+      children.add(children.get(0).deepCopy());
+      childrenSchema.set("items", itemsSchema);
+    }
+  }
+
+}
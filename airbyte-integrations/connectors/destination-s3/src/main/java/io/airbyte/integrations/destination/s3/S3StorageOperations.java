@@ -14,12 +14,14 @@ import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.record_buffer.SerializableBuffer;
 import io.airbyte.integrations.destination.s3.template.S3FilenameTemplateManager;
 import io.airbyte.integrations.destination.s3.template.S3FilenameTemplateParameterObject;
+import io.airbyte.integrations.destination.s3.util.MultipartUploadPlan;
 import io.airbyte.integrations.destination.s3.util.StreamTransferManagerFactory;
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,7 +31,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
@@ -42,9 +49,6 @@ public class S3StorageOperations extends BlobStorageOperations {
 
   private final S3FilenameTemplateManager s3FilenameTemplateManager = new S3FilenameTemplateManager();
 
-  private static final int DEFAULT_UPLOAD_THREADS = 10; // The S3 cli uses 10 threads by default.
-  private static final int DEFAULT_QUEUE_CAPACITY = DEFAULT_UPLOAD_THREADS;
-  private static final int DEFAULT_PART_SIZE = 10;
   private static final int UPLOAD_RETRY_LIMIT = 3;
 
   private static final String FORMAT_VARIABLE_NAMESPACE = "${NAMESPACE}";
@@ -62,7 +66,11 @@ public class S3StorageOperations extends BlobStorageOperations {
 
   private final NamingConventionTransformer nameTransformer;
   protected final S3DestinationConfig s3Config;
-  protected AmazonS3 s3Client;
+  // replaced when an upload is retried, possibly while other threads are uploading other buffers
+  protected volatile AmazonS3 s3Client;
+  private final Object s3ClientLock = new Object();
+  // next part id of each object path, seeded from a single listing of the path
+  private final ConcurrentMap<String, AtomicLong> nextPartIds = new ConcurrentHashMap<>();
 
   public S3StorageOperations(final NamingConventionTransformer nameTransformer, final AmazonS3 s3Client, final S3DestinationConfig s3Config) {
     this.nameTransformer = nameTransformer;
@@ -115,15 +123,16 @@ public class S3StorageOperations extends BlobStorageOperations {
                                       final String streamName,
                                       final String objectPath) {
     final List<Exception> exceptionsThrown = new ArrayList<>();
+    AmazonS3 client = s3Client;
     while (exceptionsThrown.size() < UPLOAD_RETRY_LIMIT) {
       if (!exceptionsThrown.isEmpty()) {
         LOGGER.info("Retrying to upload records into storage {} ({}/{}})", objectPath, exceptionsThrown.size(), UPLOAD_RETRY_LIMIT);
         // Force a reconnection before retrying in case error was due to network issues...
-        s3Client = s3Config.resetS3Client();
+        client = resetS3Client(client);
       }
 
       try {
-        return loadDataIntoBucket(objectPath, recordsData);
+        return loadDataIntoBucket(client, objectPath, recordsData);
       } catch (final Exception e) {
         LOGGER.error("Failed to upload records into storage {}", objectPath, e);
         exceptionsThrown.add(e);
@@ -132,13 +141,30 @@ public class S3StorageOperations extends BlobStorageOperations {
     throw new RuntimeException(String.format("Exceptions thrown while uploading records into storage: %s", Strings.join(exceptionsThrown, "\n")));
   }
 
+  /**
+   * Replaces the client an upload failed with. Uploads running concurrently may fail on the same
+   * client, in which case only the first of them replaces it and the others retry with its
+   * replacement, instead of shutting down the replacement under each other's feet.
+   *
+   * @return the client to retry the upload with
+   */
+  @VisibleForTesting
+  AmazonS3 resetS3Client(final AmazonS3 failedClient) {
+    synchronized (s3ClientLock) {
+      if (s3Client == failedClient) {
+        s3Client = s3Config.resetS3Client();
+      }
+      return s3Client;
+    }
+  }
+
   /**
    * Upload the file from {@code recordsData} to S3 and simplify the filename as <partId>.<extension>.
    *
    * @return the uploaded filename, which is different from the serialized buffer filename
    */
-  private String loadDataIntoBucket(final String objectPath, final SerializableBuffer recordsData) throws IOException {
-    final long partSize = DEFAULT_PART_SIZE;
+  private String loadDataIntoBucket(final AmazonS3 client, final String objectPath, final SerializableBuffer recordsData) throws IOException {
+    final MultipartUploadPlan uploadPlan = MultipartUploadPlan.forByteCount(recordsData.getByteCount());
     final String bucket = s3Config.getBucketName();
     final String partId = getPartId(objectPath);
     final String fileExtension = getExtension(recordsData.getFilename());
@@ -161,14 +187,15 @@ public class S3StorageOperations extends BlobStorageOperations {
     for (final BlobDecorator blobDecorator : blobDecorators) {
       blobDecorator.updateMetadata(metadata, getMetadataMapping());
     }
-    final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, s3Client)
-        .setPartSize(partSize)
+    final StreamTransferManager uploadManager = StreamTransferManagerFactory.create(bucket, fullObjectKey, client)
+        .setPartSize(uploadPlan.partSizeMb())
         .setUserMetadata(metadata)
         .get()
         .checkIntegrity(true)
-        .numUploadThreads(DEFAULT_UPLOAD_THREADS)
-        .queueCapacity(DEFAULT_QUEUE_CAPACITY);
+        .numUploadThreads(uploadPlan.uploadThreads())
+        .queueCapacity(uploadPlan.queueCapacity());
     boolean succeeded = false;
+    final Stopwatch stopwatch = Stopwatch.createStarted();
 
     // Wrap output stream in decorators
     OutputStream rawOutputStream = uploadManager.getMultiPartOutputStreams().get(0);
@@ -190,12 +217,17 @@ public class S3StorageOperations extends BlobStorageOperations {
         uploadManager.complete();
       }
     }
-    if (!s3Client.doesObjectExist(bucket, fullObjectKey)) {
+    if (!client.doesObjectExist(bucket, fullObjectKey)) {
       LOGGER.error("Failed to upload data into storage, object {} not found", fullObjectKey);
       throw new RuntimeException("Upload failed");
     }
+    final long uploadMillis = Math.max(1, stopwatch.elapsed(TimeUnit.MILLISECONDS));
     final String newFilename = getFilename(fullObjectKey);
-    LOGGER.info("Uploaded buffer file to storage: {} -> {} (filename: {})", recordsData.getFilename(), fullObjectKey, newFilename);
+    LOGGER.info("Uploaded buffer file to storage: {} -> {} (filename: {}, {} in {} ms, {}/s, {} MB parts on {} threads)",
+        recordsData.getFilename(), fullObjectKey, newFilename,
+        FileUtils.byteCountToDisplaySize(recordsData.getByteCount()), uploadMillis,
+        FileUtils.byteCountToDisplaySize(recordsData.getByteCount() * 1000 / uploadMillis),
+        uploadPlan.partSizeMb(), uploadPlan.uploadThreads());
     return newFilename;
   }
 
@@ -214,15 +246,25 @@ public class S3StorageOperations extends BlobStorageOperations {
     return "." + result;
   }
 
-  private String getPartId(final String objectPath) {
+  /**
+   * Numbers the files uploaded to an object path. The path is listed once, the first time a file is
+   * uploaded to it, and the files uploaded afterwards are numbered from the number of objects it
+   * held then.
+   */
+  @VisibleForTesting
+  String getPartId(final String objectPath) {
+    return Long.toString(nextPartIds.computeIfAbsent(objectPath, path -> new AtomicLong(countObjects(path))).getAndIncrement());
+  }
+
+  private long countObjects(final String objectPath) {
     final String bucket = s3Config.getBucketName();
-    final ObjectListing objects = s3Client.listObjects(bucket, objectPath);
-    if (objects.isTruncated()) {
-      // bucket contains too many objects, use an uuid instead
-      return UUID.randomUUID().toString();
-    } else {
-      return Integer.toString(objects.getObjectSummaries().size());
+    ObjectListing objects = s3Client.listObjects(bucket, objectPath);
+    long count = objects.getObjectSummaries().size();
+    while (objects.isTruncated()) {
+      objects = s3Client.listNextBatchOfObjects(objects);
+      count += objects.getObjectSummaries().size();
     }
+    return count;
   }
 
   @Override
@@ -17,6 +17,11 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
 
+/**
+ * Converts records to Avro. Records are converted directly from their JSON tree when possible, see
+ * {@link JsonToAvroRecordConverter}, and otherwise serialized and converted by the
+ * {@link JsonAvroConverter}.
+ */
 public class AvroRecordFactory {
 
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
@@ -24,13 +29,22 @@ public class AvroRecordFactory {
 
   private final Schema schema;
   private final JsonAvroConverter converter;
+  // only knows how the default converter handles values, so other converters always take the slow path
+  private final JsonToAvroRecordConverter recordConverter;
 
   public AvroRecordFactory(final Schema schema, final JsonAvroConverter converter) {
     this.schema = schema;
     this.converter = converter;
+    this.recordConverter = converter == AvroConstants.JSON_CONVERTER ? new JsonToAvroRecordConverter(schema) : null;
   }
 
   public GenericData.Record getAvroRecord(final UUID id, final AirbyteRecordMessage recordMessage) throws JsonProcessingException {
+    if (recordConverter != null && recordMessage.getEmittedAt() != null) {
+      final GenericData.Record record = recordConverter.convert(id.toString(), recordMessage.getEmittedAt(), recordMessage.getData());
+      if (record != null) {
+        return record;
+      }
+    }
     final ObjectNode jsonRecord = MAPPER.createObjectNode();
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString());
     jsonRecord.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
@@ -40,6 +54,12 @@ public class AvroRecordFactory {
   }
 
   public GenericData.Record getAvroRecord(JsonNode formattedData) throws JsonProcessingException {
+    if (recordConverter != null) {
+      final GenericData.Record record = recordConverter.convert(formattedData);
+      if (record != null) {
+        return record;
+      }
+    }
     var bytes = WRITER.writeValueAsBytes(formattedData);
     return converter.convertToGenericDataRecord(bytes, schema);
   }
@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+/**
+ * Converts JSON records to Avro records by walking the {@link JsonNode} tree against an Avro schema
+ * generated by {@link JsonToAvroSchemaConverter}, instead of serializing the record and having
+ * {@link AvroConstants#JSON_CONVERTER} parse it again.
+ * <p>
+ * The walk is compiled once per schema into a tree of converters. It only covers the values whose
+ * conversion by {@link AvroConstants#JSON_CONVERTER} is unambiguous: matching primitive types,
+ * records, arrays, nulls and ISO-8601 dates and times. When a record contains anything else, e.g.
+ * additional properties or a value that does not match its field type, {@link #convert} returns
+ * null and the record must go through {@link AvroConstants#JSON_CONVERTER} so that the output stays
+ * identical.
+ */
+class JsonToAvroRecordConverter {
+
+  /**
+   * The value is certainly rejected by the type, a union moves on to its next type.
+   */
+  private static final Object INCOMPATIBLE = new Object();
+  /**
+   * The value cannot be converted here, the whole record has to be converted the slow way.
+   */
+  private static final Object UNSUPPORTED = new Object();
+
+  private static final DateTimeFormatter TIME_FORMATTER = new DateTimeFormatterBuilder()
+      .appendPattern("HH:mm:ss")
+      .optionalStart()
+      .appendFraction(ChronoField.NANO_OF_SECOND, 1, 9, true)
+      .optionalEnd()
+      .toFormatter()
+      .withResolverStyle(ResolverStyle.STRICT);
+  private static final DateTimeFormatter TIMESTAMP_WITH_TIMEZONE_FORMATTER = new DateTimeFormatterBuilder()
+      .append(DateTimeFormatter.ISO_LOCAL_DATE)
+      .appendLiteral('T')
+      .append(TIME_FORMATTER)
+      .appendOffset("+HH:MM", "Z")
+      .toFormatter()
+      .withResolverStyle(ResolverStyle.STRICT);
+
+  private final RecordConverter root;
+  private final FieldConverter idField;
+  private final FieldConverter emittedAtField;
+
+  JsonToAvroRecordConverter(final Schema schema) {
+    this.root = (RecordConverter) compile(schema, new IdentityHashMap<>());
+    this.idField = root.fieldsByName.get(JavaBaseConstants.COLUMN_NAME_AB_ID);
+    this.emittedAtField = root.fieldsByName.get(JavaBaseConstants.COLUMN_NAME_EMITTED_AT);
+  }
+
+  /**
+   * Converts a record the same way as {@link AvroRecordFactory#getAvroRecord(JsonNode)}.
+   *
+   * @return the Avro record, or null if it has to be converted by the {@link AvroConstants#JSON_CONVERTER}
+   */
+  GenericData.Record convert(final JsonNode data) {
+    if (data == null || !data.isObject()) {
+      return null;
+    }
+    final RecordBuilder record = root.newRecord();
+    return record.setAll(data) ? record.build() : null;
+  }
+
+  /**
+   * Converts a record the same way as
+   * {@link AvroRecordFactory#getAvroRecord(java.util.UUID, io.airbyte.protocol.models.AirbyteRecordMessage)},
+   * that is with the airbyte id and emission timestamp followed by the record data.
+   *
+   * @return the Avro record, or null if it has to be converted by the {@link AvroConstants#JSON_CONVERTER}
+   */
+  GenericData.Record convert(final String id, final long emittedAt, final JsonNode data) {
+    if (idField == null || emittedAtField == null || data == null || !data.isObject()) {
+      return null;
+    }
+    final RecordBuilder record = root.newRecord();
+    final boolean converted = record.set(idField, TextNode.valueOf(id))
+        && record.set(emittedAtField, LongNode.valueOf(emittedAt))
+        && record.setAll(data);
+    return converted ? record.build() : null;
+  }
+
+  private static ValueConverter compile(final Schema schema, final Map<Schema, RecordConverter> records) {
+    final LogicalType logicalType = schema.getLogicalType();
+    if (logicalType != null) {
+      return compileLogicalType(schema.getType(), logicalType);
+    }
+    return switch (schema.getType()) {
+      case NULL -> json -> json == null || json.isNull() ? null : INCOMPATIBLE;
+      case STRING -> JsonToAvroRecordConverter::convertString;
+      case BOOLEAN -> json -> isMissing(json) ? UNSUPPORTED : json.isBoolean() ? json.booleanValue() : INCOMPATIBLE;
+      // fractions and numbers out of range are converted one way or another by the JSON_CONVERTER
+      case INT -> json -> convertNumber(json, number -> number.isIntegralNumber() && number.canConvertToInt() ? number.intValue() : UNSUPPORTED);
+      case LONG -> json -> convertNumber(json, number -> number.isIntegralNumber() && number.canConvertToLong() ? number.longValue() : UNSUPPORTED);
+      case FLOAT -> json -> convertNumber(json, number -> Double.isFinite(number.doubleValue()) ? number.floatValue() : UNSUPPORTED);
+      case DOUBLE -> json -> convertNumber(json, number -> Double.isFinite(number.doubleValue()) ? number.doubleValue() : UNSUPPORTED);
+      case ARRAY -> new ArrayConverter(compile(schema.getElementType(), records));
+      case UNION -> new UnionConverter(schema.getTypes().stream().map(type -> compile(type, records)).toList());
+      case RECORD -> {
+        // records may be referenced again further down their own schema
+        RecordConverter record = records.get(schema);
+        if (record == null) {
+          record = new RecordConverter(schema);
+          records.put(schema, record);
+          record.compileFields(records);
+        }
+        yield record;
+      }
+      default -> json -> UNSUPPORTED;
+    };
+  }
+
+  private static ValueConverter compileLogicalType(final Schema.Type type, final LogicalType logicalType) {
+    return switch (type + " " + logicalType.getName()) {
+      case "STRING uuid" -> json -> json != null && json.isTextual() ? json.textValue() : UNSUPPORTED;
+      case "LONG timestamp-millis" -> json -> json != null && json.isIntegralNumber() && json.canConvertToLong() ? json.longValue() : UNSUPPORTED;
+      case "LONG timestamp-micros" -> json -> parseText(json, text -> {
+        final OffsetDateTime timestamp = OffsetDateTime.parse(text, TIMESTAMP_WITH_TIMEZONE_FORMATTER);
+        if (timestamp.getNano() % 1000 != 0) {
+          return UNSUPPORTED;
+        }
+        return TimeUnit.SECONDS.toMicros(timestamp.toEpochSecond()) + timestamp.getNano() / 1000;
+      });
+      case "LONG time-micros" -> json -> parseText(json, text -> {
+        final LocalTime time = LocalTime.parse(text, TIME_FORMATTER);
+        return time.getNano() % 1000 != 0 ? UNSUPPORTED : time.toNanoOfDay() / 1000;
+      });
+      case "INT date" -> json -> parseText(json, text -> (int) LocalDate.parse(text, DateTimeFormatter.ISO_LOCAL_DATE).toEpochDay());
+      default -> json -> UNSUPPORTED;
+    };
+  }
+
+  private static boolean isMissing(final JsonNode json) {
+    return json == null || json.isNull();
+  }
+
+  private static Object convertString(final JsonNode json) {
+    if (isMissing(json)) {
+      return UNSUPPORTED;
+    }
+    // other values end up as strings too when no other type of a union accepts them, but exactly how
+    // they are written is up to the JSON_CONVERTER
+    return json.isTextual() ? json.textValue() : INCOMPATIBLE;
+  }
+
+  private static Object convertNumber(final JsonNode json, final Function<JsonNode, Object> numberConverter) {
+    if (isMissing(json)) {
+      return UNSUPPORTED;
+    }
+    return json.isNumber() ? numberConverter.apply(json) : INCOMPATIBLE;
+  }
+
+  /**
+   * Strings that are not in one of the formats understood here may still be understood by the
+   * JSON_CONVERTER, so they are never treated as incompatible.
+   */
+  private static Object parseText(final JsonNode json, final TextParser parser) {
+    if (json == null || !json.isTextual()) {
+      return UNSUPPORTED;
+    }
+    try {
+      return parser.parse(json.textValue());
+    } catch (final DateTimeParseException e) {
+      return UNSUPPORTED;
+    }
+  }
+
+  @FunctionalInterface
+  private interface TextParser {
+
+    Object parse(String text);
+
+  }
+
+  @FunctionalInterface
+  private interface ValueConverter {
+
+    /**
+     * @return the Avro value, {@link #INCOMPATIBLE} or {@link #UNSUPPORTED}
+     */
+    Object convert(JsonNode json);
+
+  }
+
+  private record FieldConverter(int position, ValueConverter converter) {}
+
+  private record ArrayConverter(ValueConverter elementConverter) implements ValueConverter {
+
+    @Override
+    public Object convert(final JsonNode json) {
+      if (isMissing(json)) {
+        return UNSUPPORTED;
+      }
+      if (!json.isArray()) {
+        return INCOMPATIBLE;
+      }
+      final List<Object> elements = new ArrayList<>(json.size());
+      for (final JsonNode element : json) {
+        final Object value = elementConverter.convert(element);
+        if (value == INCOMPATIBLE || value == UNSUPPORTED) {
+          return UNSUPPORTED;
+        }
+        elements.add(value);
+      }
+      return elements;
+    }
+
+  }
+
+  /**
+   * The first type of the union that accepts the value wins.
+   */
+  private record UnionConverter(List<ValueConverter> typeConverters) implements ValueConverter {
+
+    @Override
+    public Object convert(final JsonNode json) {
+      for (final ValueConverter typeConverter : typeConverters) {
+        final Object value = typeConverter.convert(json);
+        if (value != INCOMPATIBLE) {
+          return value;
+        }
+      }
+      return UNSUPPORTED;
+    }
+
+  }
+
+  private static final class RecordConverter implements ValueConverter {
+
+    private final Schema schema;
+    private final Map<String, FieldConverter> fieldsByName;
+    /**
+     * JSON keys resolved to the field they are written to, so that each key is only standardized once.
+     */
+    private final Map<String, FieldConverter> fieldsByJsonKey;
+    private Object[] defaultValues;
+    private boolean[] hasDefaultValue;
+
+    private RecordConverter(final Schema schema) {
+      this.schema = schema;
+      this.fieldsByName = new HashMap<>();
+      this.fieldsByJsonKey = new ConcurrentHashMap<>();
+    }
+
+    private void compileFields(final Map<Schema, RecordConverter> records) {
+      final List<Schema.Field> fields = schema.getFields();
+      defaultValues = new Object[fields.size()];
+      hasDefaultValue = new boolean[fields.size()];
+      for (final Schema.Field field : fields) {
+        fieldsByName.put(field.name(), new FieldConverter(field.pos(), compile(field.schema(), records)));
+        hasDefaultValue[field.pos()] = field.hasDefaultValue();
+        defaultValues[field.pos()] = field.hasDefaultValue() ? GenericData.get().getDefaultValue(field) : null;
+      }
+    }
+
+    private RecordBuilder newRecord() {
+      return new RecordBuilder(this);
+    }
+
+    @Override
+    public Object convert(final JsonNode json) {
+      if (isMissing(json)) {
+        return UNSUPPORTED;
+      }
+      if (!json.isObject()) {
+        return INCOMPATIBLE;
+      }
+      final RecordBuilder record = newRecord();
+      final GenericData.Record result = record.setAll(json) ? record.build() : null;
+      return result == null ? UNSUPPORTED : result;
+    }
+
+    /**
+     * @return null if the key has to end up in the additional properties
+     */
+    private FieldConverter getField(final String jsonKey) {
+      final FieldConverter field = fieldsByJsonKey.get(jsonKey);
+      if (field != null || AvroConstants.JSON_EXTRA_PROPS_FIELDS.contains(jsonKey)) {
+        return field;
+      }
+      final FieldConverter standardizedField = fieldsByName.get(AvroConstants.NAME_TRANSFORMER.getIdentifier(jsonKey));
+      if (standardizedField != null) {
+        fieldsByJsonKey.put(jsonKey, standardizedField);
+      }
+      return standardizedField;
+    }
+
+  }
+
+  private static final class RecordBuilder {
+
+    private final RecordConverter converter;
+    private final GenericData.Record record;
+    private final boolean[] isSet;
+
+    private RecordBuilder(final RecordConverter converter) {
+      this.converter = converter;
+      this.record = new GenericData.Record(converter.schema);
+      this.isSet = new boolean[converter.defaultValues.length];
+    }
+
+    private boolean set(final FieldConverter field, final JsonNode json) {
+      final Object value = field.converter().convert(json);
+      if (value == INCOMPATIBLE || value == UNSUPPORTED) {
+        return false;
+      }
+      record.put(field.position(), value);
+      isSet[field.position()] = true;
+      return true;
+    }
+
+    private boolean setAll(final JsonNode json) {
+      final Iterator<Map.Entry<String, JsonNode>> entries = json.fields();
+      while (entries.hasNext()) {
+        final Map.Entry<String, JsonNode> entry = entries.next();
+        final FieldConverter field = converter.getField(entry.getKey());
+        if (field == null || !set(field, entry.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Fields without a value get their default value. Records missing a field without one are left to
+     * the JSON_CONVERTER to reject.
+     */
+    private GenericData.Record build() {
+      for (int i = 0; i < isSet.length; i++) {
+        if (!isSet[i]) {
+          if (!converter.hasDefaultValue[i]) {
+            return null;
+          }
+          final Object defaultValue = converter.defaultValues[i];
+          record.put(i, defaultValue == null ? null : GenericData.get().deepCopy(converter.schema.getFields().get(i).schema(), defaultValue));
+        }
+      }
+      return record;
+    }
+
+  }
+
+}
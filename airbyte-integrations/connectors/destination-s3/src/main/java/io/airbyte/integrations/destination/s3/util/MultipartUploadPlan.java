@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+/**
+ * The part size and the number of threads of a multipart upload, sized from the number of bytes
+ * to upload.
+ * <p>
+ * Parts are {@link #MIN_PART_SIZE_MB} large unless the object would then need more than
+ * {@link #MAX_PARTS} parts, in which case they are just large enough for it to fit. One upload
+ * thread is used per part, up to {@link #MAX_UPLOAD_THREADS}, and the queue holds as many parts as
+ * there are threads: small buffers don't hold on to threads and part buffers they can't fill, while
+ * the memory used by an upload stays below (2 * {@link #MAX_UPLOAD_THREADS}) parts.
+ */
+public record MultipartUploadPlan(long partSizeMb, int uploadThreads, int queueCapacity) {
+
+  public static final int MIN_PART_SIZE_MB = 10;
+  public static final int MAX_UPLOAD_THREADS = 10; // The S3 cli uses 10 threads by default.
+  // S3 and GCS allow at most 10,000 parts per upload
+  public static final long MAX_PARTS = 10_000;
+
+  private static final long MB = 1024 * 1024;
+
+  public static MultipartUploadPlan forByteCount(final long byteCount) {
+    final long partSizeMb = Math.min(
+        StreamTransferManagerFactory.MAX_ALLOWED_PART_SIZE_MB,
+        Math.max(MIN_PART_SIZE_MB, ceilDiv(ceilDiv(byteCount, MAX_PARTS), MB)));
+    final long parts = Math.max(1, ceilDiv(byteCount, partSizeMb * MB));
+    final int uploadThreads = (int) Math.min(MAX_UPLOAD_THREADS, parts);
+    return new MultipartUploadPlan(partSizeMb, uploadThreads, uploadThreads);
+  }
+
+  private static long ceilDiv(final long dividend, final long divisor) {
+    return (dividend + divisor - 1) / divisor;
+  }
+
+}
@@ -6,9 +6,13 @@ package io.airbyte.integrations.destination.s3;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +24,11 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
 import io.airbyte.integrations.destination.NamingConventionTransformer;
 import io.airbyte.integrations.destination.s3.util.S3NameTransformer;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import org.joda.time.DateTime;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +43,7 @@ public class S3StorageOperationsTest {
   private static final String STREAM_NAME = "stream_name1";
   private static final String OBJECT_TO_DELETE = NAMESPACE + "/" + STREAM_NAME + "/2022_04_04_123456789_0.csv.gz";
   private AmazonS3 s3Client;
+  private S3DestinationConfig s3Config;
   private S3StorageOperations s3StorageOperations;
 
   @BeforeEach
@@ -52,12 +62,13 @@ public class S3StorageOperationsTest {
     when(results.isTruncated()).thenReturn(false);
     when(results.getObjectSummaries()).thenReturn(List.of(objectSummary1, objectSummary2, objectSummary3));
     when(s3Client.listObjects(any(ListObjectsRequest.class))).thenReturn(results);
+    when(s3Client.listObjects(BUCKET_NAME, FAKE_BUCKET_PATH)).thenReturn(results);
 
-    final S3DestinationConfig s3Config = S3DestinationConfig.create(BUCKET_NAME, FAKE_BUCKET_PATH, "fake-region")
+    s3Config = spy(S3DestinationConfig.create(BUCKET_NAME, FAKE_BUCKET_PATH, "fake-region")
         .withEndpoint("fake-endpoint")
         .withAccessKeyCredential("fake-accessKeyId", "fake-secretAccessKey")
         .withS3Client(s3Client)
-        .get();
+        .get());
     s3StorageOperations = new S3StorageOperations(nameTransformer, s3Client, s3Config);
   }
 
@@ -99,6 +110,38 @@ public class S3StorageOperationsTest {
     assertEquals(OBJECT_TO_DELETE, deleteRequest.getValue().getKeys().get(0).getKey());
   }
 
+  @Test
+  void testGetPartIdListsObjectPathOnce() {
+    assertEquals("3", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    assertEquals("4", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    assertEquals("5", s3StorageOperations.getPartId(FAKE_BUCKET_PATH));
+    verify(s3Client, times(1)).listObjects(BUCKET_NAME, FAKE_BUCKET_PATH);
+  }
+
+  @Test
+  void testGetPartIdIsUniqueAcrossConcurrentUploads() throws InterruptedException {
+    final int numParts = 1000;
+    final Set<String> partIds = ConcurrentHashMap.newKeySet();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < numParts; i++) {
+      executor.submit(() -> partIds.add(s3StorageOperations.getPartId(FAKE_BUCKET_PATH)));
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    assertEquals(numParts, partIds.size());
+  }
+
+  @Test
+  void testResetS3ClientOnlyReplacesTheFailedClientOnce() {
+    final AmazonS3 newClient = mock(AmazonS3.class);
+    doReturn(newClient).when(s3Config).resetS3Client();
+
+    // two uploads fail on the same client, the second one retries with the replacement of the first
+    assertSame(newClient, s3StorageOperations.resetS3Client(s3Client));
+    assertSame(newClient, s3StorageOperations.resetS3Client(s3Client));
+    verify(s3Config, times(1)).resetS3Client();
+  }
+
   @Test
   void testGetFilename() {
     assertEquals("filename", S3StorageOperations.getFilename("filename"));
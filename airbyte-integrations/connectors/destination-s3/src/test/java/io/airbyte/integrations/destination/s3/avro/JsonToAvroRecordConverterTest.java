@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.avro;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.jackson.MoreMappers;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.s3.avro.JsonToAvroConverterTest.GetAvroSchemaTestCaseProvider;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+class JsonToAvroRecordConverterTest {
+
+  private static final ObjectWriter WRITER = MoreMappers.initMapper().writer();
+  private static final JsonNode JSON_SCHEMA = Jsons.deserialize("""
+                                                                {
+                                                                  "type": "object",
+                                                                  "properties": {
+                                                                    "id": { "type": "integer" },
+                                                                    "name": { "type": ["null", "string"] },
+                                                                    "price": { "type": "number" },
+                                                                    "active": { "type": "boolean" },
+                                                                    "created_at": { "type": "string", "format": "date-time" },
+                                                                    "tags": { "type": "array", "items": { "type": "string" } },
+                                                                    "address": {
+                                                                      "type": "object",
+                                                                      "properties": {
+                                                                        "street:name": { "type": "string" },
+                                                                        "zip": { "type": "integer" }
+                                                                      }
+                                                                    }
+                                                                  }
+                                                                }""");
+  private static final Schema SCHEMA = new JsonToAvroSchemaConverter().getAvroSchema(JSON_SCHEMA, "products", null);
+
+  /**
+   * Whenever a record is converted directly, it must be the same as the record produced by the
+   * JSON_CONVERTER.
+   */
+  @ParameterizedTest
+  @ArgumentsSource(GetAvroSchemaTestCaseProvider.class)
+  public void testSameAsJsonConverter(final String schemaName,
+                                      final String namespace,
+                                      final boolean appendAirbyteFields,
+                                      final JsonNode jsonSchema,
+                                      final JsonNode jsonObject,
+                                      final JsonNode avroSchema,
+                                      final JsonNode avroObject)
+      throws Exception {
+    final Schema schema = new Schema.Parser().parse(Jsons.serialize(avroSchema));
+    final GenericData.Record record = new JsonToAvroRecordConverter(schema).convert(jsonObject);
+    if (record != null) {
+      assertEquals(AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonObject), schema), record,
+          String.format("Object conversion for %s failed", schemaName));
+      assertEquals(avroObject, Jsons.deserialize(record.toString()), String.format("Object conversion for %s failed", schemaName));
+    }
+  }
+
+  @Test
+  public void testConvertRecordWithAirbyteFields() throws Exception {
+    final UUID id = UUID.randomUUID();
+    final JsonNode data = Jsons.deserialize("""
+                                            {
+                                              "id": 1,
+                                              "name": null,
+                                              "price": 9.99,
+                                              "active": true,
+                                              "created_at": "2022-07-01T10:15:30.123456+02:00",
+                                              "tags": ["a", "b"],
+                                              "address": { "street:name": "main", "zip": 12345 }
+                                            }""");
+
+    final GenericData.Record record = new JsonToAvroRecordConverter(SCHEMA).convert(id.toString(), 1656662130000L, data);
+
+    assertNotNull(record);
+    final ObjectNode jsonRecord = (ObjectNode) Jsons.jsonNode(Map.of(
+        JavaBaseConstants.COLUMN_NAME_AB_ID, id.toString(),
+        JavaBaseConstants.COLUMN_NAME_EMITTED_AT, 1656662130000L));
+    jsonRecord.setAll((ObjectNode) data);
+    assertEquals(AvroConstants.JSON_CONVERTER.convertToGenericDataRecord(WRITER.writeValueAsBytes(jsonRecord), SCHEMA), record);
+    assertEquals(1656663330123456L, record.get("created_at"));
+    assertEquals("main", ((GenericData.Record) record.get("address")).get("street_name"));
+  }
+
+  @Test
+  public void testAdditionalPropertiesAreLeftToJsonConverter() {
+    final JsonNode data = Jsons.deserialize("{ \"id\": 1, \"unknown\": \"value\" }");
+    assertNull(new JsonToAvroRecordConverter(SCHEMA).convert(UUID.randomUUID().toString(), 0L, data));
+  }
+
+  @Test
+  public void testValuesNotMatchingTheirTypeAreLeftToJsonConverter() {
+    final JsonToAvroRecordConverter converter = new JsonToAvroRecordConverter(SCHEMA);
+    // a number where only a string is accepted
+    assertNull(converter.convert(UUID.randomUUID().toString(), 0L, Jsons.deserialize("{ \"tags\": [1] }")));
+    // a fraction where only an integer is accepted
+    assertNull(converter.convert(UUID.randomUUID().toString(), 0L, Jsons.deserialize("{ \"id\": 1.5 }")));
+    // a timestamp in a format that is not parsed directly
+    assertNull(converter.convert(UUID.randomUUID().toString(), 0L, Jsons.deserialize("{ \"created_at\": \"2022-07-01 10:15:30\" }")));
+  }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class MultipartUploadPlanTest {
+
+  private static final long MB = 1024 * 1024;
+
+  @Test
+  public void testSmallBuffersUseOneThread() {
+    assertEquals(new MultipartUploadPlan(10, 1, 1), MultipartUploadPlan.forByteCount(0));
+    assertEquals(new MultipartUploadPlan(10, 1, 1), MultipartUploadPlan.forByteCount(3 * MB));
+    assertEquals(new MultipartUploadPlan(10, 1, 1), MultipartUploadPlan.forByteCount(10 * MB));
+  }
+
+  @Test
+  public void testThreadsGrowWithParts() {
+    assertEquals(new MultipartUploadPlan(10, 2, 2), MultipartUploadPlan.forByteCount(10 * MB + 1));
+    assertEquals(new MultipartUploadPlan(10, 5, 5), MultipartUploadPlan.forByteCount(45 * MB));
+    assertEquals(new MultipartUploadPlan(10, 10, 10), MultipartUploadPlan.forByteCount(200 * MB));
+    assertEquals(new MultipartUploadPlan(10, 10, 10), MultipartUploadPlan.forByteCount(2048 * MB));
+  }
+
+  @Test
+  public void testPartsGrowToFitMaxParts() {
+    assertEquals(new MultipartUploadPlan(10, 10, 10), MultipartUploadPlan.forByteCount(100_000 * MB));
+    assertEquals(new MultipartUploadPlan(11, 10, 10), MultipartUploadPlan.forByteCount(100_000 * MB + 1));
+    assertEquals(new MultipartUploadPlan(StreamTransferManagerFactory.MAX_ALLOWED_PART_SIZE_MB, 10, 10),
+        MultipartUploadPlan.forByteCount(10_000_000 * MB));
+  }
+
+}
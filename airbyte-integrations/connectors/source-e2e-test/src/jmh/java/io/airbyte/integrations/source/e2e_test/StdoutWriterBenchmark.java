@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.e2e_test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.base.BufferedAirbyteMessageWriter;
+import io.airbyte.integrations.base.Destination;
+import io.airbyte.integrations.source.e2e_test.ContinuousFeedConfig.MockCatalogType;
+import io.airbyte.integrations.source.e2e_test.TestingSources.TestingSourceType;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares the records/sec written to stdout by printing each message on its own line, as
+ * {@link Destination#defaultOutputRecordCollector} does, with writing them through a
+ * {@link BufferedAirbyteMessageWriter}, as READ does. The records are generated once by a
+ * {@link ContinuousFeedSource}, with a state message every 1,000 records, and are written to
+ * /dev/null through a PrintStream set up like System.out, which flushes after every line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StdoutWriterBenchmark {
+
+  private static final int RECORDS = 10_000;
+  private static final int STATE_INTERVAL = 1_000;
+  private static final String STREAM_SCHEMA = """
+                                              {
+                                                "type": "object",
+                                                "properties": {
+                                                  "id": { "type": "integer" },
+                                                  "name": { "type": "string" },
+                                                  "score": { "type": "number" },
+                                                  "active": { "type": "boolean" },
+                                                  "tags": { "type": "array", "items": { "type": "string" } }
+                                                }
+                                              }
+                                              """;
+
+  private List<AirbyteMessage> messages;
+  private PrintStream stdout;
+
+  @Setup
+  public void setup() throws Exception {
+    final JsonNode config = Jsons.jsonNode(ImmutableMap.builder()
+        .put("type", TestingSourceType.CONTINUOUS_FEED)
+        .put("seed", 1024)
+        .put("message_interval_ms", 0)
+        .put("max_messages", RECORDS)
+        .put("mock_catalog", ImmutableMap.of(
+            "type", MockCatalogType.SINGLE_STREAM,
+            "stream_name", "records",
+            "stream_schema", STREAM_SCHEMA))
+        .build());
+    final ConfiguredAirbyteCatalog catalog = CatalogHelpers.toDefaultConfiguredCatalog(new ContinuousFeedConfig(config).getMockCatalog());
+
+    messages = new ArrayList<>();
+    try (final AutoCloseableIterator<AirbyteMessage> records = new ContinuousFeedSource().read(config, catalog, null)) {
+      for (int i = 1; records.hasNext(); i++) {
+        messages.add(records.next());
+        if (i % STATE_INTERVAL == 0) {
+          messages.add(new AirbyteMessage().withType(Type.STATE)
+              .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("records", i)))));
+        }
+      }
+    }
+    // System.out writes through a 128 byte buffer and flushes on every println
+    stdout = new PrintStream(new BufferedOutputStream(new FileOutputStream("/dev/null"), 128), true, StandardCharsets.UTF_8);
+  }
+
+  @TearDown
+  public void tearDown() {
+    stdout.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public void println() {
+    for (final AirbyteMessage message : messages) {
+      stdout.println(Jsons.serialize(message));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public void bufferedWriter() throws IOException {
+    try (final BufferedAirbyteMessageWriter writer = new BufferedAirbyteMessageWriter(stdout)) {
+      messages.forEach(writer);
+    }
+  }
+
+}
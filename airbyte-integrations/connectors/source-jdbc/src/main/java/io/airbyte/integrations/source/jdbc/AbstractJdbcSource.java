@@ -21,6 +21,7 @@ import static io.airbyte.db.jdbc.JdbcConstants.JDBC_COLUMN_TYPE_NAME;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.zaxxer.hikari.HikariDataSource;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.map.MoreMaps;
@@ -36,14 +37,17 @@ import io.airbyte.db.jdbc.streaming.JdbcStreamingQueryConfig;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.jdbc.dto.JdbcPrivilegeDto;
 import io.airbyte.integrations.source.relationaldb.AbstractRelationalDbSource;
+import io.airbyte.integrations.source.relationaldb.PrimaryKeyChunks;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.JsonSchemaType;
+import java.math.BigInteger;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,6 +55,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -69,6 +75,8 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbSource<Datatype, JdbcDatabase> implements Source {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractJdbcSource.class);
+  private static final Set<String> NUMERIC_TYPES = Set.of("number", "integer");
+  private static final int MAX_CHUNKS = 10_000;
 
   protected final String driverClass;
   protected final Supplier<JdbcStreamingQueryConfig> streamingQueryConfigProvider;
@@ -292,6 +300,133 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     });
   }
 
+  /**
+   * Splits the range between the smallest and the largest primary key values evenly, which requires
+   * an integer primary key, and reads each chunk with {@link #queryTableChunk}.
+   */
+  @Override
+  protected Optional<PrimaryKeyChunks> getPrimaryKeyChunks(final JdbcDatabase database,
+                                                           final List<String> columnNames,
+                                                           final String schemaName,
+                                                           final String tableName,
+                                                           final String primaryKey,
+                                                           final Datatype primaryKeyType,
+                                                           final String startAfter,
+                                                           final long chunkSize) {
+    return getPrimaryKeyChunkBoundaries(database, schemaName, tableName, primaryKey, primaryKeyType, startAfter, chunkSize)
+        .map(boundaries -> PrimaryKeyChunks.builder()
+            .boundaries(boundaries)
+            .chunkQuery((lowerBound, upperBound) -> queryTableChunk(database, columnNames, schemaName, tableName, primaryKey, primaryKeyType,
+                lowerBound, upperBound))
+            .build());
+  }
+
+  /**
+   * @return the upper bound of each chunk but the last one, which is unbounded, or an empty optional
+   *         if the table cannot be read in chunks
+   */
+  protected Optional<List<String>> getPrimaryKeyChunkBoundaries(final JdbcDatabase database,
+                                                                final String schemaName,
+                                                                final String tableName,
+                                                                final String primaryKey,
+                                                                final Datatype primaryKeyType,
+                                                                final String startAfter,
+                                                                final long chunkSize) {
+    if (!NUMERIC_TYPES.contains(getType(primaryKeyType).getJsonSchemaTypeMap().get("type"))) {
+      LOGGER.info("Primary key {} of table {} is not numeric, reading it in a single query.", primaryKey, tableName);
+      return Optional.empty();
+    }
+    try {
+      final List<List<String>> bounds = database.bufferedResultSetQuery(
+          connection -> {
+            final String quotedPrimaryKey = sourceOperations.enquoteIdentifier(connection, primaryKey);
+            final String sql = String.format("SELECT MIN(%s), MAX(%s) FROM %s%s",
+                quotedPrimaryKey,
+                quotedPrimaryKey,
+                sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                startAfter == null ? "" : String.format(" WHERE %s > ?", quotedPrimaryKey));
+            final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+            if (startAfter != null) {
+              sourceOperations.setStatementField(preparedStatement, 1, primaryKeyType, startAfter);
+            }
+            return preparedStatement.executeQuery();
+          },
+          resultSet -> Arrays.asList(resultSet.getString(1), resultSet.getString(2)));
+      if (bounds.isEmpty() || bounds.get(0).get(0) == null || bounds.get(0).get(1) == null) {
+        // nothing to split, the rows inserted in the meantime are read by the single unbounded chunk.
+        return Optional.of(List.of());
+      }
+      final BigInteger min = new BigInteger(bounds.get(0).get(0));
+      final BigInteger max = new BigInteger(bounds.get(0).get(1));
+      // sparse keys could otherwise make for a huge number of chunks.
+      final BigInteger span = max.subtract(min).add(BigInteger.ONE);
+      final BigInteger step = BigInteger.valueOf(chunkSize).max(span.divide(BigInteger.valueOf(MAX_CHUNKS)).add(BigInteger.ONE));
+      final List<String> boundaries = new ArrayList<>();
+      for (BigInteger boundary = min.add(step).subtract(BigInteger.ONE); boundary.compareTo(max) < 0; boundary = boundary.add(step)) {
+        boundaries.add(boundary.toString());
+      }
+      return Optional.of(boundaries);
+    } catch (final NumberFormatException e) {
+      LOGGER.info("Primary key {} of table {} is not an integer, reading it in a single query.", primaryKey, tableName);
+      return Optional.empty();
+    } catch (final SQLException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Reads the records of a table with a primary key in the given range, ordered by primary key.
+   *
+   * @param lowerBound exclusive lower bound of the range, or null if it has none
+   * @param upperBound inclusive upper bound of the range, or null if it has none
+   */
+  protected AutoCloseableIterator<JsonNode> queryTableChunk(final JdbcDatabase database,
+                                                            final List<String> columnNames,
+                                                            final String schemaName,
+                                                            final String tableName,
+                                                            final String primaryKey,
+                                                            final Datatype primaryKeyType,
+                                                            final String lowerBound,
+                                                            final String upperBound) {
+    LOGGER.info("Queueing query for table: {}, primary key range: ({}, {}]", tableName, lowerBound, upperBound);
+    return AutoCloseableIterators.lazyIterator(() -> {
+      try {
+        final Stream<JsonNode> stream = database.unsafeQuery(
+            connection -> {
+              LOGGER.info("Preparing query for table: {}", tableName);
+              final String quotedPrimaryKey = sourceOperations.enquoteIdentifier(connection, primaryKey);
+              final List<String> conditions = new ArrayList<>();
+              if (lowerBound != null) {
+                conditions.add(quotedPrimaryKey + " > ?");
+              }
+              if (upperBound != null) {
+                conditions.add(quotedPrimaryKey + " <= ?");
+              }
+              final String sql = String.format("SELECT %s FROM %s%s ORDER BY %s",
+                  sourceOperations.enquoteIdentifierList(connection, columnNames),
+                  sourceOperations.getFullyQualifiedTableNameWithQuoting(connection, schemaName, tableName),
+                  conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions),
+                  quotedPrimaryKey);
+
+              final PreparedStatement preparedStatement = connection.prepareStatement(sql);
+              int parameterIndex = 1;
+              if (lowerBound != null) {
+                sourceOperations.setStatementField(preparedStatement, parameterIndex++, primaryKeyType, lowerBound);
+              }
+              if (upperBound != null) {
+                sourceOperations.setStatementField(preparedStatement, parameterIndex, primaryKeyType, upperBound);
+              }
+              LOGGER.info("Executing query for table: {}", tableName);
+              return preparedStatement;
+            },
+            sourceOperations::rowToJson);
+        return AutoCloseableIterators.fromStream(stream);
+      } catch (final SQLException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   protected DataSource createDataSource(final JsonNode config) {
     final JsonNode jdbcConfig = toDatabaseConfig(config);
     final DataSource dataSource = DataSourceFactory.create(
@@ -305,6 +440,20 @@ public abstract class AbstractJdbcSource<Datatype> extends AbstractRelationalDbS
     return dataSource;
   }
 
+  /**
+   * Each stream read holds a connection of the pool until the stream is exhausted, so no more
+   * streams than the pool has connections are read concurrently.
+   */
+  @Override
+  protected int getMaxConcurrentTableReads(final JsonNode config) {
+    final int maxConcurrentTableReads = super.getMaxConcurrentTableReads(config);
+    final OptionalInt maxPoolSize = dataSources.stream()
+        .filter(HikariDataSource.class::isInstance)
+        .mapToInt(dataSource -> ((HikariDataSource) dataSource).getMaximumPoolSize())
+        .min();
+    return maxPoolSize.isPresent() ? Math.min(maxPoolSize.getAsInt(), maxConcurrentTableReads) : maxConcurrentTableReads;
+  }
+
   @Override
   public JdbcDatabase createDatabase(final JsonNode config) throws SQLException {
     final DataSource dataSource = createDataSource(config);
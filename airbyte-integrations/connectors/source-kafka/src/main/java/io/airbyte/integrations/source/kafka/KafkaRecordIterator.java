@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emits the records of the consumer as they are polled. After the records of each poll, it emits a
+ * state message holding, for each partition read so far, the offset of the next record to read,
+ * e.g. {@code {"topic": {"0": 42}}}. The partitions of the incremental streams are sought to the
+ * offsets of that state on the next sync, instead of relying on offsets committed to the brokers
+ * before the records were emitted.
+ * <p>
+ * Once the records are emitted, {@link #commitOffsets()} commits the same offsets to the consumer
+ * group, which is where the streams that are not incremental start from on the next sync.
+ * <p>
+ * Stops once {@code maxEmptyPolls} polls have returned no records.
+ */
+public class KafkaRecordIterator extends AbstractIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KafkaRecordIterator.class);
+
+  // one record out of every LOG_SAMPLE_INTERVAL records is logged at debug level
+  private static final int LOG_SAMPLE_INTERVAL = 1000;
+
+  private final Consumer<String, JsonNode> consumer;
+  private final Duration pollTimeout;
+  private final int maxEmptyPolls;
+  // offset of the next record to read from each partition, which is also used by the consumer to
+  // seek the partitions it is assigned
+  private final Map<TopicPartition, Long> offsets;
+
+  private Iterator<ConsumerRecord<String, JsonNode>> records = Collections.emptyIterator();
+  private int emptyPolls = 0;
+  private long recordCount = 0;
+  private boolean hasNewOffsets = false;
+
+  public KafkaRecordIterator(final Consumer<String, JsonNode> consumer,
+                             final Duration pollTimeout,
+                             final int maxEmptyPolls,
+                             final Map<TopicPartition, Long> offsets) {
+    this.consumer = consumer;
+    this.pollTimeout = pollTimeout;
+    this.maxEmptyPolls = maxEmptyPolls;
+    this.offsets = offsets;
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (true) {
+      if (records.hasNext()) {
+        final ConsumerRecord<String, JsonNode> record = records.next();
+        offsets.put(new TopicPartition(record.topic(), record.partition()), record.offset() + 1);
+        hasNewOffsets = true;
+        if (recordCount++ % LOG_SAMPLE_INTERVAL == 0 && LOGGER.isDebugEnabled()) {
+          LOGGER.debug("Consumer Record: key - {}, value - {}, partition - {}, offset - {}",
+              record.key(), record.value(), record.partition(), record.offset());
+        }
+        return new AirbyteMessage()
+            .withType(AirbyteMessage.Type.RECORD)
+            .withRecord(new AirbyteRecordMessage()
+                .withStream(record.topic())
+                .withEmittedAt(Instant.now().toEpochMilli())
+                .withData(record.value()));
+      }
+      if (hasNewOffsets) {
+        hasNewOffsets = false;
+        return new AirbyteMessage()
+            .withType(AirbyteMessage.Type.STATE)
+            .withState(new AirbyteStateMessage().withData(toState(offsets)));
+      }
+      if (emptyPolls > maxEmptyPolls) {
+        LOGGER.info("Read {} records from Kafka.", recordCount);
+        return endOfData();
+      }
+      final ConsumerRecords<String, JsonNode> consumerRecords = consumer.poll(pollTimeout);
+      if (consumerRecords.isEmpty()) {
+        emptyPolls++;
+      }
+      records = consumerRecords.iterator();
+    }
+  }
+
+  /**
+   * Commits the offsets of the records emitted so far for the partitions assigned to the consumer.
+   * Must only be called once the records have been handed downstream, e.g. when the iterator is
+   * closed. A failed commit is logged: the records are emitted already, and the incremental streams
+   * start from the offsets of the state anyway.
+   */
+  public void commitOffsets() {
+    final Set<TopicPartition> assignment = consumer.assignment();
+    final Map<TopicPartition, OffsetAndMetadata> toCommit = offsets.entrySet().stream()
+        .filter(offset -> assignment.contains(offset.getKey()))
+        .collect(Collectors.toMap(Entry::getKey, offset -> new OffsetAndMetadata(offset.getValue())));
+    if (toCommit.isEmpty()) {
+      return;
+    }
+    try {
+      consumer.commitSync(toCommit);
+      LOGGER.info("Committed offsets {}", toCommit);
+    } catch (final KafkaException e) {
+      LOGGER.warn("Failed to commit offsets {}", toCommit, e);
+    }
+  }
+
+  /**
+   * @return the offsets of the state for the partitions of the given topics
+   */
+  public static Map<TopicPartition, Long> getOffsets(final JsonNode state, final Set<String> topics) {
+    final Map<TopicPartition, Long> offsets = new HashMap<>();
+    if (state == null || !state.isObject()) {
+      return offsets;
+    }
+    state.fields().forEachRemaining(topic -> {
+      if (topics.contains(topic.getKey())) {
+        topic.getValue().fields().forEachRemaining(
+            partition -> offsets.put(new TopicPartition(topic.getKey(), Integer.parseInt(partition.getKey())), partition.getValue().longValue()));
+      }
+    });
+    return offsets;
+  }
+
+  static JsonNode toState(final Map<TopicPartition, Long> offsets) {
+    final ObjectNode state = (ObjectNode) Jsons.emptyObject();
+    for (final Entry<TopicPartition, Long> offset : offsets.entrySet()) {
+      final String topic = offset.getKey().topic();
+      final ObjectNode partitions = state.has(topic) ? (ObjectNode) state.get(topic) : state.putObject(topic);
+      partitions.put(String.valueOf(offset.getKey().partition()), offset.getValue());
+    }
+    return state;
+  }
+
+}
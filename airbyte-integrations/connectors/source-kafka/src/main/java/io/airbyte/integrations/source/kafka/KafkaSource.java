@@ -5,7 +5,6 @@
 package io.airbyte.integrations.source.kafka;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.Lists;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
@@ -16,7 +15,6 @@ import io.airbyte.protocol.models.AirbyteCatalog;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
 import io.airbyte.protocol.models.AirbyteMessage;
-import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
@@ -24,17 +22,14 @@ import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaType;
 import io.airbyte.protocol.models.SyncMode;
 import java.time.Duration;
-import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -85,48 +80,23 @@ public class KafkaSource extends BaseConnector implements Source {
     }
 
     final KafkaSourceConfig kafkaSourceConfig = KafkaSourceConfig.getKafkaSourceConfig(config);
-    final KafkaConsumer<String, JsonNode> consumer = kafkaSourceConfig.getConsumer();
-    final List<ConsumerRecord<String, JsonNode>> recordsList = new ArrayList<>();
+    final Set<String> incrementalTopics = catalog.getStreams().stream()
+        .filter(stream -> stream.getSyncMode() == SyncMode.INCREMENTAL)
+        .map(stream -> stream.getStream().getName())
+        .collect(Collectors.toSet());
+    final Map<TopicPartition, Long> offsets = KafkaRecordIterator.getOffsets(state, incrementalTopics);
+    final KafkaConsumer<String, JsonNode> consumer = kafkaSourceConfig.getConsumer(offsets);
 
     final int retry = config.has("repeated_calls") ? config.get("repeated_calls").intValue() : 0;
-    int pollCount = 0;
     final int polling_time = config.has("polling_time") ? config.get("polling_time").intValue() : 100;
-    while (true) {
-      final ConsumerRecords<String, JsonNode> consumerRecords = consumer.poll(Duration.of(polling_time, ChronoUnit.MILLIS));
-      if (consumerRecords.count() == 0) {
-        pollCount++;
-        if (pollCount > retry) {
-          break;
-        }
-      }
-
-      consumerRecords.forEach(record -> {
-        LOGGER.info("Consumer Record: key - {}, value - {}, partition - {}, offset - {}",
-            record.key(), record.value(), record.partition(), record.offset());
-        recordsList.add(record);
-      });
-      consumer.commitAsync();
-    }
-    consumer.close();
-    final Iterator<ConsumerRecord<String, JsonNode>> iterator = recordsList.iterator();
-
-    return AutoCloseableIterators.fromIterator(new AbstractIterator<>() {
-
-      @Override
-      protected AirbyteMessage computeNext() {
-        if (iterator.hasNext()) {
-          final ConsumerRecord<String, JsonNode> record = iterator.next();
-          return new AirbyteMessage()
-              .withType(AirbyteMessage.Type.RECORD)
-              .withRecord(new AirbyteRecordMessage()
-                  .withStream(record.topic())
-                  .withEmittedAt(Instant.now().toEpochMilli())
-                  .withData(record.value()));
-        }
-
-        return endOfData();
+    final KafkaRecordIterator iterator = new KafkaRecordIterator(consumer, Duration.of(polling_time, ChronoUnit.MILLIS), retry, offsets);
+    // the offsets are committed once the records are emitted, not when they are polled
+    return AutoCloseableIterators.fromIterator(iterator, () -> {
+      try {
+        iterator.commitOffsets();
+      } finally {
+        consumer.close();
       }
-
     });
   }
 
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.json.Jsons;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.SaslConfigs;
@@ -96,17 +98,27 @@ public class KafkaSourceConfig {
   }
 
   public KafkaConsumer<String, JsonNode> getConsumer() {
+    return getConsumer(Map.of());
+  }
+
+  /**
+   * @param offsets offsets to seek the partitions to whenever they are assigned to the consumer,
+   *        instead of the offsets committed for the consumer group. The map is read at each
+   *        assignment, so it can be kept up to date with the records read.
+   */
+  public KafkaConsumer<String, JsonNode> getConsumer(final Map<TopicPartition, Long> offsets) {
     if (consumer != null) {
       return consumer;
     }
     consumer = buildKafkaConsumer(config);
+    final ConsumerRebalanceListener seekingListener = new SeekingRebalanceListener(consumer, offsets);
 
     final JsonNode subscription = config.get("subscription");
     LOGGER.info("Kafka subscribe method: {}", subscription.toString());
     switch (subscription.get("subscription_type").asText()) {
       case "subscribe" -> {
         final String topicPattern = subscription.get("topic_pattern").asText();
-        consumer.subscribe(Pattern.compile(topicPattern));
+        consumer.subscribe(Pattern.compile(topicPattern), seekingListener);
         topicsToSubscribe = consumer.listTopics().keySet().stream()
             .filter(topic -> topic.matches(topicPattern))
             .collect(Collectors.toSet());
@@ -122,6 +134,7 @@ public class KafkaSourceConfig {
         }).collect(Collectors.toList());
         LOGGER.info("Topic-partition list: {}", topicPartitionList);
         consumer.assign(topicPartitionList);
+        seekingListener.onPartitionsAssigned(topicPartitionList);
       }
     }
     return consumer;
@@ -138,4 +151,27 @@ public class KafkaSourceConfig {
     return buildKafkaConsumer(config);
   }
 
+  private static class SeekingRebalanceListener implements ConsumerRebalanceListener {
+
+    private final KafkaConsumer<String, JsonNode> consumer;
+    private final Map<TopicPartition, Long> offsets;
+
+    SeekingRebalanceListener(final KafkaConsumer<String, JsonNode> consumer, final Map<TopicPartition, Long> offsets) {
+      this.consumer = consumer;
+      this.offsets = offsets;
+    }
+
+    @Override
+    public void onPartitionsRevoked(final Collection<TopicPartition> partitions) {}
+
+    @Override
+    public void onPartitionsAssigned(final Collection<TopicPartition> partitions) {
+      partitions.stream().filter(offsets::containsKey).forEach(partition -> {
+        LOGGER.info("Seeking {} to offset {}", partition, offsets.get(partition));
+        consumer.seek(partition, offsets.get(partition));
+      });
+    }
+
+  }
+
 }
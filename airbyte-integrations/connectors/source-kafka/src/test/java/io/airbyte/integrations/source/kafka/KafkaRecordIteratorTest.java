@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaRecordIteratorTest {
+
+  private static final String TOPIC = "users";
+  private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+  private MockConsumer<String, JsonNode> consumer;
+
+  @BeforeEach
+  void setup() {
+    consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    consumer.assign(List.of(PARTITION_0, PARTITION_1));
+    consumer.updateBeginningOffsets(Map.of(PARTITION_0, 0L, PARTITION_1, 0L));
+  }
+
+  @Test
+  void testEmitsStateAfterTheRecordsOfEachPoll() {
+    consumer.schedulePollTask(() -> {
+      consumer.addRecord(record(PARTITION_0, 0));
+      consumer.addRecord(record(PARTITION_0, 1));
+      consumer.addRecord(record(PARTITION_1, 0));
+    });
+    consumer.schedulePollTask(() -> consumer.addRecord(record(PARTITION_1, 1)));
+
+    final List<AirbyteMessage> messages = readAll(new KafkaRecordIterator(consumer, Duration.ZERO, 0, new HashMap<>()));
+
+    assertEquals(List.of(Type.RECORD, Type.RECORD, Type.RECORD, Type.STATE, Type.RECORD, Type.STATE),
+        messages.stream().map(AirbyteMessage::getType).toList());
+    assertEquals(state(2, 1), messages.get(3).getState().getData());
+    assertEquals(state(2, 2), messages.get(5).getState().getData());
+  }
+
+  @Test
+  void testStopsAfterMaxEmptyPolls() {
+    consumer.schedulePollTask(() -> {});
+    consumer.schedulePollTask(() -> consumer.addRecord(record(PARTITION_0, 0)));
+    consumer.schedulePollTask(() -> {});
+
+    final List<AirbyteMessage> messages = readAll(new KafkaRecordIterator(consumer, Duration.ZERO, 2, new HashMap<>()));
+
+    assertEquals(List.of(Type.RECORD, Type.STATE), messages.stream().map(AirbyteMessage::getType).toList());
+  }
+
+  @Test
+  void testKeepsTheOffsetsOfPartitionsNotRead() {
+    final TopicPartition otherPartition = new TopicPartition("other", 0);
+    final Map<TopicPartition, Long> offsets = new HashMap<>(Map.of(otherPartition, 5L));
+    consumer.schedulePollTask(() -> consumer.addRecord(record(PARTITION_0, 0)));
+
+    final List<AirbyteMessage> messages = readAll(new KafkaRecordIterator(consumer, Duration.ZERO, 0, offsets));
+
+    assertEquals(Jsons.jsonNode(ImmutableMap.of(TOPIC, ImmutableMap.of("0", 1L), "other", ImmutableMap.of("0", 5L))),
+        messages.get(1).getState().getData());
+  }
+
+  @Test
+  void testCommitsTheOffsetsOfEmittedRecords() {
+    final TopicPartition otherPartition = new TopicPartition("other", 0);
+    final Map<TopicPartition, Long> offsets = new HashMap<>(Map.of(otherPartition, 5L));
+    consumer.schedulePollTask(() -> {
+      consumer.addRecord(record(PARTITION_0, 0));
+      consumer.addRecord(record(PARTITION_0, 1));
+    });
+    final KafkaRecordIterator iterator = new KafkaRecordIterator(consumer, Duration.ZERO, 0, offsets);
+
+    // nothing is committed while the records are read
+    iterator.next();
+    assertTrue(consumer.committed(Set.of(PARTITION_0)).isEmpty());
+    readAll(iterator);
+    assertTrue(consumer.committed(Set.of(PARTITION_0)).isEmpty());
+
+    iterator.commitOffsets();
+    // the partitions that are not assigned to the consumer are left alone
+    assertEquals(Map.of(PARTITION_0, new OffsetAndMetadata(2L)), consumer.committed(Set.of(PARTITION_0, PARTITION_1, otherPartition)));
+  }
+
+  @Test
+  void testGetOffsets() {
+    final JsonNode state = Jsons.jsonNode(ImmutableMap.of(TOPIC, ImmutableMap.of("0", 2L, "1", 7L), "other", ImmutableMap.of("0", 5L)));
+
+    assertEquals(Map.of(PARTITION_0, 2L, PARTITION_1, 7L), KafkaRecordIterator.getOffsets(state, Set.of(TOPIC)));
+    assertEquals(state, KafkaRecordIterator.toState(KafkaRecordIterator.getOffsets(state, Set.of(TOPIC, "other"))));
+    assertTrue(KafkaRecordIterator.getOffsets(null, Set.of(TOPIC)).isEmpty());
+    assertTrue(KafkaRecordIterator.getOffsets(Jsons.emptyObject(), Set.of(TOPIC)).isEmpty());
+  }
+
+  private static List<AirbyteMessage> readAll(final KafkaRecordIterator iterator) {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
+    assertFalse(iterator.hasNext());
+    return messages;
+  }
+
+  private static ConsumerRecord<String, JsonNode> record(final TopicPartition partition, final long offset) {
+    return new ConsumerRecord<>(partition.topic(), partition.partition(), offset, null,
+        Jsons.jsonNode(ImmutableMap.of("id", partition.partition() * 100 + offset)));
+  }
+
+  private static JsonNode state(final long partition0Offset, final long partition1Offset) {
+    return Jsons.jsonNode(ImmutableMap.of(TOPIC, ImmutableMap.of("0", partition0Offset, "1", partition1Offset)));
+  }
+
+}
@@ -14,12 +14,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.microsoft.sqlserver.jdbc.Geography;
 import com.microsoft.sqlserver.jdbc.Geometry;
-import com.microsoft.sqlserver.jdbc.SQLServerResultSetMetaData;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import java.nio.charset.Charset;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,21 +37,27 @@ public class MssqlSourceOperations extends JdbcSourceOperations {
   @Override
   public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json)
       throws SQLException {
+    getColumnConverter(resultSet.getMetaData(), colIndex).convert(resultSet, colIndex, json);
+  }
+
+  @Override
+  protected ColumnConverter createColumnConverter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    return skipNulls(getColumnConverter(metadata, index));
+  }
 
-    final SQLServerResultSetMetaData metadata = (SQLServerResultSetMetaData) resultSet
-        .getMetaData();
+  private ColumnConverter getColumnConverter(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
     final String columnName = metadata.getColumnName(colIndex);
     final String columnTypeName = metadata.getColumnTypeName(colIndex);
     final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
 
     if (columnTypeName.equalsIgnoreCase("time")) {
-      putTime(json, columnName, resultSet, colIndex);
+      return (resultSet, index, json) -> putTime(json, columnName, resultSet, index);
     } else if (columnTypeName.equalsIgnoreCase("geometry")) {
-      putGeometry(json, columnName, resultSet, colIndex);
+      return (resultSet, index, json) -> putGeometry(json, columnName, resultSet, index);
     } else if (columnTypeName.equalsIgnoreCase("geography")) {
-      putGeography(json, columnName, resultSet, colIndex);
+      return (resultSet, index, json) -> putGeography(json, columnName, resultSet, index);
     } else {
-      putValue(columnType, resultSet, columnName, colIndex, json);
+      return (resultSet, index, json) -> putValue(columnType, resultSet, columnName, index, json);
     }
   }
 
@@ -18,7 +18,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.jackson.MoreMappers;
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.db.jdbc.JdbcSourceOperations;
 import io.airbyte.protocol.models.JsonSchemaType;
@@ -34,8 +33,6 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.format.DateTimeParseException;
-import java.util.Collections;
-import org.postgresql.jdbc.PgResultSetMetaData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,39 +44,8 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
   private static final ObjectMapper OBJECT_MAPPER = MoreMappers.initMapper();
 
   @Override
-  public JsonNode rowToJson(final ResultSet queryContext) throws SQLException {
-    // the first call communicates with the database. after that the result is cached.
-    final ResultSetMetaData metadata = queryContext.getMetaData();
-    final int columnCount = metadata.getColumnCount();
-    final ObjectNode jsonNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-
-    for (int i = 1; i <= columnCount; i++) {
-      final String columnType = metadata.getColumnTypeName(i);
-      // attempt to access the column. this allows us to know if it is null before we do type-specific
-      // parsing. if it is null, we can move on. while awkward, this seems to be the agreed upon way of
-      // checking for null values with jdbc.
-
-      if (columnType.equalsIgnoreCase("money")) {
-        // when a column is of type MONEY, getObject will throw exception
-        // this is a bug that will not be fixed:
-        // https://github.com/pgjdbc/pgjdbc/issues/425
-        // https://github.com/pgjdbc/pgjdbc/issues/1835
-        queryContext.getString(i);
-      } else if (columnType.equalsIgnoreCase("bit")) {
-        // getObject will fail as it tries to parse the value as boolean
-        queryContext.getString(i);
-      } else if (columnType.equalsIgnoreCase("numeric") || columnType.equalsIgnoreCase("decimal")) {
-        // getObject will fail when the value is 'infinity'
-        queryContext.getDouble(i);
-      } else {
-        queryContext.getObject(i);
-      }
-
-      // convert to java types that will convert into reasonable json.
-      setJsonField(queryContext, i, jsonNode);
-    }
-
-    return jsonNode;
+  protected ColumnConverter createColumnConverter(final ResultSetMetaData metadata, final int index) throws SQLException {
+    return withNulls(metadata.getColumnName(index), getColumnConverter(metadata, index));
   }
 
   @Override
@@ -160,40 +126,55 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
 
   @Override
   public void setJsonField(final ResultSet resultSet, final int colIndex, final ObjectNode json) throws SQLException {
-    final PgResultSetMetaData metadata = (PgResultSetMetaData) resultSet.getMetaData();
+    final ResultSetMetaData metadata = resultSet.getMetaData();
+    withNulls(metadata.getColumnName(colIndex), getColumnConverter(metadata, colIndex)).convert(resultSet, colIndex, json);
+  }
+
+  /**
+   * Unlike other sources, null values are written to the Json object. Values are checked with
+   * getString, as getObject fails for some types: for MONEY it throws (a bug that will not be fixed:
+   * https://github.com/pgjdbc/pgjdbc/issues/425, https://github.com/pgjdbc/pgjdbc/issues/1835), BIT is
+   * parsed as a boolean and NUMERIC fails when the value is 'infinity'.
+   */
+  private static ColumnConverter withNulls(final String columnName, final ColumnConverter converter) {
+    return (resultSet, colIndex, json) -> {
+      if (resultSet.getString(colIndex) == null) {
+        json.putNull(columnName);
+      } else {
+        converter.convert(resultSet, colIndex, json);
+      }
+    };
+  }
+
+  private ColumnConverter getColumnConverter(final ResultSetMetaData metadata, final int colIndex) throws SQLException {
     final String columnName = metadata.getColumnName(colIndex);
     final String columnTypeName = metadata.getColumnTypeName(colIndex).toLowerCase();
     final JDBCType columnType = safeGetJdbcType(metadata.getColumnType(colIndex));
-    if (resultSet.getString(colIndex) == null) {
-      json.putNull(columnName);
-    } else {
-      switch (columnTypeName) {
-        case "bool", "boolean" -> putBoolean(json, columnName, resultSet, colIndex);
-        case "bytea" -> putString(json, columnName, resultSet, colIndex);
-        case TIMETZ -> putTimeWithTimezone(json, columnName, resultSet, colIndex);
-        case TIMESTAMPTZ -> putTimestampWithTimezone(json, columnName, resultSet, colIndex);
-        case "hstore" -> putHstoreAsJson(json, columnName, resultSet, colIndex);
-        default -> {
-          switch (columnType) {
-            case BOOLEAN -> putBoolean(json, columnName, resultSet, colIndex);
-            case TINYINT, SMALLINT -> putShortInt(json, columnName, resultSet, colIndex);
-            case INTEGER -> putInteger(json, columnName, resultSet, colIndex);
-            case BIGINT -> putBigInt(json, columnName, resultSet, colIndex);
-            case FLOAT, DOUBLE -> putDouble(json, columnName, resultSet, colIndex);
-            case REAL -> putFloat(json, columnName, resultSet, colIndex);
-            case NUMERIC, DECIMAL -> putBigDecimal(json, columnName, resultSet, colIndex);
-            // BIT is a bit string in Postgres, e.g. '0100'
-            case BIT, CHAR, VARCHAR, LONGVARCHAR -> putString(json, columnName, resultSet, colIndex);
-            case DATE -> putDate(json, columnName, resultSet, colIndex);
-            case TIME -> putTime(json, columnName, resultSet, colIndex);
-            case TIMESTAMP -> putTimestamp(json, columnName, resultSet, colIndex);
-            case BLOB, BINARY, VARBINARY, LONGVARBINARY -> putBinary(json, columnName, resultSet, colIndex);
-            case ARRAY -> putArray(json, columnName, resultSet, colIndex);
-            default -> putDefault(json, columnName, resultSet, colIndex);
-          }
-        }
-      }
-    }
+    return switch (columnTypeName) {
+      case "bool", "boolean" -> (resultSet, index, json) -> putBoolean(json, columnName, resultSet, index);
+      case "bytea" -> (resultSet, index, json) -> putString(json, columnName, resultSet, index);
+      case TIMETZ -> (resultSet, index, json) -> putTimeWithTimezone(json, columnName, resultSet, index);
+      case TIMESTAMPTZ -> (resultSet, index, json) -> putTimestampWithTimezone(json, columnName, resultSet, index);
+      case "hstore" -> (resultSet, index, json) -> putHstoreAsJson(json, columnName, resultSet, index);
+      case "money" -> (resultSet, index, json) -> putMoney(json, columnName, resultSet, index);
+      default -> switch (columnType) {
+        case BOOLEAN -> (resultSet, index, json) -> putBoolean(json, columnName, resultSet, index);
+        case TINYINT, SMALLINT -> (resultSet, index, json) -> putShortInt(json, columnName, resultSet, index);
+        case INTEGER -> (resultSet, index, json) -> putInteger(json, columnName, resultSet, index);
+        case BIGINT -> (resultSet, index, json) -> putBigInt(json, columnName, resultSet, index);
+        case FLOAT, DOUBLE -> (resultSet, index, json) -> putDouble(json, columnName, resultSet, index);
+        case REAL -> (resultSet, index, json) -> putFloat(json, columnName, resultSet, index);
+        case NUMERIC, DECIMAL -> (resultSet, index, json) -> putBigDecimal(json, columnName, resultSet, index);
+        // BIT is a bit string in Postgres, e.g. '0100'
+        case BIT, CHAR, VARCHAR, LONGVARCHAR -> (resultSet, index, json) -> putString(json, columnName, resultSet, index);
+        case DATE -> (resultSet, index, json) -> putDate(json, columnName, resultSet, index);
+        case TIME -> (resultSet, index, json) -> putTime(json, columnName, resultSet, index);
+        case TIMESTAMP -> (resultSet, index, json) -> putTimestamp(json, columnName, resultSet, index);
+        case BLOB, BINARY, VARBINARY, LONGVARBINARY -> (resultSet, index, json) -> putBinary(json, columnName, resultSet, index);
+        case ARRAY -> (resultSet, index, json) -> putArray(json, columnName, resultSet, index);
+        default -> (resultSet, index, json) -> putDefault(json, columnName, resultSet, index);
+      };
+    };
   }
 
   @Override
@@ -272,15 +253,6 @@ public class PostgresSourceOperations extends JdbcSourceOperations {
     }
   }
 
-  @Override
-  protected void putDouble(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
-    if (resultSet.getMetaData().getColumnTypeName(index).equals("money")) {
-      putMoney(node, columnName, resultSet, index);
-    } else {
-      super.putDouble(node, columnName, resultSet, index);
-    }
-  }
-
   private void putMoney(final ObjectNode node, final String columnName, final ResultSet resultSet, final int index) throws SQLException {
     final String moneyValue = parseMoneyValue(resultSet.getString(index));
     node.put(columnName, DataTypeUtils.returnNullIfInvalid(() -> Double.valueOf(moneyValue), Double::isFinite));
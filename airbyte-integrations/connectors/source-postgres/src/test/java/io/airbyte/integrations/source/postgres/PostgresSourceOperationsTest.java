@@ -5,7 +5,16 @@
 package io.airbyte.integrations.source.postgres;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.airbyte.commons.json.Jsons;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
 import org.junit.jupiter.api.Test;
 
 class PostgresSourceOperationsTest {
@@ -20,4 +29,54 @@ class PostgresSourceOperationsTest {
     assertEquals("-1000000.001", PostgresSourceOperations.parseMoneyValue("-£1,000,000.001"));
   }
 
+  @Test
+  public void testRowToJsonReadsMetadataOncePerResultSet() throws SQLException {
+    final PostgresSourceOperations sourceOperations = new PostgresSourceOperations();
+    final ResultSet resultSet = mockResultSet();
+    mockRow(resultSet, "1", 1, "$1,000.50", null, "t");
+    assertEquals(Jsons.deserialize("{\"id\": 1, \"price\": 1000.5, \"name\": null, \"active\": true}"), sourceOperations.rowToJson(resultSet));
+    mockRow(resultSet, "2", 2, "$2.00", "name", "f");
+    assertEquals(Jsons.deserialize("{\"id\": 2, \"price\": 2.0, \"name\": \"name\", \"active\": false}"), sourceOperations.rowToJson(resultSet));
+    verify(resultSet, times(1)).getMetaData();
+
+    // another result set gets a plan of its own.
+    final ResultSet otherResultSet = mockResultSet();
+    mockRow(otherResultSet, "3", 3, null, null, null);
+    assertEquals(Jsons.deserialize("{\"id\": 3, \"price\": null, \"name\": null, \"active\": null}"), sourceOperations.rowToJson(otherResultSet));
+    verify(otherResultSet, times(1)).getMetaData();
+  }
+
+  private static ResultSet mockResultSet() throws SQLException {
+    final ResultSetMetaData metadata = mock(ResultSetMetaData.class);
+    when(metadata.getColumnCount()).thenReturn(4);
+    mockColumn(metadata, 1, "id", "int4", Types.INTEGER);
+    mockColumn(metadata, 2, "price", "money", Types.DOUBLE);
+    mockColumn(metadata, 3, "name", "varchar", Types.VARCHAR);
+    mockColumn(metadata, 4, "active", "bool", Types.BIT);
+    final ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.getMetaData()).thenReturn(metadata);
+    return resultSet;
+  }
+
+  private static void mockRow(final ResultSet resultSet,
+                              final String id,
+                              final int idValue,
+                              final String price,
+                              final String name,
+                              final String active)
+      throws SQLException {
+    when(resultSet.getString(1)).thenReturn(id);
+    when(resultSet.getInt(1)).thenReturn(idValue);
+    when(resultSet.getString(2)).thenReturn(price);
+    when(resultSet.getString(3)).thenReturn(name);
+    when(resultSet.getString(4)).thenReturn(active);
+  }
+
+  private static void mockColumn(final ResultSetMetaData metadata, final int index, final String name, final String typeName, final int type)
+      throws SQLException {
+    when(metadata.getColumnName(index)).thenReturn(name);
+    when(metadata.getColumnTypeName(index)).thenReturn(typeName);
+    when(metadata.getColumnType(index)).thenReturn(type);
+  }
+
 }
@@ -39,6 +39,7 @@ import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.CommonField;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import io.airbyte.protocol.models.JsonSchemaType;
@@ -68,9 +69,22 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     BaseConnector implements Source, AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDbSource.class);
+  /**
+   * Environment variable with the maximum number of streams read at the same time. Defaults to 1,
+   * i.e. streams are read one after the other.
+   */
+  public static final String MAX_CONCURRENT_TABLE_READS = "MAX_CONCURRENT_TABLE_READS";
+  /**
+   * Environment variable with the number of primary key values per chunk when reading tables in
+   * chunks. Chunked reads are disabled when it is not set.
+   */
+  public static final String PRIMARY_KEY_CHUNK_SIZE = "PRIMARY_KEY_CHUNK_SIZE";
   // TODO: Remove when the flag is not use anymore
   private final FeatureFlags featureFlags = new EnvVariableFeatureFlags();
 
+  private long primaryKeyChunkSize = 0;
+  private int maxConcurrentChunkReads = 1;
+
   @Override
   public AirbyteConnectionStatus check(final JsonNode config) throws Exception {
     try {
@@ -119,6 +133,17 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
 
     final Database database = createDatabaseInternal(config);
 
+    // only per-stream states can be interleaved or checkpointed per chunk: legacy and global states
+    // are snapshots of every stream, so a snapshot taken by one stream could be emitted after a newer
+    // one taken by another.
+    final boolean perStreamState = getSupportedStateType(config) == AirbyteStateType.STREAM && featureFlags.useStreamCapableState();
+    final int maxConcurrentReads = perStreamState ? getMaxConcurrentTableReads(config) : 1;
+    primaryKeyChunkSize = perStreamState ? getPrimaryKeyChunkSize(config) : 0;
+    // when tables are read in chunks, the chunks of one table are read concurrently rather than whole
+    // tables, so that no more connections than allowed are opened.
+    maxConcurrentChunkReads = primaryKeyChunkSize > 0 ? maxConcurrentReads : 1;
+    final int maxConcurrentTableReads = primaryKeyChunkSize > 0 ? 1 : maxConcurrentReads;
+
     final Map<String, TableInfo<CommonField<DataType>>> fullyQualifiedTableNameToInfo =
         discoverWithoutSystemTables(database)
             .stream()
@@ -134,14 +159,50 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .flatMap(Collection::stream)
         .collect(Collectors.toList());
 
+    final AutoCloseableIterator<AirbyteMessage> messageIterator;
+    if (maxConcurrentTableReads > 1 && iteratorList.size() > 1) {
+      LOGGER.info("Reading up to {} streams concurrently.", maxConcurrentTableReads);
+      messageIterator = AutoCloseableIterators.mergeWithEagerClose(iteratorList, maxConcurrentTableReads);
+    } else {
+      messageIterator = AutoCloseableIterators.concatWithEagerClose(iteratorList);
+    }
+
     return AutoCloseableIterators
-        .appendOnClose(AutoCloseableIterators.concatWithEagerClose(iteratorList), () -> {
+        .appendOnClose(messageIterator, () -> {
           LOGGER.info("Closing database connection pool.");
           Exceptions.toRuntime(this::close);
           LOGGER.info("Closed database connection pool.");
         });
   }
 
+  /**
+   * Maximum number of streams to read at the same time. Messages of different streams are then
+   * interleaved, but the messages of each stream, including its state messages, keep their order.
+   * Only used when the source emits per-stream states.
+   *
+   * @param config configuration
+   * @return number of streams that can be read concurrently, read from
+   *         {@link #MAX_CONCURRENT_TABLE_READS} by default
+   */
+  protected int getMaxConcurrentTableReads(final JsonNode config) {
+    final String value = System.getenv(MAX_CONCURRENT_TABLE_READS);
+    return value == null || value.isBlank() ? 1 : Math.max(1, Integer.parseInt(value.trim()));
+  }
+
+  /**
+   * Number of primary key values per chunk when reading a table in chunks, see
+   * {@link ChunkedReadIterator}. Tables are only read in chunks when the source emits per-stream
+   * states and the table has a single column primary key.
+   *
+   * @param config configuration
+   * @return chunk size, or 0 to read tables in a single query, read from
+   *         {@link #PRIMARY_KEY_CHUNK_SIZE} by default
+   */
+  protected long getPrimaryKeyChunkSize(final JsonNode config) {
+    final String value = System.getenv(PRIMARY_KEY_CHUNK_SIZE);
+    return value == null || value.isBlank() ? 0 : Math.max(0, Long.parseLong(value.trim()));
+  }
+
   protected List<TableInfo<CommonField<DataType>>> discoverWithoutSystemTables(final Database database) throws Exception {
     final Set<String> systemNameSpaces = getExcludedInternalNameSpaces();
     final List<TableInfo<CommonField<DataType>>> discoveredTables = discoverInternal(database);
@@ -226,17 +287,29 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
         .filter(selectedFieldsInCatalog::contains)
         .collect(Collectors.toList());
 
+    // a primary key cursor is left behind by a chunked read that did not finish. It can be resumed
+    // unless the destination overwrites the records of the previous attempt.
+    final Optional<CursorInfo> cursorInfo = stateManager.getCursorInfo(pair);
+    final Optional<String> unfinishedReadPrimaryKeyCursor = cursorInfo.map(CursorInfo::getPrimaryKeyCursor);
+    cursorInfo.ifPresent(info -> info.setPrimaryKeyCursor(null));
+    final String resumeAfter = airbyteStream.getDestinationSyncMode() == DestinationSyncMode.OVERWRITE
+        ? null
+        : unfinishedReadPrimaryKeyCursor.orElse(null);
+
     final AutoCloseableIterator<AirbyteMessage> iterator;
     if (airbyteStream.getSyncMode() == SyncMode.INCREMENTAL) {
       final String cursorField = IncrementalUtils.getCursorField(airbyteStream);
       final Optional<String> cursorOptional = stateManager.getCursor(pair);
 
       final AutoCloseableIterator<AirbyteMessage> airbyteMessageIterator;
-      if (cursorOptional.isPresent()) {
+      if (cursorOptional.isPresent() && unfinishedReadPrimaryKeyCursor.isEmpty()) {
         airbyteMessageIterator = getIncrementalStream(database, airbyteStream, selectedDatabaseFields, table, cursorOptional.get(), emittedAt);
       } else {
         // if no cursor is present then this is the first read for is the same as doing a full refresh read.
-        airbyteMessageIterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+        // a cursor left behind by an unfinished first read is only the max cursor of what was read so far.
+        airbyteMessageIterator =
+            getInitialReadStream(database, airbyteStream, selectedDatabaseFields, table, stateManager,
+                unfinishedReadPrimaryKeyCursor.isPresent(), resumeAfter, emittedAt);
       }
 
       final JsonSchemaPrimitive cursorType = IncrementalUtils
@@ -251,7 +324,8 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
           cursorType),
           airbyteMessageIterator);
     } else if (airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
-      iterator = getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+      iterator = getInitialReadStream(database, airbyteStream, selectedDatabaseFields, table, stateManager,
+          unfinishedReadPrimaryKeyCursor.isPresent(), resumeAfter, emittedAt);
     } else if (airbyteStream.getSyncMode() == null) {
       throw new IllegalArgumentException(String.format("%s requires a source sync mode", this.getClass()));
     } else {
@@ -298,6 +372,72 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
     return getMessageIterator(queryIterator, streamName, namespace, emittedAt.toEpochMilli());
   }
 
+  /**
+   * Reads every record of a table, in chunks when possible.
+   *
+   * @param hasUnfinishedRead whether the state still has the primary key cursor of an unfinished
+   *        chunked read, which has to be cleared once the table has been read
+   * @param resumeAfter primary key after which a previous chunked read of the table stopped, or null
+   *        to read the whole table
+   */
+  private AutoCloseableIterator<AirbyteMessage> getInitialReadStream(final Database database,
+                                                                     final ConfiguredAirbyteStream airbyteStream,
+                                                                     final List<String> selectedDatabaseFields,
+                                                                     final TableInfo<CommonField<DataType>> table,
+                                                                     final StateManager stateManager,
+                                                                     final boolean hasUnfinishedRead,
+                                                                     final String resumeAfter,
+                                                                     final Instant emittedAt) {
+    final String streamName = airbyteStream.getStream().getName();
+    final String namespace = airbyteStream.getStream().getNamespace();
+    final List<List<String>> primaryKeys = airbyteStream.getStream().getSourceDefinedPrimaryKey();
+    if (primaryKeyChunkSize > 0 && primaryKeys != null && primaryKeys.size() == 1 && primaryKeys.get(0).size() == 1) {
+      final String primaryKey = primaryKeys.get(0).get(0);
+      final Optional<CommonField<DataType>> primaryKeyField = table.getFields().stream()
+          .filter(field -> field.getName().equals(primaryKey))
+          .findFirst();
+      final Optional<PrimaryKeyChunks> chunks = primaryKeyField.flatMap(field -> getPrimaryKeyChunks(
+          database,
+          selectedDatabaseFields,
+          table.getNameSpace(),
+          table.getName(),
+          primaryKey,
+          field.getType(),
+          resumeAfter,
+          primaryKeyChunkSize));
+      if (chunks.isPresent()) {
+        if (resumeAfter != null) {
+          LOGGER.info("Resuming read of stream {} after primary key {}", streamName, resumeAfter);
+        }
+        return new ChunkedReadIterator(
+            stateManager,
+            new AirbyteStreamNameNamespacePair(streamName, namespace),
+            resumeAfter,
+            chunks.get().getBoundaries(),
+            maxConcurrentChunkReads,
+            (lowerBound, upperBound) -> getMessageIterator(
+                chunks.get().getChunkQuery().apply(lowerBound, upperBound),
+                streamName,
+                namespace,
+                emittedAt.toEpochMilli()));
+      }
+    }
+    final AutoCloseableIterator<AirbyteMessage> fullRefreshStream =
+        getFullRefreshStream(database, streamName, namespace, selectedDatabaseFields, table, emittedAt);
+    if (hasUnfinishedRead && airbyteStream.getSyncMode() == SyncMode.FULL_REFRESH) {
+      // incremental streams emit a state at the end anyway.
+      final AirbyteStreamNameNamespacePair pair = new AirbyteStreamNameNamespacePair(streamName, namespace);
+      return AutoCloseableIterators.concatWithEagerClose(fullRefreshStream, AutoCloseableIterators.lazyIterator(() -> {
+        final AirbyteStateMessage stateMessage;
+        synchronized (stateManager) {
+          stateMessage = stateManager.updatePrimaryKeyCursorAndEmit(pair, null);
+        }
+        return AutoCloseableIterators.fromIterator(List.of(new AirbyteMessage().withType(Type.STATE).withState(stateMessage)).iterator());
+      }));
+    }
+    return fullRefreshStream;
+  }
+
   protected AutoCloseableIterator<AirbyteMessage> getFullRefreshStream(final Database database,
                                                                        final String streamName,
                                                                        final String namespace,
@@ -511,6 +651,33 @@ public abstract class AbstractDbSource<DataType, Database extends AbstractDataba
                                                                         DataType cursorFieldType,
                                                                         String cursor);
 
+  /**
+   * Splits the primary key values of a table into chunks of {@code chunkSize} values, each read by
+   * its own query. Not supported by default.
+   *
+   * @param database source database
+   * @param columnNames interested column names
+   * @param schemaName table namespace
+   * @param tableName target table
+   * @param primaryKey primary key column name
+   * @param primaryKeyType primary key column type
+   * @param startAfter primary key value after which the chunks start, or null to split the whole
+   *        table
+   * @param chunkSize number of primary key values per chunk
+   * @return the chunks along with their query, or an empty optional if the table cannot be read in
+   *         chunks
+   */
+  protected Optional<PrimaryKeyChunks> getPrimaryKeyChunks(final Database database,
+                                                           final List<String> columnNames,
+                                                           final String schemaName,
+                                                           final String tableName,
+                                                           final String primaryKey,
+                                                           final DataType primaryKeyType,
+                                                           final String startAfter,
+                                                           final long chunkSize) {
+    return Optional.empty();
+  }
+
   private Database createDatabaseInternal(final JsonNode sourceConfig) throws Exception {
     final Database database = createDatabase(sourceConfig);
     database.setSourceConfig(sourceConfig);
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.source.relationaldb.state.StateManager;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads a stream as a sequence of primary key ranges ("chunks"), up to {@code maxConcurrency} of
+ * them at the same time, and emits a state message each time every chunk up to some primary key
+ * value has been read, recording that value as the primary key cursor of the stream. A read that
+ * fails can then resume after the last primary key cursor instead of starting over.
+ * <p>
+ * Chunk {@code i} covers the primary keys in {@code (boundaries[i - 1], boundaries[i]]}, the first
+ * chunk starting after {@code startAfter} and the last one being unbounded. Once the last chunk has
+ * been read, a final state message clears the primary key cursor.
+ */
+public class ChunkedReadIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedReadIterator.class);
+
+  private final AutoCloseableIterator<ChunkItem> chunkIterator;
+  private final StateManager stateManager;
+  private final AirbyteStreamNameNamespacePair pair;
+  private final List<String> boundaries;
+  private final boolean[] completedChunks;
+
+  private int nextCheckpoint;
+
+  /**
+   * @param chunkReader reads the records with a primary key in the given (lower exclusive, upper
+   *        inclusive) range, either bound being {@code null} when the range is unbounded on that
+   *        side.
+   */
+  public ChunkedReadIterator(final StateManager stateManager,
+                             final AirbyteStreamNameNamespacePair pair,
+                             final String startAfter,
+                             final List<String> boundaries,
+                             final int maxConcurrency,
+                             final BiFunction<String, String, AutoCloseableIterator<AirbyteMessage>> chunkReader) {
+    this.stateManager = stateManager;
+    this.pair = pair;
+    this.boundaries = boundaries;
+    this.completedChunks = new boolean[boundaries.size() + 1];
+    this.nextCheckpoint = 0;
+
+    final List<AutoCloseableIterator<ChunkItem>> chunks = new ArrayList<>();
+    for (int i = 0; i <= boundaries.size(); i++) {
+      final int chunk = i;
+      final String lowerBound = i == 0 ? startAfter : boundaries.get(i - 1);
+      final String upperBound = i == boundaries.size() ? null : boundaries.get(i);
+      chunks.add(AutoCloseableIterators.lazyIterator(() -> {
+        final AutoCloseableIterator<AirbyteMessage> records = chunkReader.apply(lowerBound, upperBound);
+        return AutoCloseableIterators.concatWithEagerClose(
+            AutoCloseableIterators.transform(records, record -> new ChunkItem(chunk, record)),
+            AutoCloseableIterators.fromIterator(List.of(new ChunkItem(chunk, null)).iterator()));
+      }));
+    }
+    LOGGER.info("Reading stream {} in {} chunks.", pair, chunks.size());
+    this.chunkIterator = maxConcurrency > 1
+        ? AutoCloseableIterators.mergeWithEagerClose(chunks, maxConcurrency)
+        : AutoCloseableIterators.concatWithEagerClose(chunks);
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    while (chunkIterator.hasNext()) {
+      final ChunkItem item = chunkIterator.next();
+      if (item.record() != null) {
+        return item.record();
+      }
+
+      completedChunks[item.chunk()] = true;
+      final int previousCheckpoint = nextCheckpoint;
+      while (nextCheckpoint < completedChunks.length && completedChunks[nextCheckpoint]) {
+        nextCheckpoint++;
+      }
+      if (nextCheckpoint > previousCheckpoint) {
+        // every record up to the upper bound of the last contiguous completed chunk has been returned
+        final String primaryKeyCursor = nextCheckpoint == completedChunks.length ? null : boundaries.get(nextCheckpoint - 1);
+        final AirbyteStateMessage stateMessage;
+        synchronized (stateManager) {
+          stateMessage = stateManager.updatePrimaryKeyCursorAndEmit(pair, primaryKeyCursor);
+        }
+        LOGGER.info("Read {} of {} chunks of stream {}, primary key cursor: {}", nextCheckpoint, completedChunks.length, pair, primaryKeyCursor);
+        return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+      }
+    }
+    return endOfData();
+  }
+
+  @Override
+  public void close() throws Exception {
+    chunkIterator.close();
+  }
+
+  /**
+   * A record of a chunk, or the end of the chunk when {@code record} is null.
+   */
+  private record ChunkItem(int chunk, AirbyteMessage record) {}
+
+}
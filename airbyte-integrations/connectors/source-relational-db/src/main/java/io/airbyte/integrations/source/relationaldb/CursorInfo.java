@@ -13,6 +13,7 @@ public class CursorInfo {
 
   private final String cursorField;
   private String cursor;
+  private String primaryKeyCursor;
 
   public CursorInfo(final String originalCursorField,
                     final String originalCursor,
@@ -46,6 +47,16 @@ public class CursorInfo {
     return this;
   }
 
+  public String getPrimaryKeyCursor() {
+    return primaryKeyCursor;
+  }
+
+  @SuppressWarnings("UnusedReturnValue")
+  public CursorInfo setPrimaryKeyCursor(final String primaryKeyCursor) {
+    this.primaryKeyCursor = primaryKeyCursor;
+    return this;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -57,12 +68,13 @@ public class CursorInfo {
     final CursorInfo that = (CursorInfo) o;
     return Objects.equals(originalCursorField, that.originalCursorField) && Objects
         .equals(originalCursor, that.originalCursor)
-        && Objects.equals(cursorField, that.cursorField) && Objects.equals(cursor, that.cursor);
+        && Objects.equals(cursorField, that.cursorField) && Objects.equals(cursor, that.cursor)
+        && Objects.equals(primaryKeyCursor, that.primaryKeyCursor);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(originalCursorField, originalCursor, cursorField, cursor);
+    return Objects.hash(originalCursorField, originalCursor, cursorField, cursor, primaryKeyCursor);
   }
 
   @Override
@@ -72,6 +84,7 @@ public class CursorInfo {
         ", originalCursor='" + originalCursor + '\'' +
         ", cursorField='" + cursorField + '\'' +
         ", cursor='" + cursor + '\'' +
+        ", primaryKeyCursor='" + primaryKeyCursor + '\'' +
         '}';
   }
 
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The primary key ranges ("chunks") a table is split into and the query that reads each of them.
+ * See {@link ChunkedReadIterator}.
+ */
+@Getter
+@Builder
+public class PrimaryKeyChunks {
+
+  // upper bound of each chunk but the last one, which is unbounded
+  private final List<String> boundaries;
+  // reads the records with a primary key in the given (lower exclusive, upper inclusive) range,
+  // ordered by primary key, either bound being null when the range is unbounded on that side
+  private final BiFunction<String, String, AutoCloseableIterator<JsonNode>> chunkQuery;
+
+}
@@ -52,6 +52,15 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
   protected AirbyteMessage computeNext() {
     if (messageIterator.hasNext()) {
       final AirbyteMessage message = messageIterator.next();
+      if (message.getType() == Type.STATE) {
+        // a checkpoint of a chunked read: it also has to record the max cursor read so far, so that a
+        // resumed read does not lose it.
+        final AirbyteStateMessage stateMessage;
+        synchronized (stateManager) {
+          stateMessage = stateManager.updateAndEmit(pair, maxCursor);
+        }
+        return new AirbyteMessage().withType(Type.STATE).withState(stateMessage);
+      }
       if (message.getRecord().getData().hasNonNull(cursorField)) {
         final String cursorCandidate = getCursorCandidate(message);
         if (IncrementalUtils.compareCursors(maxCursor, cursorCandidate, cursorType) < 0) {
@@ -61,15 +70,19 @@ public class StateDecoratingIterator extends AbstractIterator<AirbyteMessage> im
 
       return message;
     } else if (!hasEmittedState) {
-      final AirbyteStateMessage stateMessage = stateManager.updateAndEmit(pair, maxCursor);
-      LOGGER.info("State Report: stream name: {}, original cursor field: {}, original cursor {}, cursor field: {}, new cursor: {}",
-          pair,
-          stateManager.getOriginalCursorField(pair).orElse(null),
-          stateManager.getOriginalCursor(pair).orElse(null),
-          stateManager.getCursorField(pair).orElse(null),
-          stateManager.getCursor(pair).orElse(null));
-      if (stateManager.getCursor(pair).isEmpty()) {
-        LOGGER.warn("Cursor was for stream {} was null. This stream will replicate all records on the next run", pair);
+      // streams may be read concurrently, and they share the state manager
+      final AirbyteStateMessage stateMessage;
+      synchronized (stateManager) {
+        stateMessage = stateManager.updateAndEmit(pair, maxCursor);
+        LOGGER.info("State Report: stream name: {}, original cursor field: {}, original cursor {}, cursor field: {}, new cursor: {}",
+            pair,
+            stateManager.getOriginalCursorField(pair).orElse(null),
+            stateManager.getOriginalCursor(pair).orElse(null),
+            stateManager.getCursorField(pair).orElse(null),
+            stateManager.getCursor(pair).orElse(null));
+        if (stateManager.getCursor(pair).isEmpty()) {
+          LOGGER.warn("Cursor was for stream {} was null. This stream will replicate all records on the next run", pair);
+        }
       }
 
       hasEmittedState = true;
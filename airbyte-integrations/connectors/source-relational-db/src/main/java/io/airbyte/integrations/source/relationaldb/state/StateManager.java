@@ -147,4 +147,23 @@ public interface StateManager<T, S> {
     return emit(Optional.ofNullable(pair));
   }
 
+  /**
+   * Updates the progress of the chunked read of the stream associated with the provided stream
+   * name/namespace pair and emits the current state maintained by the state manager.
+   *
+   * @param pair The {@link AirbyteStreamNameNamespacePair} that represents a stream managed by the
+   *        state manager.
+   * @param primaryKeyCursor The primary key value up to which all records of the stream have been
+   *        read, or {@code null} once the chunked read has finished.
+   * @return An {@link AirbyteStateMessage} that represents the current state maintained by the state
+   *         manager.
+   */
+  default AirbyteStateMessage updatePrimaryKeyCursorAndEmit(final AirbyteStreamNameNamespacePair pair, final String primaryKeyCursor) {
+    final Optional<CursorInfo> cursorInfo = getCursorInfo(pair);
+    Preconditions.checkState(cursorInfo.isPresent(), "Could not find cursor information for stream: " + pair);
+    LOGGER.debug("Updating primary key cursor value for {} to {}...", pair, primaryKeyCursor);
+    cursorInfo.get().setPrimaryKeyCursor(primaryKeyCursor);
+    return emit(Optional.ofNullable(pair));
+  }
+
 }
@@ -12,12 +12,14 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.source.relationaldb.CdcStateManager;
 import io.airbyte.integrations.source.relationaldb.CursorInfo;
+import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
 import io.airbyte.protocol.models.AirbyteStateMessage.AirbyteStateType;
 import io.airbyte.protocol.models.AirbyteStreamState;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -48,6 +50,25 @@ public class StreamStateManager extends AbstractStateManager<AirbyteStateMessage
         CURSOR_FUNCTION,
         CURSOR_FIELD_FUNCTION,
         NAME_NAMESPACE_PAIR_FUNCTION);
+    restorePrimaryKeyCursors(airbyteStateMessages);
+  }
+
+  /**
+   * Restores the progress of chunked reads that did not finish, unless the cursor field of the stream
+   * changed since.
+   */
+  private void restorePrimaryKeyCursors(final List<AirbyteStateMessage> airbyteStateMessages) {
+    for (final AirbyteStateMessage airbyteStateMessage : airbyteStateMessages) {
+      final AirbyteStreamState streamState = airbyteStateMessage.getStream();
+      final AirbyteStreamNameNamespacePair pair = streamState == null ? null : NAME_NAMESPACE_PAIR_FUNCTION.apply(streamState);
+      if (pair == null) {
+        continue;
+      }
+      final Optional<String> primaryKeyCursor = StateGeneratorUtils.extractState(streamState).map(DbStreamState::getPrimaryKeyCursor);
+      getCursorInfo(pair)
+          .filter(cursorInfo -> Objects.equals(cursorInfo.getCursorField(), cursorInfo.getOriginalCursorField()))
+          .ifPresent(cursorInfo -> primaryKeyCursor.ifPresent(cursorInfo::setPrimaryKeyCursor));
+    }
   }
 
   @Override
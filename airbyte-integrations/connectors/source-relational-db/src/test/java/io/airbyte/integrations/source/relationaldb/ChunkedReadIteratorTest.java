@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.relationaldb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.source.relationaldb.state.StateManager;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedReadIteratorTest {
+
+  private static final AirbyteStreamNameNamespacePair NAME_NAMESPACE_PAIR = new AirbyteStreamNameNamespacePair("shoes", "public");
+  private static final String ID_FIELD_NAME = "id";
+  private static final String PRIMARY_KEY_CURSOR = "primary_key_cursor";
+  private static final List<Integer> IDS = IntStream.rangeClosed(1, 1_000).boxed().collect(Collectors.toList());
+  private static final List<String> BOUNDARIES = List.of("100", "200", "300", "400", "500", "600", "700", "800", "900");
+
+  private StateManager stateManager;
+
+  @BeforeEach
+  void setup() {
+    stateManager = mock(StateManager.class);
+    when(stateManager.updatePrimaryKeyCursorAndEmit(eq(NAME_NAMESPACE_PAIR), any())).thenAnswer(invocation -> new AirbyteStateMessage()
+        .withData(Jsons.jsonNode(Collections.singletonMap(PRIMARY_KEY_CURSOR, invocation.getArgument(1)))));
+  }
+
+  @Test
+  void testSequentialRead() {
+    final List<AirbyteMessage> messages = readAll(new ChunkedReadIterator(stateManager, NAME_NAMESPACE_PAIR, null, BOUNDARIES, 1, this::readChunk));
+
+    assertEquals(IDS, getIds(messages));
+    assertEquals(List.of("100", "200", "300", "400", "500", "600", "700", "800", "900"), getPrimaryKeyCursors(messages).subList(0, 9));
+    assertNull(getPrimaryKeyCursors(messages).get(9));
+    assertStatesFollowTheirRecords(messages, 0);
+  }
+
+  @Test
+  void testConcurrentRead() {
+    final List<AirbyteMessage> messages = readAll(new ChunkedReadIterator(stateManager, NAME_NAMESPACE_PAIR, null, BOUNDARIES, 4, this::readChunk));
+
+    assertEquals(IDS, getIds(messages).stream().sorted().collect(Collectors.toList()));
+    final List<String> primaryKeyCursors = getPrimaryKeyCursors(messages);
+    assertNull(primaryKeyCursors.get(primaryKeyCursors.size() - 1));
+    assertStatesFollowTheirRecords(messages, 0);
+  }
+
+  @Test
+  void testResumedRead() {
+    final List<AirbyteMessage> messages =
+        readAll(new ChunkedReadIterator(stateManager, NAME_NAMESPACE_PAIR, "800", List.of("900"), 2, this::readChunk));
+
+    assertEquals(IDS.subList(800, 1_000), getIds(messages).stream().sorted().collect(Collectors.toList()));
+    assertStatesFollowTheirRecords(messages, 800);
+  }
+
+  private AutoCloseableIterator<AirbyteMessage> readChunk(final String lowerBound, final String upperBound) {
+    return AutoCloseableIterators.fromIterator(IDS.stream()
+        .filter(id -> lowerBound == null || id > Integer.parseInt(lowerBound))
+        .filter(id -> upperBound == null || id <= Integer.parseInt(upperBound))
+        .map(id -> new AirbyteMessage()
+            .withType(Type.RECORD)
+            .withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(Collections.singletonMap(ID_FIELD_NAME, id)))))
+        .iterator());
+  }
+
+  /**
+   * Every record up to the primary key cursor of a state must come before that state.
+   */
+  private static void assertStatesFollowTheirRecords(final List<AirbyteMessage> messages, final int startAfter) {
+    final Set<Integer> readIds = new HashSet<>();
+    for (final AirbyteMessage message : messages) {
+      if (message.getType() == Type.RECORD) {
+        readIds.add(message.getRecord().getData().get(ID_FIELD_NAME).asInt());
+      } else {
+        final String primaryKeyCursor = message.getState().getData().get(PRIMARY_KEY_CURSOR).asText(null);
+        final int upTo = primaryKeyCursor == null ? IDS.size() : Integer.parseInt(primaryKeyCursor);
+        assertTrue(readIds.containsAll(IDS.subList(startAfter, upTo)), "State emitted before its records: " + primaryKeyCursor);
+      }
+    }
+  }
+
+  private static List<AirbyteMessage> readAll(final ChunkedReadIterator iterator) {
+    final List<AirbyteMessage> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
+    return messages;
+  }
+
+  private static List<Integer> getIds(final List<AirbyteMessage> messages) {
+    return messages.stream()
+        .filter(message -> message.getType() == Type.RECORD)
+        .map(message -> message.getRecord().getData().get(ID_FIELD_NAME).asInt())
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> getPrimaryKeyCursors(final List<AirbyteMessage> messages) {
+    return messages.stream()
+        .filter(message -> message.getType() == Type.STATE)
+        .map(message -> message.getState().getData().get(PRIMARY_KEY_CURSOR).asText(null))
+        .collect(Collectors.toList());
+  }
+
+}
@@ -136,6 +136,31 @@ class StateDecoratingIteratorTest {
     assertFalse(iterator.hasNext());
   }
 
+  @Test
+  void testChunkCheckpointsRecordMaxCursor() {
+    final AirbyteStateMessage checkpoint = mock(AirbyteStateMessage.class);
+    messageIterator = MoreIterators.of(
+        RECORD_MESSAGE1,
+        new AirbyteMessage().withType(Type.STATE).withState(new AirbyteStateMessage()),
+        RECORD_MESSAGE2);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "abc")).thenReturn(checkpoint);
+    when(stateManager.updateAndEmit(NAME_NAMESPACE_PAIR, "def")).thenReturn(stateMessage);
+
+    final StateDecoratingIterator iterator = new StateDecoratingIterator(
+        messageIterator,
+        stateManager,
+        NAME_NAMESPACE_PAIR,
+        UUID_FIELD_NAME,
+        null,
+        JsonSchemaPrimitive.STRING);
+
+    assertEquals(RECORD_MESSAGE1, iterator.next());
+    assertEquals(checkpoint, iterator.next().getState());
+    assertEquals(RECORD_MESSAGE2, iterator.next());
+    assertEquals(stateMessage, iterator.next().getState());
+    assertFalse(iterator.hasNext());
+  }
+
   @Test
   void testUnicodeNull() {
     messageIterator = MoreIterators.of(RECORD_MESSAGE3);
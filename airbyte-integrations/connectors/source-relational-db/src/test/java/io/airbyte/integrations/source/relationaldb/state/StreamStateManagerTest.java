@@ -20,6 +20,7 @@ import static org.mockito.Mockito.mock;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
+import io.airbyte.integrations.source.relationaldb.CursorInfo;
 import io.airbyte.integrations.source.relationaldb.models.DbState;
 import io.airbyte.integrations.source.relationaldb.models.DbStreamState;
 import io.airbyte.protocol.models.AirbyteStateMessage;
@@ -217,6 +218,38 @@ public class StreamStateManagerTest {
     assertEquals(expectedFirstEmission, actualFirstEmission);
   }
 
+  @Test
+  void testPrimaryKeyCursor() {
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(List.of(
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME1).withNamespace(NAMESPACE))
+                .withCursorField(List.of(CURSOR_FIELD1)),
+            new ConfiguredAirbyteStream()
+                .withStream(new AirbyteStream().withName(STREAM_NAME2).withNamespace(NAMESPACE))
+                .withCursorField(List.of(CURSOR_FIELD1))));
+    final AirbyteStateMessage firstStreamState = createStreamState(STREAM_NAME1, NAMESPACE, List.of(CURSOR_FIELD1), CURSOR);
+    firstStreamState.getStream().setStreamState(Jsons.jsonNode(Jsons.object(firstStreamState.getStream().getStreamState(), DbStreamState.class)
+        .withPrimaryKeyCursor("100")));
+    // the cursor field of the second stream changed, so the progress of its chunked read is not
+    // restored.
+    final AirbyteStateMessage secondStreamState = createStreamState(STREAM_NAME2, NAMESPACE, List.of(CURSOR_FIELD2), CURSOR);
+    secondStreamState.getStream().setStreamState(Jsons.jsonNode(Jsons.object(secondStreamState.getStream().getStreamState(), DbStreamState.class)
+        .withPrimaryKeyCursor("200")));
+
+    final StreamStateManager stateManager = new StreamStateManager(List.of(firstStreamState, secondStreamState), catalog);
+
+    assertEquals(Optional.of("100"), stateManager.getCursorInfo(NAME_NAMESPACE_PAIR1).map(CursorInfo::getPrimaryKeyCursor));
+    assertEquals(Optional.empty(), stateManager.getCursorInfo(NAME_NAMESPACE_PAIR2).map(CursorInfo::getPrimaryKeyCursor));
+
+    final AirbyteStateMessage checkpoint = stateManager.updatePrimaryKeyCursorAndEmit(NAME_NAMESPACE_PAIR1, "150");
+    assertEquals("150", Jsons.object(checkpoint.getStream().getStreamState(), DbStreamState.class).getPrimaryKeyCursor());
+    assertEquals(CURSOR, Jsons.object(checkpoint.getStream().getStreamState(), DbStreamState.class).getCursor());
+
+    final AirbyteStateMessage finalState = stateManager.updatePrimaryKeyCursorAndEmit(NAME_NAMESPACE_PAIR1, null);
+    assertNull(Jsons.object(finalState.getStream().getStreamState(), DbStreamState.class).getPrimaryKeyCursor());
+  }
+
   @Test
   void testCdcStateManager() {
     final ConfiguredAirbyteCatalog catalog = mock(ConfiguredAirbyteCatalog.class);
@@ -6,6 +6,7 @@ package io.airbyte.validation.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Preconditions;
+import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SchemaValidatorsConfig;
 import com.networknt.schema.SpecVersion;
@@ -13,12 +14,15 @@ import com.networknt.schema.ValidationMessage;
 import io.airbyte.commons.string.Strings;
 import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import me.andrz.jackson.JsonContext;
 import me.andrz.jackson.JsonReferenceException;
 import me.andrz.jackson.JsonReferenceProcessor;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,10 +32,67 @@ public class JsonSchemaValidator {
 
   private final SchemaValidatorsConfig schemaValidatorsConfig;
   private final JsonSchemaFactory jsonSchemaFactory;
+  // schemas compiled up front by initializeSchemaValidators, keyed by the caller's schema name.
+  private volatile Map<String, JsonSchema> initializedSchemas;
 
   public JsonSchemaValidator() {
     this.schemaValidatorsConfig = new SchemaValidatorsConfig();
     this.jsonSchemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V7);
+    this.initializedSchemas = Map.of();
+  }
+
+  /**
+   * Compiles each of the provided schemas once and keeps the result so that objects can then be
+   * validated with {@link #validateInitializedSchema(String, JsonNode)} without re-parsing the schema
+   * on every call. Replaces any previously initialized schemas.
+   *
+   * @param schemasByName - schemas to compile, keyed by the name they will be looked up with
+   */
+  public void initializeSchemaValidators(final Map<String, JsonNode> schemasByName) {
+    final Map<String, JsonSchema> compiledSchemas = new HashMap<>();
+    schemasByName.forEach((name, schemaJson) -> {
+      Preconditions.checkNotNull(schemaJson);
+      compiledSchemas.put(name, jsonSchemaFactory.getSchema(schemaJson, schemaValidatorsConfig));
+    });
+    initializedSchemas = Map.copyOf(compiledSchemas);
+  }
+
+  /**
+   * Validates an object against a schema compiled by {@link #initializeSchemaValidators(Map)} in a
+   * single pass.
+   *
+   * @param schemaName - name the schema was initialized with
+   * @param objectJson - object to validate
+   * @return the path and message arguments of each validation failure. empty if the object is valid.
+   */
+  public List<ImmutablePair<String, String[]>> validateInitializedSchema(final String schemaName, final JsonNode objectJson) {
+    return validateInitializedSchemaInternal(schemaName, objectJson)
+        .stream()
+        .map(message -> ImmutablePair.of(message.getPath(), message.getArguments()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Same as {@link #test(JsonNode, JsonNode)}, but against a schema compiled by
+   * {@link #initializeSchemaValidators(Map)}.
+   */
+  public boolean testInitializedSchema(final String schemaName, final JsonNode objectJson) {
+    final Set<ValidationMessage> validationMessages = validateInitializedSchemaInternal(schemaName, objectJson);
+
+    if (!validationMessages.isEmpty()) {
+      LOGGER.info("JSON schema validation failed. \nerrors: {}", Strings.join(validationMessages, ", "));
+    }
+
+    return validationMessages.isEmpty();
+  }
+
+  // keep this internal as it returns a type specific to the wrapped library.
+  private Set<ValidationMessage> validateInitializedSchemaInternal(final String schemaName, final JsonNode objectJson) {
+    final JsonSchema schema = initializedSchemas.get(schemaName);
+    Preconditions.checkArgument(schema != null, "No schema was initialized for %s", schemaName);
+    Preconditions.checkNotNull(objectJson);
+
+    return schema.validate(objectJson);
   }
 
   public Set<String> validate(final JsonNode schemaJson, final JsonNode objectJson) {
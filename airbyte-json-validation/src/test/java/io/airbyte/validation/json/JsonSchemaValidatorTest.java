@@ -5,6 +5,7 @@
 package io.airbyte.validation.json;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -16,6 +17,9 @@ import io.airbyte.commons.json.Jsons;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.Test;
 
 class JsonSchemaValidatorTest {
@@ -65,6 +69,21 @@ class JsonSchemaValidatorTest {
     assertThrows(JsonValidationException.class, () -> validator.ensure(VALID_SCHEMA, object2));
   }
 
+  @Test
+  void testValidateInitializedSchema() {
+    final JsonSchemaValidator validator = new JsonSchemaValidator();
+    validator.initializeSchemaValidators(Map.of("test", VALID_SCHEMA));
+
+    assertTrue(validator.validateInitializedSchema("test", Jsons.deserialize("{\"host\":\"abc\", \"port\":1}")).isEmpty());
+
+    final List<ImmutablePair<String, String[]>> failures =
+        validator.validateInitializedSchema("test", Jsons.deserialize("{\"host\":1}"));
+    assertEquals(1, failures.size());
+    assertEquals("$.host", failures.get(0).getLeft());
+
+    assertThrows(IllegalArgumentException.class, () -> validator.validateInitializedSchema("unknown", Jsons.deserialize("{}")));
+  }
+
   @Test
   void test() throws IOException {
     final String schema = "{\n"
@@ -44,6 +44,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -339,15 +340,38 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(final Set<ConfigType> configTypes, final String configId, final int pagesize, final int offset) throws IOException {
+    // the page is taken from the jobs before they are joined with their attempts, so that it counts
+    // jobs rather than job attempts
     return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
-        BASE_JOB_SELECT_AND_JOIN + "WHERE " +
+        BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT id FROM jobs WHERE " +
             "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " " +
             "AND scope = ? " +
-            ORDER_BY_JOB_TIME_ATTEMPT_TIME +
-            "LIMIT ? OFFSET ?",
+            "ORDER BY created_at DESC, id DESC " +
+            "LIMIT ? OFFSET ?) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
         configId, pagesize, offset)));
   }
 
+  @Override
+  public List<Job> listJobsBefore(final Set<ConfigType> configTypes, final String configId, final Optional<Long> beforeJobId, final int pagesize)
+      throws IOException {
+    final List<Object> args = new ArrayList<>();
+    args.add(configId);
+    beforeJobId.ifPresent(args::add);
+    args.add(pagesize);
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx.fetch(
+        BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT id FROM jobs WHERE " +
+            "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " " +
+            "AND scope = ? " +
+            (beforeJobId.isPresent() ? "AND (created_at, id) < (SELECT created_at, id FROM jobs WHERE id = ?) " : "") +
+            "ORDER BY created_at DESC, id DESC " +
+            "LIMIT ?) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+        args.toArray())));
+  }
+
   @Override
   public List<Job> listJobsWithStatus(final JobStatus status) throws IOException {
     return listJobsWithStatus(Sets.newHashSet(ConfigType.values()), status);
@@ -432,6 +456,25 @@ public class DefaultJobPersistence implements JobPersistence {
         .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
   }
 
+  @Override
+  public List<Job> getLastSyncJobForConnections(final List<UUID> connectionIds) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    final List<Object> args = new ArrayList<>();
+    args.add(Sqls.toSqlName(ConfigType.SYNC));
+    connectionIds.forEach(connectionId -> args.add(connectionId.toString()));
+    return jobDatabase.query(ctx -> getJobsFromResult(ctx
+        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT DISTINCT ON (scope) id FROM jobs WHERE " +
+            "CAST(config_type AS VARCHAR) = ? AND " +
+            "scope IN (" + String.join(", ", Collections.nCopies(connectionIds.size(), "?")) + ") " +
+            "ORDER BY scope, created_at DESC, id DESC) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+            args.toArray())));
+  }
+
   @Override
   public Optional<Job> getNextJob() throws IOException {
     // rules:
@@ -145,6 +145,21 @@ public interface JobPersistence {
    */
   List<Job> listJobs(Set<JobConfig.ConfigType> configTypes, String configId, int limit, int offset) throws IOException;
 
+  /**
+   * Lists the jobs of a config a page at a time, seeking to the end of the previous page in the
+   * (created_at, id) order of the jobs instead of skipping over an offset, so that reading a page
+   * costs the same however far back it is.
+   *
+   * @param configTypes - type of config, e.g. sync
+   * @param configId - id of that config
+   * @param beforeJobId - id of the last job of the previous page, or empty for the first page
+   * @param limit - maximum number of jobs in the page
+   * @return lists the jobs that were created before the given job in descending order by created_at,
+   *         or none if the given job does not exist
+   * @throws IOException - what you do when you IO
+   */
+  List<Job> listJobsBefore(Set<JobConfig.ConfigType> configTypes, String configId, Optional<Long> beforeJobId, int limit) throws IOException;
+
   /**
    * @param configType The type of job
    * @param attemptEndedAtTimestamp The timestamp after which you want the jobs
@@ -181,6 +196,14 @@ public interface JobPersistence {
 
   Optional<Job> getFirstReplicationJob(UUID connectionId) throws IOException;
 
+  /**
+   * @param connectionIds ids of the connections to get the latest sync job of
+   * @return the most recently created sync job (with its attempts) of each of the given connections
+   *         that has one, in a single query instead of one per connection
+   * @throws IOException
+   */
+  List<Job> getLastSyncJobForConnections(List<UUID> connectionIds) throws IOException;
+
   Optional<Job> getNextJob() throws IOException;
 
   /**
@@ -830,6 +830,50 @@ class DefaultJobPersistenceTest {
 
   }
 
+  @Nested
+  @DisplayName("When getting the last sync job of connections")
+  class GetLastSyncJobForConnections {
+
+    @Test
+    @DisplayName("Should return nothing if no connection is given")
+    public void testGetLastSyncJobForConnectionsNoConnection() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+
+      assertEquals(Collections.emptyList(), jobPersistence.getLastSyncJobForConnections(Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("Should return the last sync job of each connection that has one")
+    public void testGetLastSyncJobForConnections() throws IOException {
+      final UUID otherConnectionId = UUID.randomUUID();
+      final UUID connectionWithoutJobsId = UUID.randomUUID();
+
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+      final long otherJobId = jobPersistence.enqueueJob(otherConnectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.failAttempt(otherJobId, jobPersistence.createAttempt(otherJobId, LOG_PATH));
+      final List<AttemptWithJobInfo> attemptsWithJobInfo = jobPersistence.listAttemptsWithJobInfo(SYNC_JOB_CONFIG.getConfigType(), Instant.EPOCH);
+      final List<Attempt> otherAttempts = attemptsWithJobInfo.stream()
+          .filter(attemptWithJobInfo -> attemptWithJobInfo.getJobInfo().getId() == otherJobId)
+          .map(AttemptWithJobInfo::getAttempt)
+          .toList();
+
+      final Instant afterNow = NOW.plusSeconds(1000);
+      when(timeSupplier.get()).thenReturn(afterNow);
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      // jobs of other types are not sync jobs
+      jobPersistence.enqueueJob(otherConnectionId.toString(), SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.getLastSyncJobForConnections(List.of(CONNECTION_ID, otherConnectionId, connectionWithoutJobsId));
+      final List<Job> expected = List.of(
+          createJob(jobId2, SYNC_JOB_CONFIG, JobStatus.PENDING, Collections.emptyList(), afterNow.getEpochSecond()),
+          createJob(otherJobId, SYNC_JOB_CONFIG, JobStatus.INCOMPLETE, otherAttempts, NOW.getEpochSecond(), otherConnectionId.toString()));
+
+      assertEquals(expected, actual);
+    }
+
+  }
+
   @Nested
   @DisplayName("When getting first replication job")
   class GetFirstReplicationJob {
@@ -1016,6 +1060,46 @@ class DefaultJobPersistenceTest {
       assertEquals(ids.get(ids.size() - 1 - offset), actualList.get(0).getId());
     }
 
+    @Test
+    @DisplayName("Should count jobs rather than attempts when paging")
+    public void testListJobsByPageWithMultipleAttempts() throws IOException {
+      final List<Long> ids = new ArrayList<Long>();
+      for (int i = 0; i < 5; i++) {
+        final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+        jobPersistence.failAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+        jobPersistence.createAttempt(jobId, LOG_PATH.resolve("2"));
+        ids.add(jobId);
+      }
+
+      final List<Job> actualList = jobPersistence.listJobs(SPEC_JOB_CONFIG.getConfigType(), CONNECTION_ID.toString(), 2, 1);
+      assertEquals(List.of(ids.get(3), ids.get(2)), actualList.stream().map(Job::getId).toList());
+      assertEquals(2, actualList.get(0).getAttempts().size());
+    }
+
+    @Test
+    @DisplayName("Should page through all jobs from the end of each page")
+    public void testListJobsBefore() throws IOException {
+      final List<Long> ids = new ArrayList<Long>();
+      for (int i = 0; i < 25; i++) {
+        // the first jobs share their created_at, so they are only told apart by their ids
+        when(timeSupplier.get()).thenReturn(NOW.plusSeconds(Math.max(0, i - 10)));
+        final long jobId = jobPersistence.enqueueJob(CONNECTION_ID.toString(), SPEC_JOB_CONFIG).orElseThrow();
+        jobPersistence.createAttempt(jobId, LOG_PATH);
+        ids.add(jobId);
+      }
+
+      final List<Long> actualIds = new ArrayList<>();
+      Optional<Long> beforeJobId = Optional.empty();
+      List<Job> page;
+      do {
+        page = jobPersistence.listJobsBefore(Set.of(SPEC_JOB_CONFIG.getConfigType()), CONNECTION_ID.toString(), beforeJobId, 10);
+        page.forEach(job -> actualIds.add(job.getId()));
+        beforeJobId = page.isEmpty() ? beforeJobId : Optional.of(page.get(page.size() - 1).getId());
+      } while (!page.isEmpty());
+
+      assertEquals(Lists.reverse(ids), actualIds);
+    }
+
     @Test
     @DisplayName("Should return the results in the correct sort order")
     public void testListJobsSortsDescending() throws IOException {
@@ -19,6 +19,7 @@ import io.airbyte.api.model.generated.DestinationSearch;
 import io.airbyte.api.model.generated.DestinationUpdate;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.persistence.ConfigNotFoundException;
@@ -32,8 +33,11 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class DestinationHandler {
 
@@ -196,18 +200,37 @@ public class DestinationHandler {
 
   public DestinationReadList listDestinationsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-    final List<DestinationRead> reads = Lists.newArrayList();
+    return listDestinationsForWorkspace(workspaceIdRequestBody, false);
+  }
 
-    for (final DestinationConnection dci : configRepository.listDestinationConnection()) {
-      if (!dci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())) {
-        continue;
-      }
+  /**
+   * Builds the reads of the destinations of a workspace from one listing of the destinations and one
+   * of the destination definitions, instead of reading each destination and its definition
+   * separately.
+   */
+  public DestinationReadList listDestinationsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody, final boolean includeDeleted)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
+    final List<DestinationConnection> destinationConnections = configRepository.listDestinationConnection()
+        .stream()
+        .filter(dci -> dci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId()) && (includeDeleted || !dci.getTombstone()))
+        .toList();
+    if (destinationConnections.isEmpty()) {
+      return new DestinationReadList().destinations(Lists.newArrayList());
+    }
 
-      if (dci.getTombstone()) {
-        continue;
+    final Map<UUID, StandardDestinationDefinition> destinationDefinitions = configRepository.listStandardDestinationDefinitions(true)
+        .stream()
+        .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, Function.identity()));
+    final List<DestinationRead> reads = Lists.newArrayList();
+    for (final DestinationConnection dci : destinationConnections) {
+      final StandardDestinationDefinition destinationDefinition = destinationDefinitions.get(dci.getDestinationDefinitionId());
+      if (destinationDefinition == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_DESTINATION_DEFINITION, dci.getDestinationDefinitionId().toString());
       }
-
-      reads.add(buildDestinationRead(dci.getDestinationId()));
+      // remove secrets from config before returning the read
+      dci.setConfiguration(secretsProcessor.prepareSecretsForOutput(dci.getConfiguration(),
+          destinationDefinition.getSpec().getConnectionSpecification()));
+      reads.add(toDestinationRead(dci, destinationDefinition));
     }
 
     return new DestinationReadList().destinations(reads);
@@ -34,6 +34,7 @@ import io.airbyte.server.converters.JobConverter;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -79,18 +80,35 @@ public class JobHistoryHandler {
         .map(type -> Enums.convertTo(type, JobConfig.ConfigType.class))
         .collect(Collectors.toSet());
     final String configId = request.getConfigId();
-
-    final List<JobWithAttemptsRead> jobReads = jobPersistence.listJobs(configTypes,
-        configId,
-        (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
-            : DEFAULT_PAGE_SIZE,
-        (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0)
+    final int pageSize = (request.getPagination() != null && request.getPagination().getPageSize() != null)
+        ? request.getPagination().getPageSize()
+        : DEFAULT_PAGE_SIZE;
+
+    // a page after a given job is sought from that job, instead of scanning over the jobs before it
+    final List<Job> jobs = request.getBeforeJobId() != null
+        ? jobPersistence.listJobsBefore(configTypes, configId, Optional.of(request.getBeforeJobId()), pageSize)
+        : jobPersistence.listJobs(configTypes,
+            configId,
+            pageSize,
+            (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0);
+    final List<JobWithAttemptsRead> jobReads = jobs
         .stream()
         .map(attempt -> jobConverter.getJobWithAttemptsRead(attempt))
         .collect(Collectors.toList());
     return new JobReadList().jobs(jobReads);
   }
 
+  /**
+   * Lists the latest sync job of each of the given connections that has one, with its attempts.
+   */
+  public JobReadList listLatestSyncJobsFor(final List<UUID> connectionIds) throws IOException {
+    final List<JobWithAttemptsRead> jobReads = jobPersistence.getLastSyncJobForConnections(connectionIds)
+        .stream()
+        .map(JobConverter::getJobWithAttemptsRead)
+        .collect(Collectors.toList());
+    return new JobReadList().jobs(jobReads);
+  }
+
   public JobInfoRead getJobInfo(final JobIdRequestBody jobIdRequestBody) throws IOException {
     final Job job = jobPersistence.getJob(jobIdRequestBody.getId());
     return jobConverter.getJobInfoRead(job);
@@ -10,6 +10,7 @@ import com.google.common.collect.Lists;
 import io.airbyte.api.model.generated.CheckOperationRead;
 import io.airbyte.api.model.generated.CheckOperationRead.StatusEnum;
 import io.airbyte.api.model.generated.ConnectionIdRequestBody;
+import io.airbyte.api.model.generated.ConnectionRead;
 import io.airbyte.api.model.generated.OperationCreate;
 import io.airbyte.api.model.generated.OperationIdRequestBody;
 import io.airbyte.api.model.generated.OperationRead;
@@ -30,10 +31,14 @@ import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class OperationsHandler {
 
@@ -149,6 +154,36 @@ public class OperationsHandler {
     return new OperationReadList().operations(operationReads);
   }
 
+  /**
+   * Lists the operations of each of the given connections, like
+   * {@link #listOperationsForConnection(ConnectionIdRequestBody)}, from a single listing of the
+   * operations.
+   *
+   * @return the operations of the connections by connection id
+   */
+  public Map<UUID, OperationReadList> listOperationsForConnections(final List<ConnectionRead> connectionReads)
+      throws JsonValidationException, ConfigNotFoundException, IOException {
+    final Map<UUID, StandardSyncOperation> standardSyncOperations = configRepository.listStandardSyncOperations()
+        .stream()
+        .collect(Collectors.toMap(StandardSyncOperation::getOperationId, Function.identity()));
+    final Map<UUID, OperationReadList> operationReadLists = new HashMap<>();
+    for (final ConnectionRead connectionRead : connectionReads) {
+      final List<OperationRead> operationReads = Lists.newArrayList();
+      for (final UUID operationId : connectionRead.getOperationIds()) {
+        final StandardSyncOperation standardSyncOperation = standardSyncOperations.get(operationId);
+        if (standardSyncOperation == null) {
+          throw new ConfigNotFoundException(ConfigSchema.STANDARD_SYNC_OPERATION, operationId.toString());
+        }
+        if (standardSyncOperation.getTombstone() != null && standardSyncOperation.getTombstone()) {
+          continue;
+        }
+        operationReads.add(buildOperationRead(standardSyncOperation));
+      }
+      operationReadLists.put(connectionRead.getConnectionId(), new OperationReadList().operations(operationReads));
+    }
+    return operationReadLists;
+  }
+
   public OperationRead getOperation(final OperationIdRequestBody operationIdRequestBody)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     return buildOperationRead(operationIdRequestBody.getOperationId());
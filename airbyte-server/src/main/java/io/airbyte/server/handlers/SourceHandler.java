@@ -18,6 +18,7 @@ import io.airbyte.api.model.generated.SourceSearch;
 import io.airbyte.api.model.generated.SourceUpdate;
 import io.airbyte.api.model.generated.WorkspaceIdRequestBody;
 import io.airbyte.commons.lang.MoreBooleans;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.persistence.ConfigNotFoundException;
@@ -31,8 +32,11 @@ import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class SourceHandler {
 
@@ -162,15 +166,36 @@ public class SourceHandler {
 
   public SourceReadList listSourcesForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
+    return listSourcesForWorkspace(workspaceIdRequestBody, false);
+  }
+
+  /**
+   * Builds the reads of the sources of a workspace from one listing of the sources and one of the
+   * source definitions, instead of reading each source and its definition separately.
+   */
+  public SourceReadList listSourcesForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody, final boolean includeDeleted)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
 
     final List<SourceConnection> sourceConnections = configRepository.listSourceConnection()
         .stream()
-        .filter(sc -> sc.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId()) && !MoreBooleans.isTruthy(sc.getTombstone()))
+        .filter(sc -> sc.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())
+            && (includeDeleted || !MoreBooleans.isTruthy(sc.getTombstone())))
         .toList();
+    if (sourceConnections.isEmpty()) {
+      return new SourceReadList().sources(Lists.newArrayList());
+    }
 
+    final Map<UUID, StandardSourceDefinition> sourceDefinitions = configRepository.listStandardSourceDefinitions(true)
+        .stream()
+        .collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, Function.identity()));
     final List<SourceRead> reads = Lists.newArrayList();
     for (final SourceConnection sc : sourceConnections) {
-      reads.add(buildSourceRead(sc.getSourceId()));
+      final StandardSourceDefinition sourceDefinition = sourceDefinitions.get(sc.getSourceDefinitionId());
+      if (sourceDefinition == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, sc.getSourceDefinitionId().toString());
+      }
+      sc.setConfiguration(secretsProcessor.prepareSecretsForOutput(sc.getConfiguration(), sourceDefinition.getSpec().getConnectionSpecification()));
+      reads.add(toSourceRead(sc, sourceDefinition));
     }
 
     return new SourceReadList().sources(reads);
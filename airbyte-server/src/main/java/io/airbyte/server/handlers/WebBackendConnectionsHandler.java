@@ -67,6 +67,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -105,20 +106,65 @@ public class WebBackendConnectionsHandler {
 
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
-
-    final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
-    }
-    return new WebBackendConnectionReadList().connections(reads);
+    return buildWebBackendConnectionReadList(workspaceIdRequestBody,
+        connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
   }
 
   public WebBackendConnectionReadList webBackendListAllConnectionsForWorkspace(final WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
+    return buildWebBackendConnectionReadList(workspaceIdRequestBody,
+        connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections());
+  }
 
+  /**
+   * Builds the reads of the connections of a workspace from the sources and destinations of the
+   * workspace, the operations of the connections and their latest sync jobs, each loaded at once,
+   * instead of looking them up connection by connection. Sources and destinations that are not in the
+   * workspace are still read one by one.
+   */
+  private WebBackendConnectionReadList buildWebBackendConnectionReadList(final WorkspaceIdRequestBody workspaceIdRequestBody,
+                                                                         final List<ConnectionRead> connectionReads)
+      throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (final ConnectionRead connection : connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
+    if (connectionReads.isEmpty()) {
+      return new WebBackendConnectionReadList().connections(reads);
+    }
+
+    final Map<UUID, SourceRead> sourceReads = sourceHandler.listSourcesForWorkspace(workspaceIdRequestBody, true)
+        .getSources()
+        .stream()
+        .collect(toMap(SourceRead::getSourceId, Function.identity()));
+    final Map<UUID, DestinationRead> destinationReads = destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody, true)
+        .getDestinations()
+        .stream()
+        .collect(toMap(DestinationRead::getDestinationId, Function.identity()));
+    final Map<UUID, OperationReadList> operationReadLists = operationsHandler.listOperationsForConnections(connectionReads);
+    final Map<String, JobRead> latestSyncJobs = jobHistoryHandler
+        .listLatestSyncJobsFor(connectionReads.stream().map(ConnectionRead::getConnectionId).toList())
+        .getJobs()
+        .stream()
+        .map(JobWithAttemptsRead::getJob)
+        .collect(toMap(JobRead::getConfigId, Function.identity()));
+
+    for (final ConnectionRead connectionRead : connectionReads) {
+      final SourceRead source = sourceReads.containsKey(connectionRead.getSourceId())
+          ? sourceReads.get(connectionRead.getSourceId())
+          : getSourceRead(connectionRead);
+      final DestinationRead destination = destinationReads.containsKey(connectionRead.getDestinationId())
+          ? destinationReads.get(connectionRead.getDestinationId())
+          : getDestinationRead(connectionRead);
+      final Optional<JobRead> latestSyncJob = Optional.ofNullable(latestSyncJobs.get(connectionRead.getConnectionId().toString()));
+
+      final WebBackendConnectionRead webBackendConnectionRead =
+          getWebBackendConnectionRead(connectionRead, source, destination, operationReadLists.get(connectionRead.getConnectionId()))
+              .catalogId(connectionRead.getSourceCatalogId())
+              // a connection only runs one sync at a time, and it is its latest one
+              .isSyncing(latestSyncJob.map(WebBackendConnectionsHandler::isRunningJob).orElse(false));
+      latestSyncJob.ifPresent(job -> {
+        webBackendConnectionRead.setLatestSyncJobCreatedAt(job.getCreatedAt());
+        webBackendConnectionRead.setLatestSyncJobStatus(job.getStatus());
+      });
+      reads.add(webBackendConnectionRead);
     }
     return new WebBackendConnectionReadList().connections(reads);
   }
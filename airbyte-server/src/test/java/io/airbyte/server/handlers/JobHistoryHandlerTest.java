@@ -6,7 +6,12 @@ package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -205,6 +210,27 @@ public class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+    @Test
+    @DisplayName("Should return the jobs before the given job instead of the jobs at the row offset")
+    public void testListJobsBefore() throws IOException {
+      final int pagesize = 25;
+      final var latestJobId = JOB_ID + 100;
+
+      when(jobPersistence.listJobsBefore(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, Optional.of(latestJobId),
+          pagesize)).thenReturn(List.of(testJob));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(pagesize).rowOffset(50))
+          .beforeJobId(latestJobId);
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final var jobWithAttemptRead = new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)));
+      assertEquals(new JobReadList().jobs(List.of(jobWithAttemptRead)), jobReadList);
+      verify(jobPersistence, never()).listJobs(anySet(), anyString(), anyInt(), anyInt());
+    }
+
   }
 
   @Test
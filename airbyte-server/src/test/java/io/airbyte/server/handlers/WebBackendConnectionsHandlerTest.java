@@ -36,6 +36,7 @@ import io.airbyte.api.model.generated.ConnectionStatus;
 import io.airbyte.api.model.generated.ConnectionUpdate;
 import io.airbyte.api.model.generated.DestinationIdRequestBody;
 import io.airbyte.api.model.generated.DestinationRead;
+import io.airbyte.api.model.generated.DestinationReadList;
 import io.airbyte.api.model.generated.DestinationSyncMode;
 import io.airbyte.api.model.generated.JobConfigType;
 import io.airbyte.api.model.generated.JobInfoRead;
@@ -53,6 +54,7 @@ import io.airbyte.api.model.generated.SourceDiscoverSchemaRead;
 import io.airbyte.api.model.generated.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.generated.SourceIdRequestBody;
 import io.airbyte.api.model.generated.SourceRead;
+import io.airbyte.api.model.generated.SourceReadList;
 import io.airbyte.api.model.generated.StreamDescriptor;
 import io.airbyte.api.model.generated.StreamTransform;
 import io.airbyte.api.model.generated.StreamTransform.TransformTypeEnum;
@@ -92,6 +94,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -104,6 +107,9 @@ class WebBackendConnectionsHandlerTest {
 
   private ConnectionsHandler connectionsHandler;
   private OperationsHandler operationsHandler;
+  private SourceHandler sourceHandler;
+  private DestinationHandler destinationHandler;
+  private JobHistoryHandler jobHistoryHandler;
   private SchedulerHandler schedulerHandler;
   private StateHandler stateHandler;
   private WebBackendConnectionsHandler wbHandler;
@@ -111,6 +117,7 @@ class WebBackendConnectionsHandlerTest {
   private SourceRead sourceRead;
   private ConnectionRead connectionRead;
   private OperationReadList operationReadList;
+  private JobReadList jobReadList;
   private WebBackendConnectionRead expected;
   private WebBackendConnectionRead expectedWithNewSchema;
   private EventRunner eventRunner;
@@ -121,9 +128,9 @@ class WebBackendConnectionsHandlerTest {
     connectionsHandler = mock(ConnectionsHandler.class);
     stateHandler = mock(StateHandler.class);
     operationsHandler = mock(OperationsHandler.class);
-    final SourceHandler sourceHandler = mock(SourceHandler.class);
-    final DestinationHandler destinationHandler = mock(DestinationHandler.class);
-    final JobHistoryHandler jobHistoryHandler = mock(JobHistoryHandler.class);
+    sourceHandler = mock(SourceHandler.class);
+    destinationHandler = mock(DestinationHandler.class);
+    jobHistoryHandler = mock(JobHistoryHandler.class);
     configRepository = mock(ConfigRepository.class);
     schedulerHandler = mock(SchedulerHandler.class);
     eventRunner = mock(EventRunner.class);
@@ -179,7 +186,7 @@ class WebBackendConnectionsHandlerTest {
             .updatedAt(now.getEpochSecond())
             .endedAt(now.getEpochSecond())));
 
-    final JobReadList jobReadList = new JobReadList();
+    jobReadList = new JobReadList();
     jobReadList.setJobs(Collections.singletonList(jobRead));
     final JobListRequestBody jobListRequestBody = new JobListRequestBody();
     jobListRequestBody.setConfigTypes(Collections.singletonList(JobConfigType.SYNC));
@@ -285,10 +292,13 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
+    when(sourceHandler.listSourcesForWorkspace(workspaceIdRequestBody, true)).thenReturn(new SourceReadList().sources(List.of(sourceRead)));
+    // the destination is in another workspace, so it is read on its own
+    when(destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody, true)).thenReturn(new DestinationReadList().destinations(List.of()));
+    when(operationsHandler.listOperationsForConnections(List.of(connectionRead)))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), operationReadList));
+    when(jobHistoryHandler.listLatestSyncJobsFor(List.of(connectionRead.getConnectionId()))).thenReturn(jobReadList);
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
@@ -302,10 +312,13 @@ class WebBackendConnectionsHandlerTest {
 
     final ConnectionReadList connectionReadList = new ConnectionReadList();
     connectionReadList.setConnections(Collections.singletonList(connectionRead));
-    final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
-    connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listAllConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
+    when(sourceHandler.listSourcesForWorkspace(workspaceIdRequestBody, true)).thenReturn(new SourceReadList().sources(List.of(sourceRead)));
+    // the destination is in another workspace, so it is read on its own
+    when(destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody, true)).thenReturn(new DestinationReadList().destinations(List.of()));
+    when(operationsHandler.listOperationsForConnections(List.of(connectionRead)))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), operationReadList));
+    when(jobHistoryHandler.listLatestSyncJobsFor(List.of(connectionRead.getConnectionId()))).thenReturn(jobReadList);
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListAllConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
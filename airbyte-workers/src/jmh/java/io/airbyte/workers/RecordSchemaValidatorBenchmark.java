@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.validation.json.JsonSchemaValidator;
+import io.airbyte.validation.json.JsonValidationException;
+import io.airbyte.workers.exception.RecordSchemaValidationException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares record validation throughput (records/sec) of compiling the stream schema for every
+ * record, which is what RecordSchemaValidator used to do, against validating with the schemas
+ * compiled once by {@link RecordSchemaValidator#initializeSchemaValidator()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecordSchemaValidatorBenchmark {
+
+  private static final String STREAM_NAME = "users";
+
+  @Param({"5", "50"})
+  public int columns;
+
+  private JsonNode schema;
+  private AirbyteRecordMessage record;
+  private JsonSchemaValidator perRecordValidator;
+  private RecordSchemaValidator recordSchemaValidator;
+
+  @Setup
+  public void setup() {
+    final ObjectNode properties = Jsons.emptyObject().deepCopy();
+    final ObjectNode data = Jsons.emptyObject().deepCopy();
+    for (int i = 0; i < columns; i++) {
+      if (i % 2 == 0) {
+        properties.set("column_" + i, Jsons.jsonNode(Map.of("type", "string")));
+        data.put("column_" + i, "value_" + i);
+      } else {
+        properties.set("column_" + i, Jsons.jsonNode(Map.of("type", "number")));
+        data.put("column_" + i, i * 1.5);
+      }
+    }
+    final ObjectNode streamSchema = Jsons.emptyObject().deepCopy();
+    streamSchema.put("$schema", "http://json-schema.org/draft-07/schema#");
+    streamSchema.put("type", "object");
+    streamSchema.set("properties", properties);
+
+    schema = streamSchema;
+    record = new AirbyteRecordMessage().withStream(STREAM_NAME).withData(data).withEmittedAt(0L);
+    perRecordValidator = new JsonSchemaValidator();
+    recordSchemaValidator = new RecordSchemaValidator(Map.of(STREAM_NAME, streamSchema.deepCopy()));
+    recordSchemaValidator.initializeSchemaValidator();
+  }
+
+  @Benchmark
+  public void compileSchemaPerRecord() throws JsonValidationException {
+    perRecordValidator.ensure(schema, record.getData());
+  }
+
+  @Benchmark
+  public void precompiledSchema() throws RecordSchemaValidationException {
+    recordSchemaValidator.validateSchema(record, STREAM_NAME);
+  }
+
+}
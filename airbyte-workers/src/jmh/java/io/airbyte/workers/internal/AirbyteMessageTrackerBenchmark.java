@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link AirbyteMessageTracker#acceptFromSource(AirbyteMessage)} throughput
+ * (records/sec) for records spread round-robin over a number of streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AirbyteMessageTrackerBenchmark {
+
+  private static final int COLUMNS = 10;
+
+  @Param({"1", "10", "500"})
+  public int streams;
+
+  private AirbyteMessage[] records;
+  private AirbyteMessageTracker messageTracker;
+  private int next;
+
+  @Setup
+  public void setup() {
+    records = new AirbyteMessage[streams];
+    for (int i = 0; i < streams; i++) {
+      final ObjectNode data = Jsons.emptyObject().deepCopy();
+      for (int j = 0; j < COLUMNS; j++) {
+        data.put("column_" + j, "value_" + j);
+      }
+      records[i] = new AirbyteMessage()
+          .withType(AirbyteMessage.Type.RECORD)
+          .withRecord(new AirbyteRecordMessage().withStream("stream_" + i).withData(data).withEmittedAt(0L));
+    }
+    messageTracker = new AirbyteMessageTracker();
+    next = 0;
+  }
+
+  @Benchmark
+  public void acceptFromSource() {
+    messageTracker.acceptFromSource(records[next]);
+    next = next + 1 == streams ? 0 : next + 1;
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.logging.MdcScope;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how many lines of source output per second {@link DefaultAirbyteStreamFactory#create}
+ * turns into messages, with and without the protocol envelope validation fast path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DefaultAirbyteStreamFactoryBenchmark {
+
+  private static final int RECORDS = 10_000;
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  @Param({"false", "true"})
+  public boolean envelopeValidation;
+
+  private String jsonl;
+  private DefaultAirbyteStreamFactory streamFactory;
+
+  @Setup
+  public void setup() {
+    // no state messages, so that every line is a record
+    jsonl = SyntheticMessages.jsonl(1, SyntheticMessages.columns(shape), RECORDS, Integer.MAX_VALUE);
+    streamFactory = new DefaultAirbyteStreamFactory(new AirbyteProtocolPredicate(),
+        LoggerFactory.getLogger(DefaultAirbyteStreamFactoryBenchmark.class), MdcScope.DEFAULT_BUILDER, envelopeValidation);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long create() {
+    return streamFactory.create(new BufferedReader(new StringReader(jsonl))).count();
+  }
+
+}
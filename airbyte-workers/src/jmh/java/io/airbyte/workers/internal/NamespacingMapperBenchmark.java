@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures {@link NamespacingMapper#mapMessage(AirbyteMessage)} throughput (records/sec) when the
+ * namespace is mirrored from the source, which leaves records untouched, and when records are
+ * renamed with a custom namespace format and a stream prefix.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class NamespacingMapperBenchmark {
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  @Param({"source", "customformat"})
+  public String namespaceDefinition;
+
+  private AirbyteMessage record;
+  private NamespacingMapper mapper;
+
+  @Setup
+  public void setup() {
+    record = SyntheticMessages.record(0, SyntheticMessages.columns(shape), 0);
+    mapper = namespaceDefinition.equals("source")
+        ? new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null)
+        : new NamespacingMapper(NamespaceDefinitionType.CUSTOMFORMAT, "${SOURCE_NAMESPACE}_raw", "prefix_");
+  }
+
+  @Benchmark
+  public AirbyteMessage mapMessage() {
+    return mapper.mapMessage(record);
+  }
+
+}
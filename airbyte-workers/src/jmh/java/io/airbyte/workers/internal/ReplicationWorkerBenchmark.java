@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
+import io.airbyte.config.ReplicationOutput;
+import io.airbyte.config.StandardSyncInput;
+import io.airbyte.config.StandardSyncSummary.ReplicationStatus;
+import io.airbyte.config.WorkerDestinationConfig;
+import io.airbyte.config.WorkerSourceConfig;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.workers.RecordSchemaValidator;
+import io.airbyte.workers.WorkerUtils;
+import io.airbyte.workers.general.DefaultReplicationWorker;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Runs {@link DefaultReplicationWorker} end-to-end in-process: the source replays pre-generated
+ * JSONL through {@link DefaultAirbyteStreamFactory} and the destination writes every message to
+ * nowhere, acknowledging the state messages it receives. The score is syncs/sec; the records and
+ * bytes counters report records/sec and bytes/sec delivered to the destination.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ReplicationWorkerBenchmark {
+
+  private static final int RECORDS = 20_000;
+  private static final int STATE_INTERVAL = 1_000;
+
+  @Param({"narrow", "wide"})
+  public String shape;
+
+  @Param({"1", "500"})
+  public int streams;
+
+  @Param({"false", "true"})
+  public boolean pipelined;
+
+  private String jsonl;
+  private StandardSyncInput syncInput;
+  private Path jobRoot;
+
+  @Setup
+  public void setup() throws Exception {
+    final int columns = SyntheticMessages.columns(shape);
+    jsonl = SyntheticMessages.jsonl(streams, columns, RECORDS, STATE_INTERVAL);
+    syncInput = new StandardSyncInput()
+        .withSourceConfiguration(Jsons.emptyObject())
+        .withDestinationConfiguration(Jsons.emptyObject())
+        .withCatalog(SyntheticMessages.catalog(streams, columns));
+    jobRoot = Files.createTempDirectory("replication-benchmark");
+  }
+
+  @Benchmark
+  public ReplicationOutput replicate(final Counters counters) throws Exception {
+    final DiscardingAirbyteDestination destination = new DiscardingAirbyteDestination();
+    final DefaultReplicationWorker worker = new DefaultReplicationWorker(
+        "1",
+        0,
+        new JsonlAirbyteSource(jsonl),
+        new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null),
+        destination,
+        new AirbyteMessageTracker(),
+        new RecordSchemaValidator(WorkerUtils.mapStreamNamesToSchemas(syncInput)),
+        pipelined);
+
+    final ReplicationOutput output = worker.run(syncInput, jobRoot);
+    if (output.getReplicationAttemptSummary().getStatus() != ReplicationStatus.COMPLETED) {
+      throw new IllegalStateException("Replication did not complete: " + output.getFailures());
+    }
+    counters.records += destination.records;
+    counters.bytes += destination.bytes;
+    return output;
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class Counters {
+
+    public long records;
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      records = 0;
+      bytes = 0;
+    }
+
+  }
+
+  /**
+   * Reads the messages of a source from memory instead of from a container.
+   */
+  private static class JsonlAirbyteSource implements AirbyteSource {
+
+    private final String jsonl;
+    private Iterator<AirbyteMessage> messages;
+
+    JsonlAirbyteSource(final String jsonl) {
+      this.jsonl = jsonl;
+    }
+
+    @Override
+    public void start(final WorkerSourceConfig sourceConfig, final Path jobRoot) {
+      messages = new DefaultAirbyteStreamFactory().create(new BufferedReader(new StringReader(jsonl))).iterator();
+    }
+
+    @Override
+    public boolean isFinished() {
+      return !messages.hasNext();
+    }
+
+    @Override
+    public int getExitValue() {
+      return 0;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      return messages.hasNext() ? Optional.of(messages.next()) : Optional.empty();
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void cancel() {}
+
+  }
+
+  /**
+   * Serializes messages the way {@link DefaultAirbyteDestination} does, but only counts the bytes,
+   * and sends every state message it receives back to the worker as if it had been committed.
+   */
+  private static class DiscardingAirbyteDestination implements AirbyteDestination {
+
+    private final BlockingQueue<AirbyteMessage> committedStates = new LinkedBlockingQueue<>();
+    private volatile boolean inputHasEnded = false;
+    private long records;
+    private long bytes;
+
+    @Override
+    public void start(final WorkerDestinationConfig destinationConfig, final Path jobRoot) {}
+
+    @Override
+    public void accept(final AirbyteMessage message) {
+      final String rawLine = RawLineAirbyteMessage.rawLineOf(message);
+      bytes += (rawLine != null ? rawLine : Jsons.serialize(message)).length() + 1;
+      if (message.getType() == AirbyteMessage.Type.RECORD) {
+        records++;
+      } else if (message.getType() == AirbyteMessage.Type.STATE) {
+        committedStates.add(message);
+      }
+    }
+
+    @Override
+    public void notifyEndOfInput() {
+      inputHasEnded = true;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return inputHasEnded && committedStates.isEmpty();
+    }
+
+    @Override
+    public int getExitValue() {
+      return 0;
+    }
+
+    @Override
+    public Optional<AirbyteMessage> attemptRead() {
+      try {
+        return Optional.ofNullable(committedStates.poll(10, TimeUnit.MILLISECONDS));
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Optional.empty();
+      }
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public void cancel() {}
+
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the records, state messages and catalogs the worker benchmarks run on. Records of a
+ * "narrow" shape have a handful of columns, records of a "wide" shape a hundred; even columns are
+ * strings and odd columns are numbers.
+ */
+public final class SyntheticMessages {
+
+  public static final String NAMESPACE = "public";
+
+  private SyntheticMessages() {}
+
+  public static int columns(final String shape) {
+    return switch (shape) {
+      case "narrow" -> 5;
+      case "wide" -> 100;
+      default -> throw new IllegalArgumentException("Unknown record shape: " + shape);
+    };
+  }
+
+  public static String streamName(final int stream) {
+    return "stream_" + stream;
+  }
+
+  public static ConfiguredAirbyteCatalog catalog(final int streams, final int columns) {
+    final List<Field> fields = new ArrayList<>();
+    for (int i = 0; i < columns; i++) {
+      fields.add(Field.of("column_" + i, i % 2 == 0 ? JsonSchemaType.STRING : JsonSchemaType.NUMBER));
+    }
+    final List<ConfiguredAirbyteStream> configuredStreams = new ArrayList<>();
+    for (int i = 0; i < streams; i++) {
+      configuredStreams.add(CatalogHelpers.createConfiguredAirbyteStream(streamName(i), NAMESPACE, fields));
+    }
+    return new ConfiguredAirbyteCatalog().withStreams(configuredStreams);
+  }
+
+  public static AirbyteMessage record(final int stream, final int columns, final long index) {
+    final ObjectNode data = Jsons.emptyObject().deepCopy();
+    for (int i = 0; i < columns; i++) {
+      if (i % 2 == 0) {
+        data.put("column_" + i, "value_" + i + "_" + index);
+      } else {
+        data.put("column_" + i, index * 1.5 + i);
+      }
+    }
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(new AirbyteRecordMessage()
+            .withStream(streamName(stream))
+            .withNamespace(NAMESPACE)
+            .withData(data)
+            .withEmittedAt(1_656_662_130_000L));
+  }
+
+  public static AirbyteMessage state(final long index) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("records_read", index))));
+  }
+
+  /**
+   * Serializes {@code records} records, spread round-robin over {@code streams} streams, one message
+   * per line as a source would print them, with a state message after every {@code stateInterval}
+   * records.
+   */
+  public static String jsonl(final int streams, final int columns, final int records, final int stateInterval) {
+    final StringBuilder lines = new StringBuilder();
+    for (int i = 0; i < records; i++) {
+      lines.append(Jsons.serialize(record(i % streams, columns, i))).append('\n');
+      if ((i + 1) % stateInterval == 0) {
+        lines.append(Jsons.serialize(state(i + 1))).append('\n');
+      }
+    }
+    return lines.toString();
+  }
+
+}
@@ -8,12 +8,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.validation.json.JsonSchemaValidator;
-import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.exception.RecordSchemaValidationException;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.apache.commons.lang3.tuple.ImmutablePair;
 
 /**
  * Validates that AirbyteRecordMessage data conforms to the JSON schema defined by the source's
@@ -23,11 +24,37 @@ import java.util.Set;
 public class RecordSchemaValidator {
 
   private final Map<String, JsonNode> streams;
+  private final JsonSchemaValidator validator;
+  private boolean initialized;
 
   public RecordSchemaValidator(final Map<String, JsonNode> streamNamesToSchemas) {
     // streams is Map of a stream source namespace + name mapped to the stream schema
     // for easy access when we check each record's schema
     this.streams = streamNamesToSchemas;
+    this.validator = new JsonSchemaValidator();
+    this.initialized = false;
+  }
+
+  /**
+   * Compiles the schema of every configured stream once, so that validating a record does not
+   * re-parse its stream's schema. Called when the replication worker starts; safe to call more than
+   * once.
+   */
+  public void initializeSchemaValidator() {
+    if (initialized) {
+      return;
+    }
+
+    final Map<String, JsonNode> schemasToCompile = new HashMap<>();
+    streams.forEach((stream, schema) -> {
+      final ObjectNode schemaCopy = (ObjectNode) schema.deepCopy();
+      // We must choose a JSON validator version for validating the schema
+      // Rather than allowing connectors to use any version, we enforce validation using V7
+      schemaCopy.put("$schema", "http://json-schema.org/draft-07/schema#");
+      schemasToCompile.put(stream, schemaCopy);
+    });
+    validator.initializeSchemaValidators(schemasToCompile);
+    initialized = true;
   }
 
   /**
@@ -38,39 +65,27 @@ public class RecordSchemaValidator {
    * @throws RecordSchemaValidationException
    */
   public void validateSchema(final AirbyteRecordMessage message, final String messageStream) throws RecordSchemaValidationException {
-    final JsonNode messageData = message.getData();
-    final JsonNode matchingSchema = streams.get(messageStream);
+    initializeSchemaValidator();
 
-    final JsonSchemaValidator validator = new JsonSchemaValidator();
-
-    // We must choose a JSON validator version for validating the schema
-    // Rather than allowing connectors to use any version, we enforce validation using V7
-    ((ObjectNode) matchingSchema).put("$schema", "http://json-schema.org/draft-07/schema#");
-
-    try {
-      validator.ensure(matchingSchema, messageData);
-    } catch (final JsonValidationException e) {
-      final List<String[]> invalidRecordDataAndType = validator.getValidationMessageArgs(matchingSchema, messageData);
-      final List<String> invalidFields = validator.getValidationMessagePaths(matchingSchema, messageData);
+    final List<ImmutablePair<String, String[]>> invalidFieldsAndArgs = validator.validateInitializedSchema(messageStream, message.getData());
+    if (invalidFieldsAndArgs.isEmpty()) {
+      return;
+    }
 
-      final Set<String> validationMessagesToDisplay = new HashSet<>();
-      for (int i = 0; i < invalidFields.size(); i++) {
-        final StringBuilder expectedType = new StringBuilder();
-        if (invalidRecordDataAndType.size() > i && invalidRecordDataAndType.get(i).length > 1) {
-          expectedType.append(invalidRecordDataAndType.get(i)[1]);
-        }
-        final StringBuilder newMessage = new StringBuilder();
-        newMessage.append(invalidFields.get(i));
-        newMessage.append(" is of an incorrect type.");
-        if (expectedType.length() > 0) {
-          newMessage.append(" Expected it to be " + expectedType);
-        }
-        validationMessagesToDisplay.add(newMessage.toString());
+    final Set<String> validationMessagesToDisplay = new HashSet<>();
+    for (final ImmutablePair<String, String[]> invalidFieldAndArgs : invalidFieldsAndArgs) {
+      final String[] args = invalidFieldAndArgs.getRight();
+      final StringBuilder newMessage = new StringBuilder();
+      newMessage.append(invalidFieldAndArgs.getLeft());
+      newMessage.append(" is of an incorrect type.");
+      if (args != null && args.length > 1 && args[1] != null && !args[1].isEmpty()) {
+        newMessage.append(" Expected it to be " + args[1]);
       }
-
-      throw new RecordSchemaValidationException(validationMessagesToDisplay,
-          String.format("Record schema validation failed for %s", messageStream));
+      validationMessagesToDisplay.add(newMessage.toString());
     }
+
+    throw new RecordSchemaValidationException(validationMessagesToDisplay,
+        String.format("Record schema validation failed for %s", messageStream));
   }
 
 }
@@ -4,6 +4,7 @@
 
 package io.airbyte.workers.general;
 
+import io.airbyte.commons.features.EnvVariableFeatureFlags;
 import io.airbyte.config.FailureReason;
 import io.airbyte.config.ReplicationAttemptSummary;
 import io.airbyte.config.ReplicationOutput;
@@ -31,12 +32,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.io.FileUtils;
@@ -61,11 +66,25 @@ import org.slf4j.MDC;
  * <li>Handling failure cases and returning state for partially completed replications (so that the
  * next replication can pick up where it left off instead of starting from the beginning)</li>
  * </ul>
+ *
+ * <p>
+ * By default a single thread reads from the Source, validates, maps, tracks and writes each
+ * message to the Destination. When pipelined replication is enabled, these steps are split into
+ * three stages (source reader, processing, destination writer), each on its own thread and
+ * connected by bounded queues, so that a slow step does not stall the others.
  */
 public class DefaultReplicationWorker implements ReplicationWorker {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultReplicationWorker.class);
 
+  // bounded so that a slow stage applies backpressure on the stages feeding it instead of buffering
+  // the sync in memory.
+  private static final int PIPELINE_QUEUE_CAPACITY = 1000;
+  private static final long PIPELINE_QUEUE_TIMEOUT_MS = 100;
+  private static final int PIPELINE_STATS_LOG_INTERVAL = 10000;
+  // marks the end of the messages going through a pipeline queue. compared by reference.
+  private static final AirbyteMessage END_OF_PIPELINE = new AirbyteMessage();
+
   private final String jobId;
   private final int attempt;
   private final AirbyteSource source;
@@ -77,6 +96,7 @@ public class DefaultReplicationWorker implements ReplicationWorker {
   private final AtomicBoolean cancelled;
   private final AtomicBoolean hasFailed;
   private final RecordSchemaValidator recordSchemaValidator;
+  private final boolean usePipelinedReplication;
 
   public DefaultReplicationWorker(final String jobId,
                                   final int attempt,
@@ -85,14 +105,28 @@ public class DefaultReplicationWorker implements ReplicationWorker {
                                   final AirbyteDestination destination,
                                   final MessageTracker messageTracker,
                                   final RecordSchemaValidator recordSchemaValidator) {
+    this(jobId, attempt, source, mapper, destination, messageTracker, recordSchemaValidator,
+        new EnvVariableFeatureFlags().usePipelinedReplication());
+  }
+
+  public DefaultReplicationWorker(final String jobId,
+                                  final int attempt,
+                                  final AirbyteSource source,
+                                  final AirbyteMapper mapper,
+                                  final AirbyteDestination destination,
+                                  final MessageTracker messageTracker,
+                                  final RecordSchemaValidator recordSchemaValidator,
+                                  final boolean usePipelinedReplication) {
     this.jobId = jobId;
     this.attempt = attempt;
     this.source = source;
     this.mapper = mapper;
     this.destination = destination;
     this.messageTracker = messageTracker;
-    this.executors = Executors.newFixedThreadPool(2);
+    // the destination output thread, plus either one replication thread or the three pipeline stages
+    this.executors = Executors.newFixedThreadPool(usePipelinedReplication ? 4 : 2);
     this.recordSchemaValidator = recordSchemaValidator;
+    this.usePipelinedReplication = usePipelinedReplication;
 
     this.cancelled = new AtomicBoolean(false);
     this.hasFailed = new AtomicBoolean(false);
@@ -129,6 +163,8 @@ public class DefaultReplicationWorker implements ReplicationWorker {
           .collect(Collectors.toMap(s -> s.getStream().getNamespace() + "." + s.getStream().getName(),
               s -> String.format("%s - %s", s.getSyncMode(), s.getDestinationSyncMode()))));
       final WorkerSourceConfig sourceConfig = WorkerUtils.syncToWorkerSourceConfig(syncInput);
+      // compile every stream's schema once up front instead of once per record.
+      recordSchemaValidator.initializeSchemaValidator();
 
       final Map<String, String> mdc = MDC.getCopyOfContextMap();
 
@@ -152,19 +188,22 @@ public class DefaultReplicationWorker implements ReplicationWorker {
               }
             });
 
-        final CompletableFuture<?> replicationThreadFuture = CompletableFuture.runAsync(
-            getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator),
-            executors).whenComplete((msg, ex) -> {
-              if (ex != null) {
-                if (ex.getCause() instanceof SourceException) {
-                  replicationRunnableFailureRef.set(FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt));
-                } else if (ex.getCause() instanceof DestinationException) {
-                  replicationRunnableFailureRef.set(FailureHelper.destinationFailure(ex, Long.valueOf(jobId), attempt));
-                } else {
-                  replicationRunnableFailureRef.set(FailureHelper.replicationFailure(ex, Long.valueOf(jobId), attempt));
-                }
-              }
-            });
+        final CompletableFuture<?> replicationFuture = usePipelinedReplication
+            ? getPipelinedReplicationFuture(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator, executors)
+            : CompletableFuture.runAsync(
+                getReplicationRunnable(source, destination, cancelled, mapper, messageTracker, mdc, recordSchemaValidator),
+                executors);
+        final CompletableFuture<?> replicationThreadFuture = replicationFuture.whenComplete((msg, ex) -> {
+          if (ex != null) {
+            if (ex.getCause() instanceof SourceException) {
+              replicationRunnableFailureRef.set(FailureHelper.sourceFailure(ex, Long.valueOf(jobId), attempt));
+            } else if (ex.getCause() instanceof DestinationException) {
+              replicationRunnableFailureRef.set(FailureHelper.destinationFailure(ex, Long.valueOf(jobId), attempt));
+            } else {
+              replicationRunnableFailureRef.set(FailureHelper.replicationFailure(ex, Long.valueOf(jobId), attempt));
+            }
+          }
+        });
 
         LOGGER.info("Waiting for source and destination threads to complete.");
         // CompletableFuture#allOf waits until all futures finish before returning, even if one throws an
@@ -366,6 +405,235 @@ public class DefaultReplicationWorker implements ReplicationWorker {
     };
   }
 
+  /**
+   * Pipelined equivalent of {@link #getReplicationRunnable}. Reading from the source, validating +
+   * mapping + tracking, and writing to the destination each run on their own thread, connected by
+   * bounded queues. Each stage is single threaded and the queues are FIFO, so the destination
+   * receives messages in exactly the order the source emitted them, and state messages still follow
+   * the records that preceded them.
+   *
+   * @return a future that completes once every stage is done, and fails with the first failure of a
+   *         stage if any failed.
+   */
+  private static CompletableFuture<Void> getPipelinedReplicationFuture(final AirbyteSource source,
+                                                                      final AirbyteDestination destination,
+                                                                      final AtomicBoolean cancelled,
+                                                                      final AirbyteMapper mapper,
+                                                                      final MessageTracker messageTracker,
+                                                                      final Map<String, String> mdc,
+                                                                      final RecordSchemaValidator recordSchemaValidator,
+                                                                      final ExecutorService executors) {
+    final AtomicBoolean pipelineFailed = new AtomicBoolean(false);
+    final BooleanSupplier stopped = () -> cancelled.get() || pipelineFailed.get();
+    final PipelineStage sourceStage = new PipelineStage("source reader", new ArrayBlockingQueue<>(PIPELINE_QUEUE_CAPACITY));
+    final PipelineStage processingStage = new PipelineStage("processing", new ArrayBlockingQueue<>(PIPELINE_QUEUE_CAPACITY));
+    final PipelineStage destinationStage = new PipelineStage("destination writer", null);
+    final List<PipelineStage> stages = List.of(sourceStage, processingStage, destinationStage);
+
+    final List<CompletableFuture<Void>> stageFutures = List.of(
+        CompletableFuture.runAsync(getSourceStageRunnable(source, cancelled, stopped, sourceStage, mdc), executors),
+        CompletableFuture.runAsync(getProcessingStageRunnable(mapper, messageTracker, recordSchemaValidator, cancelled, stopped,
+            sourceStage.output, processingStage, stages, mdc), executors),
+        CompletableFuture.runAsync(getDestinationStageRunnable(destination, cancelled, stopped, processingStage.output, destinationStage, mdc),
+            executors));
+
+    final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    final CompletableFuture<?>[] trackedStageFutures = stageFutures.stream()
+        .map(stageFuture -> stageFuture.whenComplete((msg, ex) -> {
+          if (ex != null) {
+            firstFailure.compareAndSet(null, ex);
+            // stop the other stages instead of letting them wait on a queue nobody will serve anymore.
+            pipelineFailed.set(true);
+          }
+        }))
+        .toArray(CompletableFuture[]::new);
+
+    // only complete once every stage is done, so that the caller does not close the source and
+    // destination or read the message tracker while a stage is still using them.
+    final CompletableFuture<Void> pipelineFuture = new CompletableFuture<>();
+    CompletableFuture.allOf(trackedStageFutures).whenComplete((msg, ex) -> {
+      logPipelineStats(stages);
+      if (firstFailure.get() != null) {
+        pipelineFuture.completeExceptionally(firstFailure.get());
+      } else {
+        pipelineFuture.complete(null);
+      }
+    });
+    return pipelineFuture;
+  }
+
+  private static Runnable getSourceStageRunnable(final AirbyteSource source,
+                                                 final AtomicBoolean cancelled,
+                                                 final BooleanSupplier stopped,
+                                                 final PipelineStage stage,
+                                                 final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Replication pipeline {} thread started.", stage.name);
+      try {
+        while (!stopped.getAsBoolean() && !source.isFinished()) {
+          final long start = System.nanoTime();
+          final Optional<AirbyteMessage> messageOptional;
+          try {
+            messageOptional = source.attemptRead();
+          } catch (final Exception e) {
+            throw new SourceException("Source process read attempt failed", e);
+          }
+          stage.addBusyTime(start);
+
+          if (messageOptional.isPresent()) {
+            if (!stage.emit(messageOptional.get(), stopped)) {
+              return;
+            }
+          } else {
+            LOGGER.info("Source has no more messages, closing connection.");
+            try {
+              source.close();
+            } catch (final Exception e) {
+              throw new SourceException("Source cannot be stopped!", e);
+            }
+          }
+        }
+        if (!stage.emit(END_OF_PIPELINE, stopped)) {
+          return;
+        }
+        if (!cancelled.get() && source.getExitValue() != 0) {
+          throw new SourceException("Source process exited with non-zero exit code " + source.getExitValue());
+        }
+      } catch (final Exception e) {
+        rethrowUnlessCancelled(e, cancelled);
+      }
+    };
+  }
+
+  private static Runnable getProcessingStageRunnable(final AirbyteMapper mapper,
+                                                     final MessageTracker messageTracker,
+                                                     final RecordSchemaValidator recordSchemaValidator,
+                                                     final AtomicBoolean cancelled,
+                                                     final BooleanSupplier stopped,
+                                                     final BlockingQueue<AirbyteMessage> input,
+                                                     final PipelineStage stage,
+                                                     final List<PipelineStage> stages,
+                                                     final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Replication pipeline {} thread started.", stage.name);
+      var recordsRead = 0;
+      final Map<String, ImmutablePair<Set<String>, Integer>> validationErrors = new HashMap<>();
+      try {
+        while (true) {
+          final AirbyteMessage airbyteMessage = takeFromPipeline(input, stopped);
+          if (airbyteMessage == null) {
+            return;
+          }
+          if (airbyteMessage == END_OF_PIPELINE) {
+            break;
+          }
+
+          final long start = System.nanoTime();
+          validateSchema(recordSchemaValidator, validationErrors, airbyteMessage);
+          final AirbyteMessage message = mapper.mapMessage(airbyteMessage);
+          messageTracker.acceptFromSource(message);
+          stage.addBusyTime(start);
+
+          if (!stage.emit(message, stopped)) {
+            return;
+          }
+          recordsRead += 1;
+
+          if (recordsRead % 1000 == 0) {
+            LOGGER.info("Records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+          }
+          if (recordsRead % PIPELINE_STATS_LOG_INTERVAL == 0) {
+            logPipelineStats(stages);
+          }
+        }
+        LOGGER.info("Total records read: {} ({})", recordsRead, FileUtils.byteCountToDisplaySize(messageTracker.getTotalBytesEmitted()));
+        if (!validationErrors.isEmpty()) {
+          validationErrors.forEach((stream, errorPair) -> {
+            LOGGER.warn("Schema validation errors found for stream {}. Error messages: {}", stream, errorPair.getLeft());
+          });
+        }
+        stage.emit(END_OF_PIPELINE, stopped);
+      } catch (final Exception e) {
+        rethrowUnlessCancelled(e, cancelled);
+      }
+    };
+  }
+
+  private static Runnable getDestinationStageRunnable(final AirbyteDestination destination,
+                                                      final AtomicBoolean cancelled,
+                                                      final BooleanSupplier stopped,
+                                                      final BlockingQueue<AirbyteMessage> input,
+                                                      final PipelineStage stage,
+                                                      final Map<String, String> mdc) {
+    return () -> {
+      MDC.setContextMap(mdc);
+      LOGGER.info("Replication pipeline {} thread started.", stage.name);
+      try {
+        while (true) {
+          final AirbyteMessage message = takeFromPipeline(input, stopped);
+          if (message == null) {
+            return;
+          }
+          if (message == END_OF_PIPELINE) {
+            break;
+          }
+
+          final long start = System.nanoTime();
+          try {
+            destination.accept(message);
+          } catch (final Exception e) {
+            throw new DestinationException("Destination process message delivery failed", e);
+          }
+          stage.addBusyTime(start);
+          stage.messages.incrementAndGet();
+        }
+
+        try {
+          destination.notifyEndOfInput();
+        } catch (final Exception e) {
+          throw new DestinationException("Destination process end of stream notification failed", e);
+        }
+      } catch (final Exception e) {
+        rethrowUnlessCancelled(e, cancelled);
+      }
+    };
+  }
+
+  /**
+   * @return the next message of the queue, or null if the pipeline was stopped while waiting for it.
+   */
+  private static AirbyteMessage takeFromPipeline(final BlockingQueue<AirbyteMessage> queue, final BooleanSupplier stopped)
+      throws InterruptedException {
+    while (!stopped.getAsBoolean()) {
+      final AirbyteMessage message = queue.poll(PIPELINE_QUEUE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+      if (message != null) {
+        return message;
+      }
+    }
+    return null;
+  }
+
+  private static void logPipelineStats(final List<PipelineStage> stages) {
+    LOGGER.info("Replication pipeline stats: {}", stages.stream().map(PipelineStage::toString).collect(Collectors.joining("; ")));
+  }
+
+  private static void rethrowUnlessCancelled(final Exception e, final AtomicBoolean cancelled) {
+    if (!cancelled.get()) {
+      // Stages race with the closure of the source and destination when the worker is cancelled, and
+      // can fail on a final read or write. Because of this, throw exceptions only if the worker was not
+      // cancelled.
+      if (e instanceof SourceException || e instanceof DestinationException) {
+        // Surface Source and Destination exceptions directly so that they can be classified properly by the
+        // worker
+        throw (RuntimeException) e;
+      } else {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   private static void validateSchema(RecordSchemaValidator recordSchemaValidator,
                                      Map<String, ImmutablePair<Set<String>, Integer>> validationErrors,
                                      AirbyteMessage message) {
@@ -464,6 +732,55 @@ public class DefaultReplicationWorker implements ReplicationWorker {
 
   }
 
+  /**
+   * A stage of the replication pipeline. Keeps track of the time the stage spends working (as opposed
+   * to waiting on a queue) and exposes the depth of its output queue, so the bottleneck stage of a
+   * connection can be identified from the logs: it is the one that is busy most of the time, with a
+   * full input queue and an empty output queue.
+   */
+  private static class PipelineStage {
+
+    private final String name;
+    // null for the last stage of the pipeline
+    private final BlockingQueue<AirbyteMessage> output;
+    private final AtomicLong busyNanos = new AtomicLong();
+    private final AtomicLong messages = new AtomicLong();
+
+    PipelineStage(final String name, final BlockingQueue<AirbyteMessage> output) {
+      this.name = name;
+      this.output = output;
+    }
+
+    void addBusyTime(final long startNanos) {
+      busyNanos.addAndGet(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Hands a message over to the next stage, blocking while its queue is full.
+     *
+     * @return false if the pipeline was stopped before the message could be handed over.
+     */
+    boolean emit(final AirbyteMessage message, final BooleanSupplier stopped) throws InterruptedException {
+      while (!stopped.getAsBoolean()) {
+        if (output.offer(message, PIPELINE_QUEUE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+          if (message != END_OF_PIPELINE) {
+            messages.incrementAndGet();
+          }
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      final String queueDepth = output == null ? "n/a" : output.size() + "/" + PIPELINE_QUEUE_CAPACITY;
+      return String.format("%s: %d messages, busy %d ms, output queue depth %s",
+          name, messages.get(), TimeUnit.NANOSECONDS.toMillis(busyNanos.get()), queueDepth);
+    }
+
+  }
+
   private static class SourceException extends RuntimeException {
 
     SourceException(final String message) {
@@ -22,6 +22,7 @@ import io.airbyte.workers.helper.FailureHelper;
 import io.airbyte.workers.internal.state_aggregator.DefaultStateAggregator;
 import io.airbyte.workers.internal.state_aggregator.StateAggregator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,16 +35,14 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class AirbyteMessageTracker implements MessageTracker {
 
-  private static final long STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES = 20L * 1024L * 1024L; // 20 MiB, ~10% of default cloud worker memory
+  private static final long STATE_DELTA_TRACKER_MEMORY_LIMIT_BYTES = 2L * 1024L * 1024L; // 2 MiB, deltas beyond this are spilled to disk
+  private static final int INITIAL_STREAM_CAPACITY = 16;
 
   private final AtomicReference<State> sourceOutputState;
   private final AtomicReference<State> destinationOutputState;
   private final AtomicLong totalEmittedStateMessages;
-  private final Map<Short, Long> streamToRunningCount;
   private final HashFunction hashFunction;
   private final BiMap<String, Short> streamNameToIndex;
-  private final Map<Short, Long> streamToTotalBytesEmitted;
-  private final Map<Short, Long> streamToTotalRecordsEmitted;
   private final StateDeltaTracker stateDeltaTracker;
   private final List<AirbyteTraceMessage> destinationErrorTraceMessages;
   private final List<AirbyteTraceMessage> sourceErrorTraceMessages;
@@ -51,6 +50,14 @@ public class AirbyteMessageTracker implements MessageTracker {
 
   private short nextStreamIndex;
 
+  /**
+   * Per stream counters, indexed by stream index. Records are counted on every message, so plain
+   * arrays are used instead of maps to avoid boxing. They grow when a new stream shows up.
+   */
+  private long[] streamToRunningCount;
+  private long[] streamToTotalRecordsEmitted;
+  private long[] streamToTotalBytesEmitted;
+
   /**
    * If the StateDeltaTracker throws an exception, this flag is set to true and committed counts are
    * not returned.
@@ -72,11 +79,11 @@ public class AirbyteMessageTracker implements MessageTracker {
     this.sourceOutputState = new AtomicReference<>();
     this.destinationOutputState = new AtomicReference<>();
     this.totalEmittedStateMessages = new AtomicLong(0L);
-    this.streamToRunningCount = new HashMap<>();
+    this.streamToRunningCount = new long[INITIAL_STREAM_CAPACITY];
     this.streamNameToIndex = HashBiMap.create();
     this.hashFunction = Hashing.murmur3_32_fixed();
-    this.streamToTotalBytesEmitted = new HashMap<>();
-    this.streamToTotalRecordsEmitted = new HashMap<>();
+    this.streamToTotalBytesEmitted = new long[INITIAL_STREAM_CAPACITY];
+    this.streamToTotalRecordsEmitted = new long[INITIAL_STREAM_CAPACITY];
     this.stateDeltaTracker = stateDeltaTracker;
     this.nextStreamIndex = 0;
     this.unreliableCommittedCounts = false;
@@ -111,15 +118,9 @@ public class AirbyteMessageTracker implements MessageTracker {
   private void handleSourceEmittedRecord(final AirbyteRecordMessage recordMessage) {
     final short streamIndex = getStreamIndex(recordMessage.getStream());
 
-    final long currentRunningCount = streamToRunningCount.getOrDefault(streamIndex, 0L);
-    streamToRunningCount.put(streamIndex, currentRunningCount + 1);
-
-    final long currentTotalCount = streamToTotalRecordsEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalRecordsEmitted.put(streamIndex, currentTotalCount + 1);
-
-    final int estimatedNumBytes = Jsons.getEstimatedByteSize(recordMessage.getData());
-    final long currentTotalStreamBytes = streamToTotalBytesEmitted.getOrDefault(streamIndex, 0L);
-    streamToTotalBytesEmitted.put(streamIndex, currentTotalStreamBytes + estimatedNumBytes);
+    streamToRunningCount[streamIndex]++;
+    streamToTotalRecordsEmitted[streamIndex]++;
+    streamToTotalBytesEmitted[streamIndex] += Jsons.getEstimatedByteSize(recordMessage.getData());
   }
 
   /**
@@ -134,7 +135,7 @@ public class AirbyteMessageTracker implements MessageTracker {
     final int stateHash = getStateHashCode(stateMessage);
     try {
       if (!unreliableCommittedCounts) {
-        stateDeltaTracker.addState(stateHash, streamToRunningCount);
+        stateDeltaTracker.addState(stateHash, getRunningCounts());
       }
     } catch (final StateDeltaTracker.StateDeltaTrackerException e) {
       log.warn("The message tracker encountered an issue that prevents committed record counts from being reliably computed.");
@@ -142,7 +143,20 @@ public class AirbyteMessageTracker implements MessageTracker {
       log.warn(e.getMessage(), e);
       unreliableCommittedCounts = true;
     }
-    streamToRunningCount.clear();
+    Arrays.fill(streamToRunningCount, 0L);
+  }
+
+  /**
+   * Running counts of the streams that emitted records since the last state.
+   */
+  private Map<Short, Long> getRunningCounts() {
+    final Map<Short, Long> runningCounts = new HashMap<>();
+    for (short streamIndex = 0; streamIndex < nextStreamIndex; streamIndex++) {
+      if (streamToRunningCount[streamIndex] > 0) {
+        runningCounts.put(streamIndex, streamToRunningCount[streamIndex]);
+      }
+    }
+    return runningCounts;
   }
 
   /**
@@ -184,11 +198,29 @@ public class AirbyteMessageTracker implements MessageTracker {
   }
 
   private short getStreamIndex(final String streamName) {
-    if (!streamNameToIndex.containsKey(streamName)) {
-      streamNameToIndex.put(streamName, nextStreamIndex);
-      nextStreamIndex++;
+    final Short streamIndex = streamNameToIndex.get(streamName);
+    if (streamIndex != null) {
+      return streamIndex;
+    }
+    if (nextStreamIndex == streamToRunningCount.length) {
+      final int capacity = nextStreamIndex * 2;
+      streamToRunningCount = Arrays.copyOf(streamToRunningCount, capacity);
+      streamToTotalRecordsEmitted = Arrays.copyOf(streamToTotalRecordsEmitted, capacity);
+      streamToTotalBytesEmitted = Arrays.copyOf(streamToTotalBytesEmitted, capacity);
+    }
+    streamNameToIndex.put(streamName, nextStreamIndex);
+    return nextStreamIndex++;
+  }
+
+  /**
+   * Swap out stream indices for stream names for one of the per stream counters.
+   */
+  private Map<String, Long> getCountsByStreamName(final long[] streamToCount) {
+    final Map<String, Long> countsByStreamName = new HashMap<>();
+    for (short streamIndex = 0; streamIndex < nextStreamIndex; streamIndex++) {
+      countsByStreamName.put(streamNameToIndex.inverse().get(streamIndex), streamToCount[streamIndex]);
     }
-    return streamNameToIndex.get(streamName);
+    return countsByStreamName;
   }
 
   private int getStateHashCode(final AirbyteStateMessage stateMessage) {
@@ -271,9 +303,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedRecords() {
-    return streamToTotalRecordsEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return getCountsByStreamName(streamToTotalRecordsEmitted);
   }
 
   /**
@@ -281,9 +311,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public Map<String, Long> getStreamToEmittedBytes() {
-    return streamToTotalBytesEmitted.entrySet().stream().collect(Collectors.toMap(
-        entry -> streamNameToIndex.inverse().get(entry.getKey()),
-        Map.Entry::getValue));
+    return getCountsByStreamName(streamToTotalBytesEmitted);
   }
 
   /**
@@ -291,7 +319,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalRecordsEmitted() {
-    return streamToTotalRecordsEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalRecordsEmitted, 0, nextStreamIndex).sum();
   }
 
   /**
@@ -299,7 +327,7 @@ public class AirbyteMessageTracker implements MessageTracker {
    */
   @Override
   public long getTotalBytesEmitted() {
-    return streamToTotalBytesEmitted.values().stream().reduce(0L, Long::sum);
+    return Arrays.stream(streamToTotalBytesEmitted, 0, nextStreamIndex).sum();
   }
 
   /**
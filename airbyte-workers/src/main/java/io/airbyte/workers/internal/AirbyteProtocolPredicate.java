@@ -7,6 +7,7 @@ package io.airbyte.workers.internal;
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.protocol.models.AirbyteProtocolSchema;
 import io.airbyte.validation.json.JsonSchemaValidator;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -15,17 +16,19 @@ import java.util.function.Predicate;
  */
 public class AirbyteProtocolPredicate implements Predicate<JsonNode> {
 
+  private static final String PROTOCOL_SCHEMA_NAME = "AirbyteMessage";
+
   private final JsonSchemaValidator jsonSchemaValidator;
-  private final JsonNode schema;
 
   public AirbyteProtocolPredicate() {
     jsonSchemaValidator = new JsonSchemaValidator();
-    schema = JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), "AirbyteMessage");
+    final JsonNode schema = JsonSchemaValidator.getSchema(AirbyteProtocolSchema.PROTOCOL.getFile(), PROTOCOL_SCHEMA_NAME);
+    jsonSchemaValidator.initializeSchemaValidators(Map.of(PROTOCOL_SCHEMA_NAME, schema));
   }
 
   @Override
   public boolean test(final JsonNode s) {
-    return jsonSchemaValidator.test(schema, s);
+    return jsonSchemaValidator.testInitializedSchema(PROTOCOL_SCHEMA_NAME, s);
   }
 
 }
@@ -87,7 +87,9 @@ public class DefaultAirbyteDestination implements AirbyteDestination {
   public void accept(final AirbyteMessage message) throws IOException {
     Preconditions.checkState(destinationProcess != null && !inputHasEnded.get());
 
-    writer.write(Jsons.serialize(message));
+    // a message that still matches the line it was read from does not need to be serialized again
+    final String rawLine = RawLineAirbyteMessage.rawLineOf(message);
+    writer.write(rawLine != null ? rawLine : Jsons.serialize(message));
     writer.newLine();
   }
 
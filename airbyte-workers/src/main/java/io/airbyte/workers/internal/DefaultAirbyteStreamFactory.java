@@ -4,7 +4,11 @@
 
 package io.airbyte.workers.internal;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.airbyte.commons.features.EnvVariableFeatureFlags;
+import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.logging.MdcScope;
 import io.airbyte.protocol.models.AirbyteLogMessage;
@@ -24,27 +28,47 @@ import org.slf4j.LoggerFactory;
  * If a line starts with a AirbyteMessage and then has other characters after it, that
  * AirbyteMessage will still be parsed. If there are multiple AirbyteMessage records on the same
  * line, only the first will be parsed.
+ *
+ * <p>
+ * When envelope validation is enabled, each line is read straight into an AirbyteMessage and only
+ * checked structurally (type present, payload for that type present). Lines that fail this check
+ * go through the full protocol schema validation, so they are handled exactly as before. Records
+ * read this way remember their line (see {@link RawLineAirbyteMessage}) so it can be forwarded to
+ * the destination without serializing the record again. Lines with trailing characters after the
+ * message never take this path, since only the message itself may be forwarded.
  */
 public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DefaultAirbyteStreamFactory.class);
+  private static final ObjectReader MESSAGE_READER = MoreMappers.initMapper()
+      .readerFor(RawLineAirbyteMessage.class)
+      .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
 
   private final MdcScope.Builder containerLogMdcBuilder;
   private final AirbyteProtocolPredicate protocolValidator;
   private final Logger logger;
+  private final boolean useEnvelopeValidation;
 
   public DefaultAirbyteStreamFactory() {
     this(MdcScope.DEFAULT_BUILDER);
   }
 
   public DefaultAirbyteStreamFactory(final MdcScope.Builder containerLogMdcBuilder) {
-    this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder);
+    this(new AirbyteProtocolPredicate(), LOGGER, containerLogMdcBuilder, new EnvVariableFeatureFlags().useProtocolEnvelopeValidation());
   }
 
   DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate, final Logger logger, final MdcScope.Builder containerLogMdcBuilder) {
+    this(protocolPredicate, logger, containerLogMdcBuilder, false);
+  }
+
+  DefaultAirbyteStreamFactory(final AirbyteProtocolPredicate protocolPredicate,
+                              final Logger logger,
+                              final MdcScope.Builder containerLogMdcBuilder,
+                              final boolean useEnvelopeValidation) {
     protocolValidator = protocolPredicate;
     this.logger = logger;
     this.containerLogMdcBuilder = containerLogMdcBuilder;
+    this.useEnvelopeValidation = useEnvelopeValidation;
   }
 
   @Override
@@ -52,31 +76,13 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
     return bufferedReader
         .lines()
         .flatMap(line -> {
-          final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
-          if (jsonLine.isEmpty()) {
-            // we log as info all the lines that are not valid json
-            // some sources actually log their process on stdout, we
-            // want to make sure this info is available in the logs.
-            try (final var mdcScope = containerLogMdcBuilder.build()) {
-              logger.info(line);
+          if (useEnvelopeValidation) {
+            final Optional<AirbyteMessage> message = tryParseValidEnvelope(line);
+            if (message.isPresent()) {
+              return message.stream();
             }
           }
-          return jsonLine.stream();
-        })
-        // filter invalid messages
-        .filter(jsonLine -> {
-          final boolean res = protocolValidator.test(jsonLine);
-          if (!res) {
-            logger.error("Validation failed: {}", Jsons.serialize(jsonLine));
-          }
-          return res;
-        })
-        .flatMap(jsonLine -> {
-          final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine, AirbyteMessage.class);
-          if (m.isEmpty()) {
-            logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine));
-          }
-          return m.stream();
+          return parseWithProtocolValidation(line);
         })
         // filter logs
         .filter(airbyteMessage -> {
@@ -90,6 +96,73 @@ public class DefaultAirbyteStreamFactory implements AirbyteStreamFactory {
         });
   }
 
+  private Stream<AirbyteMessage> parseWithProtocolValidation(final String line) {
+    final Optional<JsonNode> jsonLine = Jsons.tryDeserialize(line);
+    if (jsonLine.isEmpty()) {
+      // we log as info all the lines that are not valid json
+      // some sources actually log their process on stdout, we
+      // want to make sure this info is available in the logs.
+      try (final var mdcScope = containerLogMdcBuilder.build()) {
+        logger.info(line);
+      }
+      return Stream.empty();
+    }
+
+    // filter invalid messages
+    if (!protocolValidator.test(jsonLine.get())) {
+      logger.error("Validation failed: {}", Jsons.serialize(jsonLine.get()));
+      return Stream.empty();
+    }
+
+    final Optional<AirbyteMessage> m = Jsons.tryObject(jsonLine.get(), AirbyteMessage.class);
+    if (m.isEmpty()) {
+      logger.error("Deserialization failed: {}", Jsons.serialize(jsonLine.get()));
+    }
+    return m.stream();
+  }
+
+  /**
+   * Reads the line directly into an AirbyteMessage and checks the envelope invariants of the
+   * protocol. Returns empty if the line cannot be read or the envelope is not valid, in which case
+   * the caller is expected to fall back on full protocol validation.
+   */
+  private static Optional<AirbyteMessage> tryParseValidEnvelope(final String line) {
+    final RawLineAirbyteMessage message;
+    try {
+      message = MESSAGE_READER.readValue(line);
+    } catch (final Exception e) {
+      return Optional.empty();
+    }
+    if (!hasValidEnvelope(message)) {
+      return Optional.empty();
+    }
+    // only records are forwarded to the destination, so there is no point holding on to other lines
+    if (message.getType() == AirbyteMessage.Type.RECORD) {
+      message.withRawLine(line);
+    }
+    return Optional.of(message);
+  }
+
+  private static boolean hasValidEnvelope(final AirbyteMessage message) {
+    if (message == null || message.getType() == null) {
+      return false;
+    }
+    return switch (message.getType()) {
+      case RECORD -> message.getRecord() != null
+          && message.getRecord().getStream() != null
+          // a "data": null in the line is read as a NullNode rather than null
+          && message.getRecord().getData() != null
+          && !message.getRecord().getData().isNull()
+          && message.getRecord().getEmittedAt() != null;
+      case STATE -> message.getState() != null;
+      case LOG -> message.getLog() != null && message.getLog().getLevel() != null && message.getLog().getMessage() != null;
+      case SPEC -> message.getSpec() != null;
+      case CONNECTION_STATUS -> message.getConnectionStatus() != null;
+      case CATALOG -> message.getCatalog() != null;
+      case TRACE -> message.getTrace() != null;
+    };
+  }
+
   private void internalLog(final AirbyteLogMessage logMessage) {
     switch (logMessage.getLevel()) {
       case FATAL, ERROR -> logger.error(logMessage.getMessage());
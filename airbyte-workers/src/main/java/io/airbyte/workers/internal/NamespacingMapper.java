@@ -60,7 +60,7 @@ public class NamespacingMapper implements AirbyteMapper {
 
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
-    if (inputMessage.getType() == Type.RECORD) {
+    if (inputMessage.getType() == Type.RECORD && !isIdentity()) {
       final AirbyteMessage message = Jsons.clone(inputMessage);
       // Default behavior if namespaceDefinition is not set is to follow SOURCE
       if (namespaceDefinition != null) {
@@ -76,6 +76,15 @@ public class NamespacingMapper implements AirbyteMapper {
     return inputMessage;
   }
 
+  /**
+   * Records are left as they are when the namespace is mirrored from the source and no prefix is
+   * added. Returning them without a copy lets the destination receive the original line from the
+   * source.
+   */
+  private boolean isIdentity() {
+    return (namespaceDefinition == null || namespaceDefinition.equals(NamespaceDefinitionType.SOURCE)) && Strings.isBlank(streamPrefix);
+  }
+
   private static String formatNamespace(final String sourceNamespace, final String namespaceFormat) {
     String result = "";
     if (Strings.isNotBlank(namespaceFormat)) {
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2022 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.internal;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+
+/**
+ * An AirbyteMessage that remembers the exact line it was read from. When the message reaches the
+ * destination untouched, the line can be forwarded as-is instead of serializing the message again.
+ *
+ * <p>
+ * The line is not part of the message as far as Jackson, equals or hashCode are concerned, so
+ * copies made with {@link io.airbyte.commons.json.Jsons#clone(Object)} drop it. Code that needs to
+ * change a message must work on such a copy, as {@link NamespacingMapper} does; mutating an instance
+ * in place would leave the remembered line out of date.
+ */
+class RawLineAirbyteMessage extends AirbyteMessage {
+
+  private transient String rawLine;
+
+  String rawLine() {
+    return rawLine;
+  }
+
+  RawLineAirbyteMessage withRawLine(final String rawLine) {
+    this.rawLine = rawLine;
+    return this;
+  }
+
+  /**
+   * Returns the line a message was read from if it is still an exact representation of it, or null
+   * if the message has to be serialized.
+   */
+  static String rawLineOf(final AirbyteMessage message) {
+    return message instanceof RawLineAirbyteMessage ? ((RawLineAirbyteMessage) message).rawLine() : null;
+  }
+
+}
@@ -5,144 +5,306 @@
 package io.airbyte.workers.internal;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * This class tracks "deltas" between states in compact {@code byte[]}s with the following schema:
+ * This class tracks "deltas" between states as packed {@code long}s with the following schema:
  *
  * <pre>
- *  [(state hash),(stream index),(record count)...] with the last two elements repeating per stream in the delta.
+ *  [(state hash, stream count),(stream index, record count)...] with the last element repeating per stream in the delta.
  * </pre>
  * <p>
- * This class also maintains a {@code Set} of {@code committedStateHashes} so that it can accumulate
- * both committed and total record counts per stream.
+ * The source thread is the only one adding deltas and the destination thread is the only one
+ * committing them, so deltas are kept in a single-producer/single-consumer ring buffer that needs
+ * no locking. Each side owns its own position and publishes it to the other side.
  * <p>
- * The StateDeltaTracker is initialized with a memory limit. If this memory limit is exceeded, new
- * states deltas will not be added and per-stream record counts will not be able to be computed.
- * This is to prevent OutOfMemoryErrors from crashing the sync.
+ * The ring buffer is bounded by the memory limit the tracker is initialized with. When it is full,
+ * deltas are spilled to a memory-mapped file in the spill directory until the destination has
+ * caught up, so committed record counts stay accurate for arbitrarily long syncs without growing
+ * the heap. Once the destination has caught up, the spill file is truncated, so it only ever holds
+ * the deltas of a single backlog.
  */
 @Slf4j
 public class StateDeltaTracker {
 
-  private static final int STATE_HASH_BYTES = Integer.BYTES;
-  private static final int STREAM_INDEX_BYTES = Short.BYTES;
-  private static final int RECORD_COUNT_BYTES = Long.BYTES;
-  private static final int BYTES_PER_STREAM = STREAM_INDEX_BYTES + RECORD_COUNT_BYTES;
+  private static final int SPILL_SEGMENT_LONGS = 128 * 1024; // 1 MiB per mapped segment
+  private static final int STREAM_INDEX_SHIFT = 48;
+  private static final long MAX_RECORD_COUNT = (1L << STREAM_INDEX_SHIFT) - 1;
 
-  private final Set<Integer> committedStateHashes;
   private final Map<Short, Long> streamToCommittedRecords;
 
+  private final long[] ring;
+  private final AtomicLong ringHead;
+  private final AtomicLong ringTail;
+
+  private final Path spillDirectory;
+  private final AtomicLong spillHead;
+  private final AtomicLong spillTail;
+  // position of the first long of the spill file. Spill positions keep increasing across backlogs
+  // but the file is reused from its start for each one.
+  private volatile long spillStart;
+  private volatile FileChannel spillChannel;
+  private SpillSegment spillWriteSegment;
+  private SpillSegment spillReadSegment;
+
   /**
-   * Every time a state is added, a new byte[] containing the state hash and per-stream delta will be
-   * added to this list. Every time a state is committed, state deltas up to the committed state are
-   * removed from the head of the list and aggregated into the committed count map. The source thread
-   * adds while the destination thread removes, so synchronization is necessary to provide
-   * thread-safety.
+   * Only used by the source thread. Once the ring buffer fills up, deltas keep going to the spill
+   * file until the destination thread has consumed all of it, so that deltas are committed in the
+   * order they were added.
    */
-  @VisibleForTesting
-  protected final List<byte[]> stateDeltas;
+  private boolean spilling;
 
-  @VisibleForTesting
-  protected long remainingCapacity;
-  @VisibleForTesting
-  protected boolean capacityExceeded;
+  private final AtomicLong addedStates;
+  private final AtomicLong committedStates;
 
   public StateDeltaTracker(final long memoryLimitBytes) {
-    this.committedStateHashes = new HashSet<>();
+    this(memoryLimitBytes, Path.of(System.getProperty("java.io.tmpdir")));
+  }
+
+  public StateDeltaTracker(final long memoryLimitBytes, final Path spillDirectory) {
     this.streamToCommittedRecords = new HashMap<>();
-    this.stateDeltas = new ArrayList<>();
-    this.remainingCapacity = memoryLimitBytes;
-    this.capacityExceeded = false;
+    this.ring = new long[Math.toIntExact(memoryLimitBytes / Long.BYTES)];
+    this.ringHead = new AtomicLong(0L);
+    this.ringTail = new AtomicLong(0L);
+    this.spillDirectory = spillDirectory;
+    this.spillHead = new AtomicLong(0L);
+    this.spillTail = new AtomicLong(0L);
+    this.spillStart = 0L;
+    this.spilling = false;
+    this.addedStates = new AtomicLong(0L);
+    this.committedStates = new AtomicLong(0L);
   }
 
   /**
-   * Converts the given state hash and per-stream record count map into a {@code byte[]} and stores
-   * it.
+   * Packs the given state hash and per-stream record count map and stores it, in the ring buffer if
+   * it has room or in the spill file otherwise.
    * <p>
-   * This method leverages a synchronized block to provide thread safety between the source thread
-   * calling addState while the destination thread calls commitStateHash.
+   * Must only be called from a single thread.
    *
-   * @throws StateDeltaTrackerException thrown when the memory footprint of stateDeltas exceeds
-   *         available capacity.
+   * @throws StateDeltaTrackerException thrown when the delta cannot be stored.
    */
   public void addState(final int stateHash, final Map<Short, Long> streamIndexToRecordCount) throws StateDeltaTrackerException {
-    synchronized (this) {
-      final int size = STATE_HASH_BYTES + (streamIndexToRecordCount.size() * BYTES_PER_STREAM);
-
-      if (capacityExceeded || remainingCapacity < size) {
-        capacityExceeded = true;
-        throw new StateDeltaTrackerException("Memory capacity is exceeded for StateDeltaTracker.");
-      }
-
-      final ByteBuffer delta = ByteBuffer.allocate(size);
-
-      delta.putInt(stateHash);
+    final int length = 1 + streamIndexToRecordCount.size();
 
+    if (spilling && spillHead.get() == spillTail.get()) {
+      spilling = false;
+      resetSpill();
+    }
+    final long tail = ringTail.get();
+    if (!spilling && ring.length - (tail - ringHead.get()) >= length) {
+      long position = tail;
+      ring[ringIndex(position++)] = packHeader(stateHash, streamIndexToRecordCount.size());
       for (final Map.Entry<Short, Long> entry : streamIndexToRecordCount.entrySet()) {
-        delta.putShort(entry.getKey());
-        delta.putLong(entry.getValue());
+        ring[ringIndex(position++)] = packStreamCount(entry.getKey(), entry.getValue());
       }
-
-      stateDeltas.add(delta.array());
-      remainingCapacity -= delta.array().length;
+      ringTail.lazySet(position);
+    } else {
+      if (!spilling) {
+        log.info("State delta buffer is full, spilling state deltas to disk until the destination catches up.");
+        spilling = true;
+      }
+      spill(stateHash, streamIndexToRecordCount);
     }
+    addedStates.lazySet(addedStates.get() + 1);
   }
 
   /**
-   * Mark the given {@code stateHash} as committed.
+   * Mark the given {@code stateHash} as committed, aggregating the deltas of every state up to and
+   * including it into the committed counts.
    * <p>
-   * This method leverages a synchronized block to provide thread safety between the source thread
-   * calling addState while the destination thread calls commitStateHash.
+   * Must only be called from a single thread.
    *
    * @throws StateDeltaTrackerException thrown when committed counts can no longer be reliably
    *         computed.
    */
   public void commitStateHash(final int stateHash) throws StateDeltaTrackerException {
-    synchronized (this) {
-      if (capacityExceeded) {
-        throw new StateDeltaTrackerException("Memory capacity exceeded for StateDeltaTracker, so states cannot be reliably committed");
+    int currStateHash;
+    do {
+      // read the spill position first: any delta in the ring buffer that was added before the spilled
+      // ones is then guaranteed to be visible below
+      final long spillAvailable = spillTail.get() - spillHead.get();
+      final long ringAvailable = ringTail.get() - ringHead.get();
+      if (ringAvailable > 0) {
+        currStateHash = commitFromRing();
+      } else if (spillAvailable > 0) {
+        currStateHash = commitFromSpill();
+      } else {
+        throw new StateDeltaTrackerException(String.format("Delta was not stored for state hash %d", stateHash));
+      }
+      committedStates.lazySet(committedStates.get() + 1);
+    } while (currStateHash != stateHash); // repeat until each delta up to the committed state is aggregated
+  }
+
+  public Map<Short, Long> getStreamToCommittedRecords() {
+    return streamToCommittedRecords;
+  }
+
+  /**
+   * Number of states that were added but not committed yet.
+   */
+  @VisibleForTesting
+  protected long getUncommittedStateCount() {
+    return addedStates.get() - committedStates.get();
+  }
+
+  @VisibleForTesting
+  protected boolean isSpilling() {
+    return spilling;
+  }
+
+  @VisibleForTesting
+  protected long getSpillFileSize() throws IOException {
+    return spillChannel == null ? 0 : spillChannel.size();
+  }
+
+  private int commitFromRing() {
+    long position = ringHead.get();
+    final long header = ring[ringIndex(position++)];
+    final int numStreams = unpackStreamCount(header);
+    for (int i = 0; i < numStreams; i++) {
+      aggregate(ring[ringIndex(position++)]);
+    }
+    ringHead.lazySet(position);
+    return unpackStateHash(header);
+  }
+
+  private int commitFromSpill() throws StateDeltaTrackerException {
+    try {
+      long position = spillHead.get();
+      final long header = readSpill(position++);
+      final int numStreams = unpackStreamCount(header);
+      for (int i = 0; i < numStreams; i++) {
+        aggregate(readSpill(position++));
+      }
+      spillHead.lazySet(position);
+      return unpackStateHash(header);
+    } catch (final IOException e) {
+      throw new StateDeltaTrackerException("Could not read spilled state deltas: " + e.getMessage());
+    }
+  }
+
+  private void aggregate(final long streamCount) {
+    final short streamIndex = (short) (streamCount >>> STREAM_INDEX_SHIFT);
+    final long recordCount = streamCount & MAX_RECORD_COUNT;
+    streamToCommittedRecords.merge(streamIndex, recordCount, Long::sum);
+  }
+
+  private void spill(final int stateHash, final Map<Short, Long> streamIndexToRecordCount) throws StateDeltaTrackerException {
+    try {
+      long position = spillTail.get();
+      writeSpill(position++, packHeader(stateHash, streamIndexToRecordCount.size()));
+      for (final Map.Entry<Short, Long> entry : streamIndexToRecordCount.entrySet()) {
+        writeSpill(position++, packStreamCount(entry.getKey(), entry.getValue()));
       }
-      if (committedStateHashes.contains(stateHash)) {
-        throw new StateDeltaTrackerException(
-            String.format("State hash %d was already committed, likely indicating a state hash collision", stateHash));
+      spillTail.lazySet(position);
+    } catch (final IOException e) {
+      throw new StateDeltaTrackerException("Could not spill state deltas to disk: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Called by the source thread once the destination thread has committed every spilled delta. The
+   * destination thread only reads the spill file while the spill tail is ahead of its head, so it
+   * does not touch the file again until the next delta is spilled, which is written from the start
+   * of the truncated file.
+   */
+  private void resetSpill() throws StateDeltaTrackerException {
+    try {
+      if (spillChannel != null) {
+        spillChannel.truncate(0);
       }
+      // the segment mapped by the source thread is past the end of the file now, it is mapped again
+      // (which grows the file) on the next write
+      spillWriteSegment = null;
+      // published to the destination thread by the next update of the spill tail
+      spillStart = spillTail.get();
+    } catch (final IOException e) {
+      throw new StateDeltaTrackerException("Could not truncate spilled state deltas: " + e.getMessage());
+    }
+  }
 
-      committedStateHashes.add(stateHash);
-      int currStateHash;
-      do {
-        if (stateDeltas.isEmpty()) {
-          throw new StateDeltaTrackerException(String.format("Delta was not stored for state hash %d", stateHash));
-        }
-        // as deltas are removed and aggregated into committed count map, reclaim capacity
-        final ByteBuffer currDelta = ByteBuffer.wrap(stateDeltas.remove(0));
-        remainingCapacity += currDelta.capacity();
+  private void writeSpill(final long position, final long value) throws IOException {
+    spillWriteSegment = segmentFor(spillWriteSegment, position - spillStart);
+    spillWriteSegment.buffer().put(segmentIndex(position - spillStart), value);
+  }
 
-        currStateHash = currDelta.getInt();
+  private long readSpill(final long position) throws IOException {
+    spillReadSegment = segmentFor(spillReadSegment, position - spillStart);
+    return spillReadSegment.buffer().get(segmentIndex(position - spillStart));
+  }
 
-        final int numStreams = (currDelta.capacity() - STATE_HASH_BYTES) / BYTES_PER_STREAM;
-        for (int i = 0; i < numStreams; i++) {
-          final short streamIndex = currDelta.getShort();
-          final long recordCount = currDelta.getLong();
+  /**
+   * Each thread maps the segments it works on itself, so neither side ever touches the other's
+   * buffer. Mapping a segment past the end of the file grows the file.
+   */
+  private SpillSegment segmentFor(final SpillSegment current, final long offset) throws IOException {
+    final long segment = offset / SPILL_SEGMENT_LONGS;
+    if (current != null && current.segment() == segment) {
+      return current;
+    }
+    final long segmentBytes = (long) SPILL_SEGMENT_LONGS * Long.BYTES;
+    return new SpillSegment(segment, getSpillChannel().map(MapMode.READ_WRITE, segment * segmentBytes, segmentBytes).asLongBuffer());
+  }
 
-          // aggregate delta into committed count map
-          final long committedRecordCount = streamToCommittedRecords.getOrDefault(streamIndex, 0L);
-          streamToCommittedRecords.put(streamIndex, committedRecordCount + recordCount);
+  /**
+   * The spill file is only created the first time the ring buffer overflows. It is unlinked right
+   * away so that it disappears with the process even though the tracker is never explicitly closed.
+   */
+  private FileChannel getSpillChannel() throws IOException {
+    if (spillChannel == null) {
+      synchronized (this) {
+        if (spillChannel == null) {
+          final Path spillFile = Files.createTempFile(spillDirectory, "state-deltas", ".bin");
+          spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+          try {
+            Files.delete(spillFile);
+          } catch (final IOException e) {
+            spillFile.toFile().deleteOnExit();
+          }
         }
-      } while (currStateHash != stateHash); // repeat until each delta up to the committed state is aggregated
+      }
     }
+    return spillChannel;
   }
 
-  public Map<Short, Long> getStreamToCommittedRecords() {
-    return streamToCommittedRecords;
+  private int ringIndex(final long position) {
+    return (int) (position % ring.length);
+  }
+
+  private static int segmentIndex(final long offset) {
+    return (int) (offset % SPILL_SEGMENT_LONGS);
   }
 
+  private static long packHeader(final int stateHash, final int numStreams) {
+    return ((long) stateHash << 32) | (numStreams & 0xFFFFFFFFL);
+  }
+
+  private static int unpackStateHash(final long header) {
+    return (int) (header >>> 32);
+  }
+
+  private static int unpackStreamCount(final long header) {
+    return (int) header;
+  }
+
+  private static long packStreamCount(final short streamIndex, final long recordCount) {
+    Preconditions.checkArgument(recordCount >= 0 && recordCount <= MAX_RECORD_COUNT, "Record count %s out of range", recordCount);
+    return ((long) (streamIndex & 0xFFFF) << STREAM_INDEX_SHIFT) | recordCount;
+  }
+
+  private record SpillSegment(long segment, LongBuffer buffer) {}
+
   /**
    * Thrown when the StateDeltaTracker encounters an issue that prevents it from reliably computing
    * committed record deltas.
@@ -61,7 +61,9 @@ public class OrchestratorConstants {
           EnvConfigs.STATE_STORAGE_S3_ACCESS_KEY,
           EnvConfigs.STATE_STORAGE_S3_SECRET_ACCESS_KEY,
           EnvConfigs.STATE_STORAGE_S3_REGION,
-          EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE))
+          EnvVariableFeatureFlags.USE_STREAM_CAPABLE_STATE,
+          EnvVariableFeatureFlags.USE_PROTOCOL_ENVELOPE_VALIDATION,
+          EnvVariableFeatureFlags.USE_PIPELINED_REPLICATION))
       .build();
 
   public static final String INIT_FILE_ENV_MAP = "envMap.json";
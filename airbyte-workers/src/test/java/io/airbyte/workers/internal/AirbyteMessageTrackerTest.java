@@ -137,6 +137,31 @@ class AirbyteMessageTrackerTest {
     assertEquals(expected, messageTracker.getStreamToEmittedBytes());
   }
 
+  @Test
+  public void testRunningCountsAcrossManyStreams() throws Exception {
+    final int numStreams = 40;
+    final AirbyteMessage s1 = AirbyteMessageUtils.createStateMessage(1);
+    final AirbyteMessage s2 = AirbyteMessageUtils.createStateMessage(2);
+
+    final Map<Short, Long> expectedRunningCounts = new HashMap<>();
+    final Map<String, Long> expectedEmittedRecords = new HashMap<>();
+    for (short i = 0; i < numStreams; i++) {
+      messageTracker.acceptFromSource(AirbyteMessageUtils.createRecordMessage("stream_" + i, 1));
+      expectedRunningCounts.put(i, 1L);
+      expectedEmittedRecords.put("stream_" + i, 1L);
+    }
+    messageTracker.acceptFromSource(s1);
+    Mockito.verify(mStateDeltaTracker).addState(Mockito.anyInt(), Mockito.eq(expectedRunningCounts));
+
+    messageTracker.acceptFromSource(AirbyteMessageUtils.createRecordMessage("stream_7", 2));
+    messageTracker.acceptFromSource(s2);
+    Mockito.verify(mStateDeltaTracker).addState(Mockito.anyInt(), Mockito.eq(Map.of((short) 7, 1L)));
+
+    expectedEmittedRecords.put("stream_7", 2L);
+    assertEquals(expectedEmittedRecords, messageTracker.getStreamToEmittedRecords());
+    assertEquals(numStreams + 1, messageTracker.getTotalRecordsEmitted());
+  }
+
   @Test
   public void testGetCommittedRecordsByStream() {
     final AirbyteMessage r1 = AirbyteMessageUtils.createRecordMessage(STREAM_1, 1);
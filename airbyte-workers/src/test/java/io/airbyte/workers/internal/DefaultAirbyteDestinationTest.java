@@ -184,6 +184,25 @@ class DefaultAirbyteDestinationTest {
     });
   }
 
+  @Test
+  public void testAcceptForwardsRawLine() throws Exception {
+    final AirbyteDestination destination = new DefaultAirbyteDestination(workerConfigs, integrationLauncher, streamFactory);
+    destination.start(DESTINATION_CONFIG, jobRoot);
+
+    final String rawLine = "{\"type\": \"RECORD\", \"record\": {\"stream\": \"user_preferences\", \"data\": {}, \"emitted_at\": 1}}";
+    final AirbyteMessage recordMessage = new RawLineAirbyteMessage()
+        .withRawLine(rawLine)
+        .withType(AirbyteMessage.Type.RECORD)
+        .withRecord(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue").getRecord());
+    destination.accept(recordMessage);
+    destination.accept(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue"));
+    destination.notifyEndOfInput();
+
+    final String expected = rawLine + System.lineSeparator()
+        + Jsons.serialize(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "blue")) + System.lineSeparator();
+    assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+  }
+
   @Test
   public void testCloseNotifiesLifecycle() throws Exception {
     final AirbyteDestination destination = new DefaultAirbyteDestination(workerConfigs, integrationLauncher);
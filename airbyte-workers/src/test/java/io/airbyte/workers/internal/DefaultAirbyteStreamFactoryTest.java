@@ -5,6 +5,7 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -23,6 +24,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -104,6 +106,79 @@ class DefaultAirbyteStreamFactoryTest {
     verifyNoMoreInteractions(logger);
   }
 
+  @Test
+  public void testValidWithEnvelopeValidation() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStreamWithEnvelopeValidation(Jsons.serialize(record1));
+
+    assertEquals(Collections.singletonList(record1), messageStream.collect(Collectors.toList()));
+    verifyNoInteractions(protocolPredicate);
+    verifyNoInteractions(logger);
+  }
+
+  @Test
+  public void testEnvelopeValidationRetainsRecordLine() {
+    final String line = Jsons.serialize(AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green"));
+
+    final List<AirbyteMessage> messages = stringToMessageStreamWithEnvelopeValidation(line).collect(Collectors.toList());
+
+    assertEquals(1, messages.size());
+    assertEquals(line, RawLineAirbyteMessage.rawLineOf(messages.get(0)));
+  }
+
+  @Test
+  public void testEnvelopeValidationDoesNotRetainLineWithTrailingCharacters() {
+    final AirbyteMessage record1 = AirbyteMessageUtils.createRecordMessage(STREAM_NAME, FIELD_NAME, "green");
+
+    when(protocolPredicate.test(any())).thenReturn(true);
+
+    final List<AirbyteMessage> messages = stringToMessageStreamWithEnvelopeValidation(Jsons.serialize(record1) + " trailing")
+        .collect(Collectors.toList());
+
+    assertEquals(Collections.singletonList(record1), messages);
+    assertNull(RawLineAirbyteMessage.rawLineOf(messages.get(0)));
+  }
+
+  @Test
+  public void testEnvelopeValidationFallsBackToProtocolValidation() {
+    final String invalidRecord = "{ \"type\": \"RECORD\"}";
+
+    when(protocolPredicate.test(Jsons.deserialize(invalidRecord))).thenReturn(false);
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStreamWithEnvelopeValidation(invalidRecord);
+
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    verify(protocolPredicate).test(Jsons.deserialize(invalidRecord));
+    verify(logger).error(anyString(), anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  public void testEnvelopeValidationRejectsNullRecordData() {
+    final String invalidRecord = "{\"type\": \"RECORD\", \"record\": {\"stream\": \"users\", \"data\": null, \"emitted_at\": 1}}";
+
+    when(protocolPredicate.test(Jsons.deserialize(invalidRecord))).thenReturn(false);
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStreamWithEnvelopeValidation(invalidRecord);
+
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    verify(protocolPredicate).test(Jsons.deserialize(invalidRecord));
+    verify(logger).error(anyString(), anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
+  @Test
+  public void testEnvelopeValidationLoggingLine() {
+    final String invalidRecord = "invalid line";
+
+    final Stream<AirbyteMessage> messageStream = stringToMessageStreamWithEnvelopeValidation(invalidRecord);
+
+    assertEquals(Collections.emptyList(), messageStream.collect(Collectors.toList()));
+    verify(logger).info(anyString());
+    verifyNoMoreInteractions(logger);
+  }
+
   @Test
   @Disabled
   public void testMissingNewLineBetweenValidRecords() {
@@ -125,4 +200,10 @@ class DefaultAirbyteStreamFactoryTest {
     return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder()).create(bufferedReader);
   }
 
+  private Stream<AirbyteMessage> stringToMessageStreamWithEnvelopeValidation(final String inputString) {
+    final InputStream inputStream = new ByteArrayInputStream(inputString.getBytes(StandardCharsets.UTF_8));
+    final BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    return new DefaultAirbyteStreamFactory(protocolPredicate, logger, new Builder(), true).create(bufferedReader);
+  }
+
 }
@@ -5,6 +5,7 @@
 package io.airbyte.workers.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
@@ -201,4 +202,11 @@ class NamespacingMapperTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  void testSourceNamespaceWithoutPrefixDoesNotCopyRecord() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.SOURCE, null, null);
+
+    assertSame(RECORD_MESSAGE, mapper.mapMessage(RECORD_MESSAGE));
+  }
+
 }
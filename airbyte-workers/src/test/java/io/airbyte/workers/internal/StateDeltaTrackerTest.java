@@ -8,6 +8,7 @@ import io.airbyte.workers.internal.StateDeltaTracker.StateDeltaTrackerException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,8 +34,8 @@ public class StateDeltaTrackerTest {
   private static final long STATE_3_STREAM_3_COUNT = 33L;
   private static final long STATE_3_STREAM_4_COUNT = 34L;
 
-  // enough capacity for above 3 states, which are each 24 bytes (8 byte hash + two 10 byte stream
-  // counts
+  // enough capacity for above 3 states, which are each 24 bytes (8 byte header + two 8 byte stream
+  // counts)
   private static final long INITIAL_DELTA_MEMORY_CAPACITY = 72L;
 
   private StateDeltaTracker stateDeltaTracker;
@@ -60,22 +61,105 @@ public class StateDeltaTrackerTest {
   }
 
   @Test
-  public void testAddState_throwsExceptionWhenCapacityExceeded() {
-    Assertions.assertThrows(StateDeltaTrackerException.class, () -> stateDeltaTracker.addState(4, Collections.singletonMap((short) 444, 44L)));
-    Assertions.assertTrue(stateDeltaTracker.capacityExceeded);
+  public void testAddState_spillsWhenCapacityExceeded() throws Exception {
+    stateDeltaTracker.addState(4, Collections.singletonMap((short) 444, 44L));
+    Assertions.assertTrue(stateDeltaTracker.isSpilling());
+    Assertions.assertEquals(4, stateDeltaTracker.getUncommittedStateCount());
+
+    stateDeltaTracker.commitStateHash(4);
+
+    final Map<Short, Long> expected = new HashMap<>();
+    expected.put(STREAM_INDEX_1, STATE_1_STREAM_1_COUNT + STATE_2_STREAM_1_COUNT);
+    expected.put(STREAM_INDEX_2, STATE_1_STREAM_2_COUNT);
+    expected.put(STREAM_INDEX_3, STATE_2_STREAM_3_COUNT + STATE_3_STREAM_3_COUNT);
+    expected.put(STREAM_INDEX_4, STATE_3_STREAM_4_COUNT);
+    expected.put((short) 444, 44L);
+    Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
+    Assertions.assertEquals(0, stateDeltaTracker.getUncommittedStateCount());
   }
 
   @Test
-  public void testCommitStateHash_throwsExceptionWhenStateHashConflict() throws Exception {
-    stateDeltaTracker.commitStateHash(STATE_1_HASH);
-    stateDeltaTracker.commitStateHash(STATE_2_HASH);
+  public void testAddState_returnsToMemoryOnceSpillIsCommitted() throws Exception {
+    stateDeltaTracker.addState(4, Collections.singletonMap((short) 444, 44L));
+    Assertions.assertTrue(stateDeltaTracker.isSpilling());
 
-    Assertions.assertThrows(StateDeltaTrackerException.class, () -> stateDeltaTracker.commitStateHash(STATE_1_HASH));
+    // the ring buffer has room again, but the spilled state is not committed yet
+    stateDeltaTracker.commitStateHash(STATE_3_HASH);
+    stateDeltaTracker.addState(5, Collections.singletonMap((short) 555, 55L));
+    Assertions.assertTrue(stateDeltaTracker.isSpilling());
+
+    stateDeltaTracker.commitStateHash(5);
+    stateDeltaTracker.addState(6, Collections.singletonMap((short) 666, 66L));
+    Assertions.assertFalse(stateDeltaTracker.isSpilling());
+
+    stateDeltaTracker.commitStateHash(6);
+    Assertions.assertEquals(44L, stateDeltaTracker.getStreamToCommittedRecords().get((short) 444));
+    Assertions.assertEquals(55L, stateDeltaTracker.getStreamToCommittedRecords().get((short) 555));
+    Assertions.assertEquals(66L, stateDeltaTracker.getStreamToCommittedRecords().get((short) 666));
+  }
+
+  @Test
+  public void testCommittedCountsStayAccurateForLongSyncs() throws Exception {
+    final int numStates = 500_000;
+    final StateDeltaTracker tracker = new StateDeltaTracker(INITIAL_DELTA_MEMORY_CAPACITY);
+    final AtomicInteger addedStates = new AtomicInteger(0);
+
+    final Thread producer = new Thread(() -> {
+      try {
+        for (int i = 1; i <= numStates; i++) {
+          tracker.addState(i, Map.of((short) 0, 1L, (short) (1 + i % 7), 2L));
+          addedStates.set(i);
+        }
+      } catch (final StateDeltaTrackerException e) {
+        throw new RuntimeException(e);
+      }
+    });
+    producer.start();
+
+    // commit every 1000th state while the producer is still adding, so deltas both spill and wrap
+    // around the ring buffer
+    for (int i = 1000; i <= numStates; i += 1000) {
+      while (addedStates.get() < i) {
+        Thread.onSpinWait();
+      }
+      tracker.commitStateHash(i);
+    }
+    producer.join();
+
+    Assertions.assertEquals(numStates, tracker.getStreamToCommittedRecords().get((short) 0));
+    Assertions.assertEquals(3L * numStates, tracker.getStreamToCommittedRecords().values().stream().reduce(0L, Long::sum));
+    Assertions.assertEquals(0, tracker.getUncommittedStateCount());
   }
 
   @Test
-  public void testCommitStateHash_throwsExceptionIfCapacityExceededEarlier() {
-    stateDeltaTracker.capacityExceeded = true;
+  public void testAddState_truncatesSpillFileOnceSpillIsCommitted() throws Exception {
+    stateDeltaTracker.addState(4, Collections.singletonMap((short) 444, 44L));
+    Assertions.assertTrue(stateDeltaTracker.getSpillFileSize() > 0);
+
+    stateDeltaTracker.commitStateHash(4);
+    stateDeltaTracker.addState(5, Collections.singletonMap((short) 555, 55L));
+    Assertions.assertFalse(stateDeltaTracker.isSpilling());
+    Assertions.assertEquals(0, stateDeltaTracker.getSpillFileSize());
+
+    // fill the ring buffer up again so that the next deltas are spilled to the start of the truncated
+    // file
+    stateDeltaTracker.addState(6, Collections.singletonMap((short) 666, 66L));
+    stateDeltaTracker.addState(7, Map.of((short) 777, 77L, (short) 778, 78L, (short) 779, 79L));
+    stateDeltaTracker.addState(8, Collections.singletonMap((short) 888, 88L));
+    Assertions.assertTrue(stateDeltaTracker.isSpilling());
+
+    stateDeltaTracker.commitStateHash(8);
+    Assertions.assertEquals(77L, stateDeltaTracker.getStreamToCommittedRecords().get((short) 777));
+    Assertions.assertEquals(88L, stateDeltaTracker.getStreamToCommittedRecords().get((short) 888));
+    Assertions.assertEquals(0, stateDeltaTracker.getUncommittedStateCount());
+  }
+
+  @Test
+  public void testCommitStateHash_throwsExceptionWhenStateHashAlreadyCommitted() throws Exception {
+    stateDeltaTracker.commitStateHash(STATE_1_HASH);
+    stateDeltaTracker.commitStateHash(STATE_2_HASH);
+
+    // the delta of state 1 was already aggregated, so committing it again runs out of deltas
     Assertions.assertThrows(StateDeltaTrackerException.class, () -> stateDeltaTracker.commitStateHash(STATE_1_HASH));
   }
 
@@ -89,13 +173,13 @@ public class StateDeltaTrackerTest {
     // before anything is committed, returned map should be empty and deltas should contain three states
     final Map<Short, Long> expected = new HashMap<>();
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
-    Assertions.assertEquals(3, stateDeltaTracker.stateDeltas.size());
+    Assertions.assertEquals(3, stateDeltaTracker.getUncommittedStateCount());
 
     stateDeltaTracker.commitStateHash(STATE_1_HASH);
     expected.put(STREAM_INDEX_1, STATE_1_STREAM_1_COUNT);
     expected.put(STREAM_INDEX_2, STATE_1_STREAM_2_COUNT);
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
-    Assertions.assertEquals(2, stateDeltaTracker.stateDeltas.size());
+    Assertions.assertEquals(2, stateDeltaTracker.getUncommittedStateCount());
     expected.clear();
 
     stateDeltaTracker.commitStateHash(STATE_2_HASH);
@@ -103,7 +187,7 @@ public class StateDeltaTrackerTest {
     expected.put(STREAM_INDEX_2, STATE_1_STREAM_2_COUNT);
     expected.put(STREAM_INDEX_3, STATE_2_STREAM_3_COUNT);
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
-    Assertions.assertEquals(1, stateDeltaTracker.stateDeltas.size());
+    Assertions.assertEquals(1, stateDeltaTracker.getUncommittedStateCount());
     expected.clear();
 
     stateDeltaTracker.commitStateHash(STATE_3_HASH);
@@ -113,9 +197,9 @@ public class StateDeltaTrackerTest {
     expected.put(STREAM_INDEX_4, STATE_3_STREAM_4_COUNT);
     Assertions.assertEquals(expected, stateDeltaTracker.getStreamToCommittedRecords());
 
-    // since all states are committed, capacity should be freed and the delta queue should be empty
-    Assertions.assertEquals(INITIAL_DELTA_MEMORY_CAPACITY, stateDeltaTracker.remainingCapacity);
-    Assertions.assertEquals(0, stateDeltaTracker.stateDeltas.size());
+    // since all states are committed, nothing should be left to commit
+    Assertions.assertEquals(0, stateDeltaTracker.getUncommittedStateCount());
+    Assertions.assertFalse(stateDeltaTracker.isSpilling());
   }
 
 }